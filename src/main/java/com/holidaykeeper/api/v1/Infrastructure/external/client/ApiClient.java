@@ -2,9 +2,21 @@ package com.holidaykeeper.api.v1.Infrastructure.external.client;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
 import java.util.List;
 
 public interface ApiClient {
   List<GetCountryResponse> getCountries();
   List<GetHolidayResponse> getHolidays(int year, String countryCode);
+
+  /**
+   * 특정 국가와 연도의 공휴일을 일괄 저장용 행으로 조회합니다.
+   *
+   * <p>기본 구현은 {@link #getHolidays(int, String)} 결과를 변환하며,
+   * 구현체는 응답 본문을 직접 행으로 디코딩하도록 재정의할 수 있습니다.
+   */
+  default List<HolidayRow> getHolidayRows(int year, String countryCode) {
+    List<GetHolidayResponse> holidays = getHolidays(year, countryCode);
+    return holidays == null ? List.of() : holidays.stream().map(HolidayRow::from).toList();
+  }
 }
@@ -0,0 +1,153 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 응답 디스크 캐시
+ *
+ * <p>요청 경로마다 응답 본문과 검증자({@code ETag}, {@code Last-Modified})를 하나의 파일로 보관합니다.
+ * 보관된 검증자로 조건부 요청을 보내 변경이 없으면(304) 본문을 다시 내려받지 않고,
+ * 오프라인 모드에서는 네트워크 없이 디스크에 보관된 응답만으로 동작할 수 있습니다.
+ *
+ * <p><strong>파일 형식:</strong> {@code [ETag(UTF)][Last-Modified(UTF)][본문 길이(int)][본문]}
+ *
+ * <p>임시 파일에 쓴 뒤 이동하므로, 쓰는 도중 중단되어도 기존 항목이 손상되지 않습니다.
+ * 읽을 수 없는 항목은 삭제하고 캐시 미스로 처리합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class HttpResponseDiskCache {
+
+  private static final String SUFFIX = ".cache";
+
+  private final Path directory;
+  private final boolean enabled;
+
+  public HttpResponseDiskCache(
+      @Value("${app.api.cache.dir}") String directory,
+      @Value("${app.api.cache.enabled}") boolean enabled
+  ) {
+    this.directory = Path.of(directory);
+    this.enabled = enabled;
+  }
+
+  /**
+   * 요청 경로의 캐시된 응답을 조회합니다.
+   *
+   * @param path 요청 경로 (예: /PublicHolidays/2025/KR)
+   * @return 캐시된 응답 (없거나 읽을 수 없으면 Optional.empty())
+   */
+  public Optional<CachedResponse> get(String path) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    Path file = fileOf(path);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+      String eTag = in.readUTF();
+      String lastModified = in.readUTF();
+      byte[] body = new byte[in.readInt()];
+      in.readFully(body);
+      return Optional.of(new CachedResponse(body, emptyToNull(eTag), emptyToNull(lastModified)));
+    } catch (IOException | RuntimeException e) {
+      log.warn("손상된 API 응답 캐시를 삭제합니다. ( path: {} )", path, e);
+      deleteQuietly(file);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 요청 경로의 응답을 저장합니다. 저장에 실패해도 예외를 전파하지 않습니다.
+   *
+   * @param path 요청 경로
+   * @param body 응답 본문
+   * @param eTag ETag 헤더 (nullable)
+   * @param lastModified Last-Modified 헤더 (nullable)
+   */
+  public void put(String path, byte[] body, String eTag, String lastModified) {
+    if (!enabled) {
+      return;
+    }
+
+    Path file = fileOf(path);
+    Path temp = null;
+    try {
+      Files.createDirectories(directory);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 128);
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeUTF(eTag == null ? "" : eTag);
+        out.writeUTF(lastModified == null ? "" : lastModified);
+        out.writeInt(body.length);
+        out.write(body);
+      }
+      temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      Files.write(temp, bytes.toByteArray());
+      move(temp, file);
+    } catch (IOException e) {
+      log.warn("API 응답 캐시 저장에 실패했습니다. ( path: {} )", path, e);
+      if (temp != null) {
+        deleteQuietly(temp);
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  private Path fileOf(String path) {
+    String name = path.replaceAll("^/+", "").replaceAll("[^A-Za-z0-9._-]", "_");
+    return directory.resolve(name + SUFFIX);
+  }
+
+  private void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ignored) {
+      // 다음 저장 시 덮어씁니다.
+    }
+  }
+
+  private static String emptyToNull(String value) {
+    return value.isEmpty() ? null : value;
+  }
+
+  /**
+   * 캐시된 응답
+   *
+   * @param body 응답 본문
+   * @param eTag ETag 헤더 (nullable)
+   * @param lastModified Last-Modified 헤더 (nullable)
+   */
+  public record CachedResponse(byte[] body, String eTag, String lastModified) {
+
+    public boolean hasValidator() {
+      return eTag != null || lastModified != null;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD(Additive Increase / Multiplicative Decrease) 방식의 적응형 동시 요청 수 제한기
+ *
+ * <p>외부 API의 상태에 따라 동시에 보낼 수 있는 요청 수(limit)를 조절합니다.
+ * <ul>
+ *   <li>지연 시간이 임계값 이내인 성공 응답: limit을 {@code 1 / limit}만큼 증가 (limit개 응답마다 약 1 증가)</li>
+ *   <li>지연 시간 초과, 429·5xx 응답, 연결 실패: limit에 감소 비율을 곱하여 감소</li>
+ * </ul>
+ *
+ * <p>동시에 실패한 요청들로 limit이 한꺼번에 최소값까지 떨어지지 않도록,
+ * 감소는 지연 시간 임계값 동안 한 번만 적용합니다.
+ *
+ * @since 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double decreaseRatio;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition available = lock.newCondition();
+
+  private double limit;
+  private int inFlight;
+  private long lastDecreaseNanos;
+
+  public AdaptiveConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      long latencyThresholdMillis,
+      double decreaseRatio
+  ) {
+    if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException("0 < minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+    }
+    if (decreaseRatio <= 0 || decreaseRatio >= 1) {
+      throw new IllegalArgumentException("decreaseRatio는 0과 1 사이여야 합니다.");
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+    this.decreaseRatio = decreaseRatio;
+    this.lastDecreaseNanos = System.nanoTime() - latencyThresholdNanos;
+  }
+
+  /**
+   * 요청 슬롯을 획득하며, 진행 중인 요청 수가 limit에 도달했으면 슬롯이 반환될 때까지 대기합니다.
+   *
+   * @throws IllegalStateException 대기 중 인터럽트가 발생한 경우
+   */
+  public void acquire() {
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        available.await();
+      }
+      inFlight++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("동시 요청 제한 대기 중 인터럽트가 발생했습니다.", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 성공한 요청의 슬롯을 반환하고, 지연 시간에 따라 limit을 조정합니다.
+   *
+   * @param latencyNanos 요청 지연 시간 (ns)
+   */
+  public void onSuccess(long latencyNanos) {
+    release(latencyNanos > latencyThresholdNanos ? Outcome.OVERLOAD : Outcome.SUCCESS);
+  }
+
+  /**
+   * 과부하(429·5xx 응답, 연결 실패)로 실패한 요청의 슬롯을 반환하고 limit을 감소시킵니다.
+   */
+  public void onOverload() {
+    release(Outcome.OVERLOAD);
+  }
+
+  /**
+   * 외부 API 상태와 무관하게 실패한 요청(4xx 등)의 슬롯을 limit 조정 없이 반환합니다.
+   */
+  public void onIgnore() {
+    release(Outcome.IGNORE);
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(Outcome outcome) {
+    lock.lock();
+    try {
+      inFlight--;
+      if (outcome == Outcome.SUCCESS) {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      } else if (outcome == Outcome.OVERLOAD) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos >= latencyThresholdNanos) {
+          limit = Math.max(minLimit, limit * decreaseRatio);
+          lastDecreaseNanos = now;
+        }
+      }
+      available.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private enum Outcome {
+    SUCCESS, OVERLOAD, IGNORE
+  }
+}
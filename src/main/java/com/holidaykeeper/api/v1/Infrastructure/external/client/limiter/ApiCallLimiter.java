@@ -0,0 +1,94 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 외부 API 호출 제한기
+ *
+ * <p>모든 외부 API 호출은 다음 두 단계를 거친 뒤 실행됩니다.
+ * <ol>
+ *   <li>{@link TokenBucket}: 초당 요청 수 제한</li>
+ *   <li>{@link AdaptiveConcurrencyLimiter}: 지연 시간과 429·5xx 응답에 따라 조절되는 동시 요청 수 제한</li>
+ * </ol>
+ *
+ * <p>외부 API가 느려지거나 요청을 거절하기 시작하면 동시 요청 수를 줄이고,
+ * 정상 응답이 이어지면 다시 늘려 지속 가능한 최대 처리량을 유지합니다.
+ * 동시 요청 수는 호출하는 작업의 동시 실행 수와 같은 {@code app.api.max_concurrency}를 넘지 않습니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ApiCallLimiter {
+
+  private final TokenBucket tokenBucket;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+  public ApiCallLimiter(
+      @Value("${app.api.limiter.rate_per_second}") double ratePerSecond,
+      @Value("${app.api.limiter.burst}") int burst,
+      @Value("${app.api.limiter.initial_concurrency}") int initialConcurrency,
+      @Value("${app.api.limiter.min_concurrency}") int minConcurrency,
+      @Value("${app.api.max_concurrency}") int maxConcurrency,
+      @Value("${app.api.limiter.latency_threshold_millis}") long latencyThresholdMillis,
+      @Value("${app.api.limiter.decrease_ratio}") double decreaseRatio
+  ) {
+    this.tokenBucket = new TokenBucket(ratePerSecond, burst);
+    this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+        initialConcurrency, minConcurrency, maxConcurrency, latencyThresholdMillis, decreaseRatio);
+  }
+
+  /**
+   * 속도와 동시 요청 수 제한을 적용하여 외부 API를 호출합니다.
+   *
+   * <p>호출이 어떻게 끝나든(Error 포함) 획득한 동시 요청 슬롯을 반환합니다.
+   *
+   * @param call 외부 API 호출
+   * @return 호출 결과
+   */
+  public <T> T execute(Supplier<T> call) {
+    tokenBucket.acquire();
+    concurrencyLimiter.acquire();
+
+    long start = System.nanoTime();
+    boolean released = false;
+    try {
+      T result = call.get();
+      released = true;
+      concurrencyLimiter.onSuccess(System.nanoTime() - start);
+      return result;
+    } catch (RestClientResponseException e) {
+      released = true;
+      if (isOverloaded(e)) {
+        concurrencyLimiter.onOverload();
+        log.debug("외부 API 과부하 응답 (status: {}, 동시 요청 제한: {})", e.getStatusCode().value(), concurrencyLimiter.getLimit());
+      } else {
+        concurrencyLimiter.onIgnore();
+      }
+      throw e;
+    } catch (RuntimeException e) {
+      // 연결 실패, 타임아웃 등
+      released = true;
+      concurrencyLimiter.onOverload();
+      throw e;
+    } finally {
+      // Error 등 위에서 처리하지 않은 실패도 슬롯을 반환하여, 이후 호출이 영구히 대기하지 않도록 합니다.
+      if (!released) {
+        concurrencyLimiter.onIgnore();
+      }
+    }
+  }
+
+  public int getConcurrencyLimit() {
+    return concurrencyLimiter.getLimit();
+  }
+
+  private boolean isOverloaded(RestClientResponseException e) {
+    return e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value() || e.getStatusCode().is5xxServerError();
+  }
+}
@@ -0,0 +1,61 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 기반 요청 속도 제한기
+ *
+ * <p>초당 {@code permitsPerSecond}개의 토큰이 채워지며, 최대 {@code burst}개까지 쌓일 수 있습니다.
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드를 대기시킵니다.
+ *
+ * <p>토큰을 먼저 예약한 뒤 잠금 밖에서 대기하므로, 대기 중인 스레드가 다른 스레드의 예약을 막지 않으며
+ * 요청 순서대로 토큰이 배분됩니다.
+ *
+ * @since 1.0
+ */
+public class TokenBucket {
+
+  private final double permitsPerNano;
+  private final double capacity;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다.");
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.capacity = burst;
+    this.tokens = burst;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰 하나를 획득하며, 토큰이 없으면 채워질 때까지 대기합니다.
+   *
+   * @throws IllegalStateException 대기 중 인터럽트가 발생한 경우
+   */
+  public void acquire() {
+    long waitNanos = reserve();
+    if (waitNanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("요청 속도 제한 대기 중 인터럽트가 발생했습니다.", e);
+    }
+  }
+
+  private synchronized long reserve() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+    lastRefillNanos = now;
+
+    // 토큰이 부족하면 음수(예약된 부족분)가 되며, 부족분이 채워질 때까지 대기합니다.
+    tokens -= 1;
+    return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+  }
+}
@@ -0,0 +1,133 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.nagerdate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code /PublicHolidays} 응답 본문을 토큰 단위로 읽어 {@link HolidayRow}로 변환하는 디코더
+ *
+ * <p>{@code GetHolidayResponse} 객체 그래프를 만들지 않고 본문을 한 번만 순회하며,
+ * 지역·타입 배열은 토큰을 그대로 복사하여 JSON 문자열로 보관하고 타입 비트마스크도 함께 계산합니다.
+ * 복사된 JSON은 {@code JsonUtil#toJson}과 같은 압축 형식이므로 기존 저장 데이터와 그대로 비교할 수 있습니다.
+ */
+final class HolidayRowDecoder {
+
+  private static final String NULL_JSON = "null";
+
+  private HolidayRowDecoder() {
+  }
+
+  /**
+   * 응답 본문의 공휴일 배열을 변환합니다.
+   *
+   * @param factory JSON 파서 팩토리
+   * @param body 응답 본문
+   * @return 응답 순서대로의 공휴일 행 목록 (본문이 비어 있거나 null이면 빈 목록)
+   * @throws IOException 본문이 올바른 JSON 배열이 아니거나, 배열에 객체가 아닌 요소 또는 배열 뒤에 다른 값이 있는 경우
+   */
+  static List<HolidayRow> decode(JsonFactory factory, byte[] body) throws IOException {
+    List<HolidayRow> rows = new ArrayList<>();
+    if (body.length == 0) {
+      return rows;
+    }
+
+    try (JsonParser parser = factory.createParser(body)) {
+      JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.VALUE_NULL) {
+        return rows;
+      }
+      if (token != JsonToken.START_ARRAY) {
+        throw new IOException("공휴일 응답이 배열이 아닙니다. ( token: %s )".formatted(token));
+      }
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token != JsonToken.START_OBJECT) {
+          throw new IOException("공휴일 배열에 객체가 아닌 요소가 있습니다. ( token: %s )".formatted(token));
+        }
+        rows.add(readRow(factory, parser));
+      }
+      if ((token = parser.nextToken()) != null) {
+        throw new IOException("공휴일 배열 뒤에 읽지 않은 값이 있습니다. ( token: %s )".formatted(token));
+      }
+    }
+    return rows;
+  }
+
+  private static HolidayRow readRow(JsonFactory factory, JsonParser parser) throws IOException {
+    LocalDate date = null;
+    String localName = null;
+    String name = null;
+    String countryCode = null;
+    Boolean fixed = null;
+    Boolean global = null;
+    String countiesJson = NULL_JSON;
+    Integer launchYear = null;
+    String typesJson = NULL_JSON;
+    int[] typesMask = {0};
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      boolean isNull = value == JsonToken.VALUE_NULL;
+
+      switch (field) {
+        case "date" -> date = isNull ? null : LocalDate.parse(parser.getText());
+        case "localName" -> localName = isNull ? null : parser.getText();
+        case "name" -> name = isNull ? null : parser.getText();
+        case "countryCode" -> countryCode = isNull ? null : parser.getText();
+        case "fixed" -> fixed = isNull ? null : parser.getBooleanValue();
+        case "global" -> global = isNull ? null : parser.getBooleanValue();
+        case "counties" -> countiesJson = copyStringArray(factory, parser, county -> { });
+        case "launchYear" -> launchYear = isNull ? null : parser.getIntValue();
+        case "types" -> typesJson = copyStringArray(factory, parser,
+            type -> typesMask[0] |= HolidayType.from(type).map(HolidayType::mask).orElse(0));
+        default -> parser.skipChildren();
+      }
+    }
+    return new HolidayRow(date, localName, name, countryCode, fixed, global, countiesJson, launchYear, typesJson, typesMask[0]);
+  }
+
+  /**
+   * 현재 위치의 문자열 배열을 압축 JSON 문자열로 복사합니다.
+   *
+   * @param onValue 배열 요소마다 호출되는 콜백
+   * @return 배열 JSON (값이 null이면 "null")
+   */
+  private static String copyStringArray(JsonFactory factory, JsonParser parser, Consumer<String> onValue) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return NULL_JSON;
+    }
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new IOException("배열이 아닌 값입니다. ( field: %s )".formatted(parser.currentName()));
+    }
+
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = factory.createGenerator(writer)) {
+      generator.writeStartArray();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+          generator.writeNull();
+          continue;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+          throw new IOException("문자열 배열에 문자열이 아닌 요소가 있습니다. ( field: %s, token: %s )"
+              .formatted(parser.currentName(), parser.currentToken()));
+        }
+        String value = parser.getText();
+        generator.writeString(value);
+        onValue.accept(value);
+      }
+      generator.writeEndArray();
+    }
+    return writer.toString();
+  }
+}
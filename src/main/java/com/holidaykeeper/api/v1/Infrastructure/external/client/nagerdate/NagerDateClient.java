@@ -1,11 +1,25 @@
 package com.holidaykeeper.api.v1.Infrastructure.external.client.nagerdate;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.cache.HttpResponseDiskCache;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.cache.HttpResponseDiskCache.CachedResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.limiter.ApiCallLimiter;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.common.exception.NonRetryableException;
+import java.io.IOException;
 import java.util.List;
-import org.springframework.core.ParameterizedTypeReference;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -23,25 +37,51 @@ import org.springframework.web.client.RestClient;
  *   <li>Rate Limit: 문서 참조</li>
  * </ul>
  *
+ * <p>모든 호출은 {@link ApiCallLimiter}를 거쳐 초당 요청 수와 동시 요청 수가 제한됩니다.
+ *
+ * <p><strong>응답 캐시:</strong>
+ * 응답은 {@link HttpResponseDiskCache}에 검증자({@code ETag}, {@code Last-Modified})와 함께 보관되며,
+ * 이후 같은 요청은 {@code If-None-Match}, {@code If-Modified-Since} 조건부 요청으로 보내
+ * 304 응답이면 디스크의 본문을 재사용합니다. 오프라인 모드({@code app.api.cache.offline})에서는
+ * 외부 API를 호출하지 않고 디스크에 보관된 응답만 사용합니다.
+ *
  * <p><strong>주요 기능:</strong>
  * <ul>
  *   <li>전 세계 지원 국가 목록 조회</li>
  *   <li>특정 국가와 연도의 공휴일 정보 조회</li>
+ *   <li>일괄 저장용 공휴일 행 조회 (응답 본문을 토큰 단위로 직접 디코딩)</li>
  * </ul>
  *
  * @see ApiClient
  * @since 1.0
  */
+@Slf4j
 @Component
 public class NagerDateClient implements ApiClient {
 
   private static final String BASE_URL = "https://date.nager.at/api/v3";
+  private static final DefaultResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+
   private final RestClient restClient;
+  private final ApiCallLimiter apiCallLimiter;
+  private final HttpResponseDiskCache responseCache;
+  private final ObjectMapper objectMapper;
+  private final boolean offline;
 
-  public NagerDateClient() {
-    this.restClient = RestClient.builder()
+  public NagerDateClient(
+      RestClient.Builder restClientBuilder,
+      ApiCallLimiter apiCallLimiter,
+      HttpResponseDiskCache responseCache,
+      ObjectMapper objectMapper,
+      @Value("${app.api.cache.offline}") boolean offline
+  ) {
+    this.restClient = restClientBuilder
         .baseUrl(BASE_URL)
         .build();
+    this.apiCallLimiter = apiCallLimiter;
+    this.responseCache = responseCache;
+    this.objectMapper = objectMapper;
+    this.offline = offline;
   }
 
   /**
@@ -56,12 +96,7 @@ public class NagerDateClient implements ApiClient {
    */
   @Override
   public List<GetCountryResponse> getCountries() {
-    return restClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path("/AvailableCountries")
-            .build())
-        .retrieve()
-        .body(new ParameterizedTypeReference<>() {});
+    return fetch("/AvailableCountries", new TypeReference<List<GetCountryResponse>>() {});
   }
 
   /**
@@ -89,11 +124,109 @@ public class NagerDateClient implements ApiClient {
    */
   @Override
   public List<GetHolidayResponse> getHolidays(int year, String countryCode) {
+    return fetch(holidaysPath(year, countryCode), new TypeReference<List<GetHolidayResponse>>() {});
+  }
+
+  /**
+   * 특정 국가의 특정 연도 공휴일을 일괄 저장용 행으로 조회합니다.
+   *
+   * <p>응답 본문을 {@link HolidayRowDecoder}로 토큰 단위로 읽어,
+   * {@link GetHolidayResponse} 목록을 만들거나 지역·타입 목록을 JSON으로 다시 인코딩하지 않습니다.
+   *
+   * @param year 조회할 연도
+   * @param countryCode 국가 코드
+   * @return 응답 순서대로의 공휴일 행 목록
+   * @throws org.springframework.web.client.RestClientException API 호출 실패 시
+   */
+  @Override
+  public List<HolidayRow> getHolidayRows(int year, String countryCode) {
+    String path = holidaysPath(year, countryCode);
+    try {
+      return HolidayRowDecoder.decode(objectMapper.getFactory(), fetchBody(path));
+    } catch (IOException e) {
+      throw new IllegalStateException("외부 API 응답을 해석할 수 없습니다. ( path: %s )".formatted(path), e);
+    }
+  }
+
+  private String holidaysPath(int year, String countryCode) {
+    return "/PublicHolidays/%d/%s".formatted(year, countryCode);
+  }
+
+  private <T> T fetch(String path, TypeReference<T> type) {
+    return decode(path, fetchBody(path), type);
+  }
+
+  /**
+   * 응답 캐시를 거쳐 요청 경로의 응답 본문을 조회합니다.
+   *
+   * <p>304 응답을 받았는데 재사용할 캐시 본문이 없으면, 검증자 없이 {@code Cache-Control: no-cache}로 한 번 더 요청합니다.
+   *
+   * @throws NonRetryableException 오프라인 모드에서 캐시된 응답이 없는 경우 (다시 시도해도 외부 API를 호출하지 않으므로 재시도하지 않음)
+   * @throws IllegalStateException 다시 요청해도 본문 없이 304로 응답한 경우
+   */
+  private byte[] fetchBody(String path) {
+    Optional<CachedResponse> cached = responseCache.get(path);
+    if (offline) {
+      return cached
+          .orElseThrow(() -> new NonRetryableException("오프라인 모드에서 캐시된 응답이 없습니다. ( path: %s )".formatted(path)))
+          .body();
+    }
+    return apiCallLimiter.execute(() -> request(path, cached.filter(CachedResponse::hasValidator), false)
+        .or(() -> {
+          log.warn("재사용할 캐시 본문 없이 304 응답을 받아 검증자 없이 다시 조회합니다. ( path: {} )", path);
+          return request(path, Optional.empty(), true);
+        })
+        .orElseThrow(() -> new IllegalStateException("외부 API가 본문 없이 304로 응답했습니다. ( path: %s )".formatted(path))));
+  }
+
+  /**
+   * 외부 API를 호출합니다.
+   *
+   * @param cached 조건부 요청에 사용할 캐시된 응답
+   * @param noCache true면 중간 캐시를 거치지 않도록 {@code Cache-Control: no-cache}를 보냄
+   * @return 응답 본문 (304 응답인데 재사용할 캐시 본문이 없으면 Optional.empty())
+   */
+  private Optional<byte[]> request(String path, Optional<CachedResponse> cached, boolean noCache) {
     return restClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path("/PublicHolidays/{year}/{countryCode}")
-            .build(year, countryCode))
-        .retrieve()
-        .body(new ParameterizedTypeReference<>() {});
+        .uri(path)
+        .headers(headers -> {
+          cached.ifPresent(response -> {
+            if (response.eTag() != null) {
+              headers.setIfNoneMatch(response.eTag());
+            }
+            if (response.lastModified() != null) {
+              headers.set(HttpHeaders.IF_MODIFIED_SINCE, response.lastModified());
+            }
+          });
+          if (noCache) {
+            headers.setCacheControl(CacheControl.noCache());
+          }
+        })
+        .exchange((request, response) -> {
+          if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug("외부 API 응답 변경 없음, 캐시 사용 ( path: {} )", path);
+            return cached.map(CachedResponse::body);
+          }
+          if (!response.getStatusCode().is2xxSuccessful()) {
+            ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+          }
+
+          byte[] body = response.getBody().readAllBytes();
+          responseCache.put(path, body, response.getHeaders().getETag(),
+              response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+          return Optional.of(body);
+        });
+  }
+
+  private <T> T decode(String path, byte[] body, TypeReference<T> type) {
+    if (body.length == 0) {
+      // 본문이 없는 응답(204 등)은 기존과 같이 null로 처리합니다.
+      return null;
+    }
+    try {
+      return objectMapper.readValue(body, type);
+    } catch (IOException e) {
+      throw new IllegalStateException("외부 API 응답을 해석할 수 없습니다. ( path: %s )".formatted(path), e);
+    }
   }
 }
@@ -0,0 +1,43 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.response;
+
+import com.holidaykeeper.api.v1.application.util.JsonUtil;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.time.LocalDate;
+
+/**
+ * 저장용으로 평탄화한 외부 API 공휴일 한 건
+ *
+ * <p>지역·타입 목록을 리스트 대신 데이터베이스에 저장되는 JSON 문자열 그대로 보관하고,
+ * 타입 비트마스크도 미리 계산해 두므로 일괄 저장 시 행마다 다시 인코딩하지 않습니다.
+ *
+ * @param countiesJson 지역 코드 목록 JSON (목록이 없으면 "null")
+ * @param typesJson 공휴일 타입 목록 JSON (목록이 없으면 "null")
+ * @param typesMask 공휴일 타입 비트마스크
+ */
+public record HolidayRow(
+    LocalDate date,
+    String localName,
+    String name,
+    String countryCode,
+    Boolean fixed,
+    Boolean global,
+    String countiesJson,
+    Integer launchYear,
+    String typesJson,
+    int typesMask
+) {
+  public static HolidayRow from(GetHolidayResponse holiday) {
+    return new HolidayRow(
+        holiday.date(),
+        holiday.localName(),
+        holiday.name(),
+        holiday.countryCode(),
+        holiday.fixed(),
+        holiday.global(),
+        JsonUtil.toJson(holiday.counties()),
+        holiday.launchYear(),
+        JsonUtil.toJson(holiday.types()),
+        HolidayType.toMask(holiday.types())
+    );
+  }
+}
@@ -0,0 +1,100 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.country;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 국가 코드 → 국가 ID 변환기
+ *
+ * <p>공휴일 일괄 저장 시 행마다 국가 ID를 서브쿼리로 조회하지 않도록,
+ * 국가 코드별 국가 ID를 불변 맵으로 메모리에 보관합니다.
+ *
+ * <p><strong>갱신:</strong>
+ * <ul>
+ *   <li>국가 일괄 저장({@link CountryJdbcRepository#bulkInsert}) 이후 데이터베이스에서 다시 읽습니다.</li>
+ *   <li>맵에 없는 국가 코드를 만나면 한 번 다시 읽고, 그래도 없으면 예외를 발생시킵니다.</li>
+ *   <li>다시 읽은 트랜잭션이 롤백되면 커밋되지 않은 ID가 남지 않도록 맵을 비웁니다.</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CountryIdResolver {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 갱신 시 통째로 교체되는 불변 맵
+  private volatile Map<String, UUID> countryIds = Map.of();
+
+  /**
+   * 여러 국가 코드의 국가 ID를 한 번에 조회합니다.
+   *
+   * <p>맵에 없는 국가 코드가 있으면 데이터베이스에서 한 번만 다시 읽습니다.
+   *
+   * @param countryCodes 국가 코드 목록
+   * @return 국가 코드별 국가 ID
+   * @throws IllegalArgumentException 저장되지 않은 국가 코드가 포함된 경우
+   */
+  public Map<String, UUID> resolveAll(Collection<String> countryCodes) {
+    Set<String> codes = new LinkedHashSet<>(countryCodes);
+    Map<String, UUID> snapshot = countryIds;
+    if (!snapshot.keySet().containsAll(codes)) {
+      reload();
+      snapshot = countryIds;
+    }
+
+    Map<String, UUID> resolved = new HashMap<>(codes.size());
+    for (String code : codes) {
+      UUID countryId = snapshot.get(code);
+      if (countryId == null) {
+        throw new IllegalArgumentException("존재하지 않는 국가 코드입니다. ( countryCode: %s )".formatted(code));
+      }
+      resolved.put(code, countryId);
+    }
+    return resolved;
+  }
+
+  /**
+   * 데이터베이스에서 국가 코드별 국가 ID를 다시 읽습니다.
+   *
+   * @return 다시 읽은 국가 코드별 국가 ID
+   */
+  public Map<String, UUID> reload() {
+    Map<String, UUID> loaded = new HashMap<>();
+    jdbcTemplate.query("SELECT country_code, country_id FROM country",
+        resultSet -> {
+          loaded.put(resultSet.getString("country_code"), resultSet.getObject("country_id", UUID.class));
+        });
+    countryIds = Map.copyOf(loaded);
+    invalidateOnRollback();
+    return countryIds;
+  }
+
+  public void invalidate() {
+    countryIds = Map.of();
+  }
+
+  private void invalidateOnRollback() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          invalidate();
+        }
+      }
+    });
+  }
+}
@@ -1,8 +1,10 @@
 package com.holidaykeeper.api.v1.Infrastructure.respoitory.country;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.domain.common.UuidV7;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Repository;
 public class CountryJdbcRepositoryImpl implements CountryJdbcRepository {
 
   private final JdbcTemplate jdbcTemplate;
+  private final CountryIdResolver countryIdResolver;
 
   @Value("${app.batch.size}")
   private int batchSize;
@@ -42,19 +45,23 @@ public class CountryJdbcRepositoryImpl implements CountryJdbcRepository {
     """;
 
     LocalDateTime now = LocalDateTime.now();
+    // 이미 저장된 국가는 기존 ID를 유지해야 재적재 시 공휴일의 외래 키가 끊어지지 않습니다.
+    Map<String, UUID> existingIds = countryIdResolver.reload();
 
     for (int i = 0; i < countries.size(); i += batchSize) {
       int end = Math.min(i + batchSize, countries.size());
       List<GetCountryResponse> batch = countries.subList(i, end);
-      execute(query, batch, now);
+      execute(query, batch, existingIds, now);
     }
 
+    countryIdResolver.reload();
   }
 
-  private void execute(String query, List<GetCountryResponse> batch, LocalDateTime now) {
+  private void execute(String query, List<GetCountryResponse> batch, Map<String, UUID> existingIds, LocalDateTime now) {
     jdbcTemplate.batchUpdate(query, batch, batch.size(),
         (statement, country) -> {
-          statement.setObject(1, UUID.randomUUID());
+          UUID countryId = existingIds.get(country.countryCode());
+          statement.setObject(1, countryId == null ? UuidV7.generate() : countryId);
           statement.setString(2, country.countryCode());
           statement.setString(3, country.name());
           statement.setObject(4, now);
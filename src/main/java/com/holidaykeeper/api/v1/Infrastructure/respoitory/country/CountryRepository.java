@@ -5,4 +5,5 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CountryRepository extends JpaRepository<Country, UUID>, CountryJdbcRepository{
+  boolean existsByCode(String code);
 }
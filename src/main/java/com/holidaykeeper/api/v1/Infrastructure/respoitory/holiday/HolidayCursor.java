@@ -0,0 +1,47 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
+
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 커서 기반 페이지네이션의 탐색 위치 (마지막으로 조회한 공휴일의 날짜와 ID)
+ *
+ * <p>클라이언트에는 Base64(URL-safe)로 인코딩된 불투명한 문자열로 전달되며,
+ * 다음 페이지 조회 시 {@code (date, holiday_id)} 기준의 seek 조건으로 사용됩니다.
+ *
+ * @param date 마지막으로 조회한 공휴일 날짜
+ * @param id 마지막으로 조회한 공휴일 ID
+ * @since 1.0
+ */
+public record HolidayCursor(LocalDate date, UUID id) {
+
+  private static final String DELIMITER = "|";
+
+  public String encode() {
+    String raw = date + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 인코딩된 커서 문자열을 해석합니다.
+   *
+   * @param cursor 인코딩된 커서 문자열
+   * @return 탐색 위치
+   * @throws InvalidRequestException 커서 형식이 올바르지 않은 경우
+   */
+  public static HolidayCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiterIndex = raw.indexOf(DELIMITER);
+      return new HolidayCursor(
+          LocalDate.parse(raw.substring(0, delimiterIndex)),
+          UUID.fromString(raw.substring(delimiterIndex + 1))
+      );
+    } catch (RuntimeException e) {
+      throw new InvalidRequestException("유효하지 않은 커서입니다: " + cursor, e);
+    }
+  }
+}
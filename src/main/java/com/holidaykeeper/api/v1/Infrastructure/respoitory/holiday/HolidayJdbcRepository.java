@@ -1,12 +1,15 @@
 package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
 import com.holidaykeeper.api.v1.domain.Holiday;
 import java.util.List;
 import java.util.Map;
 
 public interface HolidayJdbcRepository {
   void bulkInsert(List<GetHolidayResponse> holidays);
+  void bulkInsertRows(List<HolidayRow> holidays);
   void bulkUpdate(Map<Holiday,GetHolidayResponse> holidays);
   void bulkDelete(List<Holiday> holidays);
+  List<HolidayRow> findAllRows();
 }
@@ -1,10 +1,15 @@
 package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryIdResolver;
 import com.holidaykeeper.api.v1.application.util.JsonUtil;
 import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import com.holidaykeeper.api.v1.domain.common.UuidV7;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +27,7 @@ import org.springframework.stereotype.Repository;
 public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
 
   private final JdbcTemplate jdbcTemplate;
+  private final CountryIdResolver countryIdResolver;
 
   @Value("${app.batch.size}")
   private int batchSize;
@@ -32,12 +38,22 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
       log.warn("holiday 데이터가 존재하지 않습니다.");
       return;
     }
+    bulkInsertRows(holidays.stream().map(HolidayRow::from).toList());
+  }
+
+  @Override
+  public void bulkInsertRows(List<HolidayRow> holidays) {
+    if (holidays == null || holidays.isEmpty()) {
+      log.warn("holiday 데이터가 존재하지 않습니다.");
+      return;
+    }
 
     String query = """
         MERGE INTO holiday (
           holiday_id, 
           country_id, 
           date, 
+          holiday_year,
           local_name, 
           name, 
           fixed, 
@@ -45,23 +61,27 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
           counties_json, 
           launch_year,
           types_json, 
+          types_mask,
           created_at,
           modified_at,
           is_deleted,
           deleted_at
         )
         KEY(country_id, date, name)
-        VALUES (?, (SELECT country_id FROM country WHERE country_code = ?), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
     """;
 
+    // 배치 실행 전에 모든 국가 ID를 확인하여, 없는 국가 코드가 있으면 저장 없이 실패합니다.
+    Map<String, UUID> countryIds = countryIdResolver.resolveAll(
+        holidays.stream().map(HolidayRow::countryCode).toList());
     LocalDateTime now = LocalDateTime.now();
 
     for (int i = 0; i < holidays.size(); i += batchSize) {
       int endIndex = Math.min(i + batchSize, holidays.size());
-      List<GetHolidayResponse> batch = holidays.subList(i, endIndex);
+      List<HolidayRow> batch = holidays.subList(i, endIndex);
 
       jdbcTemplate.batchUpdate(query, batch, batch.size(),
-          (statement, holiday) -> setInsertParameters(statement, holiday, now));
+          (statement, holiday) -> setInsertParameters(statement, holiday, countryIds.get(holiday.countryCode()), now));
     }
   }
 
@@ -76,6 +96,7 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
       UPDATE holiday 
       SET 
         date = ?,
+        holiday_year = ?,
         local_name = ?,
         name = ?,
         fixed = ?,
@@ -83,6 +104,7 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
         counties_json = ?,
         launch_year = ?,
         types_json = ?,
+        types_mask = ?,
         modified_at = ?
       WHERE holiday_id = ?
   """;
@@ -128,23 +150,26 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
 
   private void setInsertParameters(
       PreparedStatement statement,
-      GetHolidayResponse holiday,
+      HolidayRow holiday,
+      UUID countryId,
       LocalDateTime now
   ) throws SQLException {
-    statement.setObject(1, UUID.randomUUID());
-    statement.setString(2, holiday.countryCode());
+    statement.setObject(1, UuidV7.generate());
+    statement.setObject(2, countryId);
     statement.setObject(3, holiday.date());
-    statement.setString(4, holiday.localName());
-    statement.setString(5, holiday.name());
-    statement.setBoolean(6, holiday.fixed());
-    statement.setBoolean(7, holiday.global());
-    statement.setString(8, JsonUtil.toJson(holiday.counties()));
-    statement.setObject(9, holiday.launchYear());
-    statement.setString(10, JsonUtil.toJson(holiday.types()));
-    statement.setObject(11, now);
-    statement.setObject(12, now);
-    statement.setBoolean(13, false);
-    statement.setObject(14, null);
+    statement.setInt(4, holiday.date().getYear());
+    statement.setString(5, holiday.localName());
+    statement.setString(6, holiday.name());
+    statement.setBoolean(7, holiday.fixed());
+    statement.setBoolean(8, holiday.global());
+    statement.setString(9, holiday.countiesJson());
+    statement.setObject(10, holiday.launchYear());
+    statement.setString(11, holiday.typesJson());
+    statement.setInt(12, holiday.typesMask());
+    statement.setObject(13, now);
+    statement.setObject(14, now);
+    statement.setBoolean(15, false);
+    statement.setObject(16, null);
   }
 
   private void setUpdateParameters(
@@ -154,15 +179,17 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
       LocalDateTime now
   ) throws SQLException {
     statement.setObject(1, apiHoliday.date());
-    statement.setString(2, apiHoliday.localName());
-    statement.setString(3, apiHoliday.name());
-    statement.setBoolean(4, apiHoliday.fixed());
-    statement.setBoolean(5, apiHoliday.global());
-    statement.setString(6, JsonUtil.toJson(apiHoliday.counties()));
-    statement.setObject(7, apiHoliday.launchYear());
-    statement.setString(8, JsonUtil.toJson(apiHoliday.types()));
-    statement.setObject(9, now);
-    statement.setObject(10, holiday.getId());
+    statement.setInt(2, apiHoliday.date().getYear());
+    statement.setString(3, apiHoliday.localName());
+    statement.setString(4, apiHoliday.name());
+    statement.setBoolean(5, apiHoliday.fixed());
+    statement.setBoolean(6, apiHoliday.global());
+    statement.setString(7, JsonUtil.toJson(apiHoliday.counties()));
+    statement.setObject(8, apiHoliday.launchYear());
+    statement.setString(9, JsonUtil.toJson(apiHoliday.types()));
+    statement.setInt(10, HolidayType.toMask(apiHoliday.types()));
+    statement.setObject(11, now);
+    statement.setObject(12, holiday.getId());
   }
 
   private void setDeleteParameters(
@@ -175,4 +202,27 @@ public class HolidayJdbcRepositoryImpl implements HolidayJdbcRepository {
     statement.setObject(3, holiday.getId());
   }
 
+  @Override
+  public List<HolidayRow> findAllRows() {
+    String query = """
+        SELECT c.country_code, h.date, h.local_name, h.name, h.fixed, h.global,
+               h.counties_json, h.launch_year, h.types_json, h.types_mask
+        FROM holiday h
+        JOIN country c ON c.country_id = h.country_id
+        WHERE h.is_deleted = FALSE
+    """;
+
+    return jdbcTemplate.query(query,
+        (resultSet, rowNum) -> new HolidayRow(
+            resultSet.getObject("date", LocalDate.class),
+            resultSet.getString("local_name"),
+            resultSet.getString("name"),
+            resultSet.getString("country_code"),
+            resultSet.getObject("fixed", Boolean.class),
+            resultSet.getObject("global", Boolean.class),
+            resultSet.getString("counties_json"),
+            resultSet.getObject("launch_year", Integer.class),
+            resultSet.getString("types_json"),
+            resultSet.getInt("types_mask")));
+  }
 }
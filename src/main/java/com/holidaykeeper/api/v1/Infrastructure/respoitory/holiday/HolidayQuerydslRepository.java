@@ -1,15 +1,30 @@
 package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
 
 import com.holidaykeeper.api.v1.domain.Holiday;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 public interface HolidayQuerydslRepository {
-  Page<Holiday> searchHoliday(
+  List<Holiday> searchHoliday(
       Optional<Integer> year,
       Optional<String> countryCode,
       Optional<String> holidayType,
-      Pageable pageable
+      long offset,
+      int limit,
+      Sort sort
+  );
+  long countHoliday(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType
+  );
+  List<Holiday> searchHolidayByCursor(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType,
+      Optional<HolidayCursor> cursor,
+      Sort.Direction direction,
+      int limit
   );
 }
@@ -1,19 +1,20 @@
 package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
 
 import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidayType;
 import com.holidaykeeper.api.v1.domain.QCountry;
 import com.holidaykeeper.api.v1.domain.QHoliday;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -24,44 +25,117 @@ public class HolidayQuerydslRepositoryImpl implements HolidayQuerydslRepository
   private final QCountry country = QCountry.country;
   private final QHoliday holiday = QHoliday.holiday;
 
-  public final Page<Holiday> searchHoliday(
+  /**
+   * 검색 조건에 해당하는 공휴일을 OFFSET 기준으로 조회합니다.
+   *
+   * <p>전체 개수는 조회하지 않으며, 필요한 경우 {@link #countHoliday}를 별도로 호출합니다.
+   */
+  public final List<Holiday> searchHoliday(
       Optional<Integer> year,
       Optional<String> countryCode,
       Optional<String> holidayType,
-      Pageable pageable
+      long offset,
+      int limit,
+      Sort sort
   ) {
-    BooleanBuilder where = new BooleanBuilder();
-
-    year.ifPresent(y -> where.and(holiday.date.year().eq(y)));
-    countryCode.ifPresent(code -> where.and(country.code.eq(code)));
-    holidayType.ifPresent(type -> where.and(holiday.typesJson.contains("\"" + type + "\"")));
-    where.and(holiday.isDeleted.eq(false));
+    return jpaQueryFactory
+        .selectFrom(holiday)
+        .leftJoin(holiday.country, country).fetchJoin()
+        .where(searchCondition(year, countryCode, holidayType))
+        .offset(offset)
+        .limit(limit)
+        .orderBy(getOrder(sort))
+        .fetch();
+  }
 
-    Long total = jpaQueryFactory
+  /**
+   * 검색 조건에 해당하는 공휴일 개수를 조회합니다.
+   *
+   * <p>국가 코드 조건이 없으면 country 테이블을 조인하지 않습니다.
+   */
+  public final long countHoliday(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType
+  ) {
+    JPAQuery<Long> query = jpaQueryFactory
         .select(holiday.count())
-        .from(holiday)
-        .leftJoin(holiday.country, country)
-        .where(where)
+        .from(holiday);
+
+    if (countryCode.isPresent()) {
+      query.join(holiday.country, country);
+    }
+
+    Long total = query
+        .where(searchCondition(year, countryCode, holidayType))
         .fetchOne();
 
-    List<Holiday> results = jpaQueryFactory
+    return total != null ? total : 0L;
+  }
+
+  /**
+   * {@code (date, holiday_id)} seek 조건으로 커서 이후의 공휴일을 조회합니다.
+   *
+   * <p>OFFSET과 전체 개수 조회 없이, 인덱스 순서대로 커서 다음 위치부터 {@code limit}건만 읽습니다.
+   * 정렬은 날짜를 기준으로 하며, 같은 날짜는 ID로 순서를 고정합니다.
+   */
+  public final List<Holiday> searchHolidayByCursor(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType,
+      Optional<HolidayCursor> cursor,
+      Sort.Direction direction,
+      int limit
+  ) {
+    BooleanBuilder where = searchCondition(year, countryCode, holidayType);
+    cursor.ifPresent(c -> where.and(direction.isAscending()
+        ? holiday.date.gt(c.date()).or(holiday.date.eq(c.date()).and(holiday.id.gt(c.id())))
+        : holiday.date.lt(c.date()).or(holiday.date.eq(c.date()).and(holiday.id.lt(c.id())))));
+
+    return jpaQueryFactory
         .selectFrom(holiday)
         .leftJoin(holiday.country, country).fetchJoin()
         .where(where)
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .orderBy(getOrder(pageable))
+        .orderBy(direction.isAscending()
+            ? new OrderSpecifier[]{holiday.date.asc(), holiday.id.asc()}
+            : new OrderSpecifier[]{holiday.date.desc(), holiday.id.desc()})
+        .limit(limit)
         .fetch();
+  }
+
+  private BooleanBuilder searchCondition(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType
+  ) {
+    BooleanBuilder where = new BooleanBuilder();
+
+    year.ifPresent(y -> where.and(holiday.year.eq(y)));
+    countryCode.ifPresent(code -> where.and(country.code.eq(code)));
+    holidayType.ifPresent(type -> where.and(hasHolidayType(type)));
+    where.and(holiday.isDeleted.eq(false));
+
+    return where;
+  }
 
-    return new PageImpl<>(results, pageable, total != null ? total : 0L);
+  /**
+   * 공휴일 타입 비트마스크에 해당 타입의 비트가 포함되어 있는지 검사하는 조건을 생성합니다.
+   *
+   * <p>알 수 없는 타입 문자열은 마스크가 0이 되어 어떤 공휴일과도 일치하지 않습니다.
+   * H2는 BITAND의 바인딩 파라미터 타입을 추론하지 못하므로, 마스크는 정수 리터럴로 전달합니다.
+   */
+  private BooleanExpression hasHolidayType(String type) {
+    int mask = HolidayType.from(type).map(HolidayType::mask).orElse(0);
+    return Expressions.numberTemplate(Integer.class, "function('bitand', {0}, " + mask + ")", holiday.typesMask)
+        .ne(0);
   }
 
-  private OrderSpecifier<?> getOrder(Pageable pageable) {
-    if (pageable.getSort().isEmpty()) {
+  private OrderSpecifier<?> getOrder(Sort sort) {
+    if (sort.isEmpty()) {
       return holiday.date.desc();
     }
 
-    Sort.Order order = pageable.getSort().iterator().next();
+    Sort.Order order = sort.iterator().next();
     PathBuilder<Holiday> pathBuilder = new PathBuilder<>(
         holiday.getType(),
         holiday.getMetadata()
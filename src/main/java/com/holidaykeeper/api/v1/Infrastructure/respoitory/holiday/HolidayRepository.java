@@ -12,7 +12,7 @@ public interface HolidayRepository extends JpaRepository<Holiday, UUID>, Holiday
     FROM Holiday h
     JOIN FETCH h.country c
     WHERE c.code = :countryCode
-      AND YEAR(h.date) = :year
+      AND h.year = :year
       AND h.isDeleted = FALSE
   """)
   List<Holiday> findByCountryCodeAndYear(String countryCode, int year);
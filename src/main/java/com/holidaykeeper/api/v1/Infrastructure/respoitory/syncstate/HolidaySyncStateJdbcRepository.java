@@ -0,0 +1,11 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate;
+
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.util.List;
+import java.util.Optional;
+
+public interface HolidaySyncStateJdbcRepository {
+  Optional<String> findContentHash(String countryCode, int year);
+  List<HolidaySyncState> findSyncStates(int fromYear, int toYear);
+  void bulkUpsert(List<HolidaySyncState> states);
+}
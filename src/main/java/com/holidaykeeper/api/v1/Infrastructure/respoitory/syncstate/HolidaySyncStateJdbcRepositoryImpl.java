@@ -0,0 +1,99 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate;
+
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import com.holidaykeeper.api.v1.domain.common.UuidV7;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 동기화 상태 JDBC 저장소
+ *
+ * <p>영속성 컨텍스트에 남아 있는 이전 값을 읽지 않도록, 조회도 JDBC로 직접 수행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidaySyncStateJdbcRepositoryImpl implements HolidaySyncStateJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${app.batch.size}")
+  private int batchSize;
+
+  @Override
+  public Optional<String> findContentHash(String countryCode, int year) {
+    String query = """
+        SELECT content_hash
+        FROM holiday_sync_state
+        WHERE country_code = ? AND sync_year = ?
+    """;
+
+    return jdbcTemplate.queryForList(query, String.class, countryCode, year)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<HolidaySyncState> findSyncStates(int fromYear, int toYear) {
+    String query = """
+        SELECT country_code, sync_year, content_hash, synced_at
+        FROM holiday_sync_state
+        WHERE sync_year BETWEEN ? AND ?
+    """;
+
+    return jdbcTemplate.query(query,
+        (resultSet, rowNum) -> HolidaySyncState.of(
+            resultSet.getString("country_code"),
+            resultSet.getInt("sync_year"),
+            resultSet.getString("content_hash"),
+            resultSet.getObject("synced_at", LocalDateTime.class)),
+        fromYear, toYear);
+  }
+
+  @Override
+  public void bulkUpsert(List<HolidaySyncState> states) {
+    if (states == null || states.isEmpty()) {
+      return;
+    }
+
+    String query = """
+        MERGE INTO holiday_sync_state (
+          holiday_sync_state_id,
+          country_code,
+          sync_year,
+          content_hash,
+          synced_at,
+          created_at,
+          modified_at,
+          is_deleted,
+          deleted_at
+        )
+        KEY(country_code, sync_year)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    LocalDateTime now = LocalDateTime.now();
+
+    for (int i = 0; i < states.size(); i += batchSize) {
+      int endIndex = Math.min(i + batchSize, states.size());
+      List<HolidaySyncState> batch = states.subList(i, endIndex);
+
+      jdbcTemplate.batchUpdate(query, batch, batch.size(),
+          (statement, state) -> {
+            statement.setObject(1, UuidV7.generate());
+            statement.setString(2, state.getCountryCode());
+            statement.setInt(3, state.getYear());
+            statement.setString(4, state.getContentHash());
+            statement.setObject(5, state.getSyncedAt());
+            statement.setObject(6, now);
+            statement.setObject(7, now);
+            statement.setObject(8, false);
+            statement.setObject(9, null);
+          });
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate;
+
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HolidaySyncStateRepository extends JpaRepository<HolidaySyncState, UUID>, HolidaySyncStateJdbcRepository {
+}
@@ -0,0 +1,32 @@
+package com.holidaykeeper.api.v1.Infrastructure.snapshot;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 공휴일 데이터 스냅샷
+ *
+ * @param createdAt 스냅샷 생성 시각
+ * @param countries 국가 목록
+ * @param units 동기화가 완료된 국가·연도별 공휴일
+ */
+public record HolidaySnapshot(Instant createdAt, List<GetCountryResponse> countries, List<Unit> units) {
+
+  public int rowCount() {
+    return units.stream().mapToInt(unit -> unit.rows().size()).sum();
+  }
+
+  /**
+   * 국가·연도별 공휴일
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @param contentHash 외부 API 응답의 내용 해시
+   * @param syncedAt 외부 API 응답을 받은 시각
+   * @param rows 공휴일 행 목록
+   */
+  public record Unit(String countryCode, int year, String contentHash, Instant syncedAt, List<HolidayRow> rows) {
+  }
+}
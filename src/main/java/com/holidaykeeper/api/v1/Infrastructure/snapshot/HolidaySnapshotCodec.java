@@ -0,0 +1,244 @@
+package com.holidaykeeper.api.v1.Infrastructure.snapshot;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 공휴일 스냅샷 바이너리 형식
+ *
+ * <p>반복되는 문자열(국가 코드, 명칭, 지역·타입 JSON)은 사전에 한 번만 기록하고 행에서는 사전 인덱스로 참조하며,
+ * 날짜는 epoch day, 공휴일 타입은 비트마스크 정수로 기록합니다. 모든 정수는 빅 엔디언입니다.
+ *
+ * <pre>
+ * [magic int][version int][createdAt long]
+ * [사전 크기 int] ([바이트 길이 int][UTF-8 바이트])*
+ * [국가 수 int] ([코드 idx][이름 idx])*
+ * [단위 수 int] ([국가 코드 idx][연도 int][해시 idx][syncedAt long][행 수 int]
+ *   ([epoch day int][현지 이름 idx][이름 idx][fixed·global byte][지역 idx][제정 연도 int][타입 idx][타입 마스크 int])*)*
+ * [CRC32 long]
+ * </pre>
+ *
+ * <p>null 문자열은 인덱스 -1, null 제정 연도는 {@link Integer#MIN_VALUE}로 기록합니다.
+ * 마지막 CRC32는 그 앞의 모든 바이트에 대한 체크섬이며, 디코딩할 때 개수·길이 필드는 남은 바이트 수로 검증하여
+ * 손상된 파일이 큰 배열을 할당하게 하지 않습니다.
+ */
+final class HolidaySnapshotCodec {
+
+  static final int MAGIC = 0x484B534E; // "HKSN"
+  static final int VERSION = 3;
+
+  private static final int NULL_INDEX = -1;
+  private static final int NULL_YEAR = Integer.MIN_VALUE;
+  private static final int CHECKSUM_BYTES = Long.BYTES;
+
+  // 항목 하나가 차지하는 최소 바이트 수 (개수 필드 검증용)
+  private static final int DICTIONARY_ENTRY_BYTES = Integer.BYTES;
+  private static final int COUNTRY_BYTES = Integer.BYTES * 2;
+  private static final int UNIT_BYTES = Integer.BYTES * 4 + Long.BYTES;
+  private static final int ROW_BYTES = Integer.BYTES * 7 + Byte.BYTES;
+
+  private HolidaySnapshotCodec() {
+  }
+
+  static void encode(HolidaySnapshot snapshot, DataOutputStream out) throws IOException {
+    CRC32 checksum = new CRC32();
+    DataOutputStream body = new DataOutputStream(new CheckedOutputStream(out, checksum));
+    encodeBody(snapshot, body);
+    body.flush();
+    out.writeLong(checksum.getValue());
+  }
+
+  private static void encodeBody(HolidaySnapshot snapshot, DataOutputStream out) throws IOException {
+    Dictionary dictionary = new Dictionary();
+    snapshot.countries().forEach(country -> {
+      dictionary.add(country.countryCode());
+      dictionary.add(country.name());
+    });
+    for (HolidaySnapshot.Unit unit : snapshot.units()) {
+      dictionary.add(unit.countryCode());
+      dictionary.add(unit.contentHash());
+      for (HolidayRow row : unit.rows()) {
+        dictionary.add(row.localName());
+        dictionary.add(row.name());
+        dictionary.add(row.countiesJson());
+        dictionary.add(row.typesJson());
+      }
+    }
+
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeLong(snapshot.createdAt().toEpochMilli());
+
+    out.writeInt(dictionary.values.size());
+    for (String value : dictionary.values) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    out.writeInt(snapshot.countries().size());
+    for (GetCountryResponse country : snapshot.countries()) {
+      out.writeInt(dictionary.indexOf(country.countryCode()));
+      out.writeInt(dictionary.indexOf(country.name()));
+    }
+
+    out.writeInt(snapshot.units().size());
+    for (HolidaySnapshot.Unit unit : snapshot.units()) {
+      out.writeInt(dictionary.indexOf(unit.countryCode()));
+      out.writeInt(unit.year());
+      out.writeInt(dictionary.indexOf(unit.contentHash()));
+      out.writeLong(unit.syncedAt().toEpochMilli());
+      out.writeInt(unit.rows().size());
+      for (HolidayRow row : unit.rows()) {
+        out.writeInt((int) row.date().toEpochDay());
+        out.writeInt(dictionary.indexOf(row.localName()));
+        out.writeInt(dictionary.indexOf(row.name()));
+        out.writeByte(encodeFlags(row.fixed(), row.global()));
+        out.writeInt(dictionary.indexOf(row.countiesJson()));
+        out.writeInt(row.launchYear() == null ? NULL_YEAR : row.launchYear());
+        out.writeInt(dictionary.indexOf(row.typesJson()));
+        out.writeInt(row.typesMask());
+      }
+    }
+  }
+
+  /**
+   * 스냅샷을 디코딩합니다.
+   *
+   * @param buffer 스냅샷 전체를 담은 버퍼 (메모리 매핑된 파일 등)
+   * @return 스냅샷
+   * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+   */
+  static HolidaySnapshot decode(ByteBuffer buffer) {
+    try {
+      verifyChecksum(buffer);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IllegalArgumentException("지원하지 않는 스냅샷 형식입니다.");
+      }
+      Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+
+      String[] dictionary = new String[readCount(buffer, DICTIONARY_ENTRY_BYTES)];
+      for (int i = 0; i < dictionary.length; i++) {
+        byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+
+      int countryCount = readCount(buffer, COUNTRY_BYTES);
+      List<GetCountryResponse> countries = new ArrayList<>(countryCount);
+      for (int i = 0; i < countryCount; i++) {
+        countries.add(new GetCountryResponse(lookup(dictionary, buffer.getInt()), lookup(dictionary, buffer.getInt())));
+      }
+
+      int unitCount = readCount(buffer, UNIT_BYTES);
+      List<HolidaySnapshot.Unit> units = new ArrayList<>(unitCount);
+      for (int i = 0; i < unitCount; i++) {
+        String countryCode = lookup(dictionary, buffer.getInt());
+        int year = buffer.getInt();
+        String contentHash = lookup(dictionary, buffer.getInt());
+        Instant syncedAt = Instant.ofEpochMilli(buffer.getLong());
+        int rowCount = readCount(buffer, ROW_BYTES);
+        List<HolidayRow> rows = new ArrayList<>(rowCount);
+        for (int j = 0; j < rowCount; j++) {
+          LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+          String localName = lookup(dictionary, buffer.getInt());
+          String name = lookup(dictionary, buffer.getInt());
+          byte flags = buffer.get();
+          String countiesJson = lookup(dictionary, buffer.getInt());
+          int launchYear = buffer.getInt();
+          String typesJson = lookup(dictionary, buffer.getInt());
+          int typesMask = buffer.getInt();
+          rows.add(new HolidayRow(date, localName, name, countryCode, decodeFlag(flags % 3), decodeFlag(flags / 3),
+              countiesJson, launchYear == NULL_YEAR ? null : launchYear, typesJson, typesMask));
+        }
+        units.add(new HolidaySnapshot.Unit(countryCode, year, contentHash, syncedAt, List.copyOf(rows)));
+      }
+      if (buffer.hasRemaining()) {
+        throw new IllegalArgumentException("손상된 스냅샷입니다. (남은 바이트: " + buffer.remaining() + ")");
+      }
+      return new HolidaySnapshot(createdAt, List.copyOf(countries), List.copyOf(units));
+    } catch (BufferUnderflowException | DateTimeException e) {
+      throw new IllegalArgumentException("손상된 스냅샷입니다.", e);
+    }
+  }
+
+  // 마지막 8바이트의 CRC32를 검증하고, 이후 읽기가 체크섬에 닿지 않도록 버퍼의 끝을 줄입니다.
+  private static void verifyChecksum(ByteBuffer buffer) {
+    if (buffer.remaining() < CHECKSUM_BYTES) {
+      throw new IllegalArgumentException("손상된 스냅샷입니다. (크기: " + buffer.remaining() + ")");
+    }
+    int bodyLimit = buffer.limit() - CHECKSUM_BYTES;
+    long expected = buffer.getLong(bodyLimit);
+    CRC32 checksum = new CRC32();
+    checksum.update(buffer.duplicate().limit(bodyLimit));
+    if (checksum.getValue() != expected) {
+      throw new IllegalArgumentException("스냅샷 체크섬이 일치하지 않습니다.");
+    }
+    buffer.limit(bodyLimit);
+  }
+
+  // 개수·길이 필드를 읽고, 항목마다 최소 minBytes가 필요하다고 보아 남은 바이트로 담을 수 없으면 거부합니다.
+  private static int readCount(ByteBuffer buffer, int minBytes) {
+    int count = buffer.getInt();
+    if (count < 0 || count > buffer.remaining() / minBytes) {
+      throw new IllegalArgumentException("손상된 스냅샷입니다. (개수: " + count + ", 남은 바이트: " + buffer.remaining() + ")");
+    }
+    return count;
+  }
+
+  // fixed·global을 각각 0(null), 1(false), 2(true)로 표현하여 fixed + global * 3으로 기록합니다.
+  private static int encodeFlags(Boolean fixed, Boolean global) {
+    return encodeFlag(fixed) + encodeFlag(global) * 3;
+  }
+
+  private static int encodeFlag(Boolean value) {
+    return value == null ? 0 : value ? 2 : 1;
+  }
+
+  private static Boolean decodeFlag(int value) {
+    return value == 0 ? null : value == 2;
+  }
+
+  private static String lookup(String[] dictionary, int index) {
+    if (index == NULL_INDEX) {
+      return null;
+    }
+    if (index < 0 || index >= dictionary.length) {
+      throw new IllegalArgumentException("손상된 스냅샷입니다. (사전 인덱스: " + index + ")");
+    }
+    return dictionary[index];
+  }
+
+  /**
+   * 등장 순서대로 인덱스를 부여하는 문자열 사전
+   */
+  private static final class Dictionary {
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    void add(String value) {
+      if (value != null && indexes.putIfAbsent(value, values.size()) == null) {
+        values.add(value);
+      }
+    }
+
+    int indexOf(String value) {
+      return value == null ? NULL_INDEX : indexes.get(value);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.holidaykeeper.api.v1.Infrastructure.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 스냅샷 파일 저장소
+ *
+ * <p>스냅샷을 {@link HolidaySnapshotCodec} 형식의 파일 하나로 보관합니다.
+ * 읽을 때는 파일을 메모리에 매핑하여 복사 없이 디코딩하고, 쓸 때는 임시 파일에 쓴 뒤 이동하므로
+ * 쓰는 도중 중단되어도 기존 스냅샷이 손상되지 않습니다. 읽을 수 없는 스냅샷은 삭제하고 없는 것으로 처리합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class HolidaySnapshotStore {
+
+  private final Path file;
+  private final boolean enabled;
+
+  public HolidaySnapshotStore(
+      @Value("${app.snapshot.path}") String file,
+      @Value("${app.snapshot.enabled}") boolean enabled
+  ) {
+    this.file = Path.of(file);
+    this.enabled = enabled;
+  }
+
+  /**
+   * 보관된 스냅샷을 읽습니다.
+   *
+   * @return 스냅샷 (없거나 읽을 수 없으면 Optional.empty())
+   */
+  public Optional<HolidaySnapshot> read() {
+    if (!enabled || !Files.exists(file)) {
+      return Optional.empty();
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return Optional.of(HolidaySnapshotCodec.decode(buffer));
+    } catch (IOException | RuntimeException e) {
+      log.warn("읽을 수 없는 공휴일 스냅샷을 삭제합니다. ( file: {} )", file, e);
+      deleteQuietly(file);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 스냅샷을 저장합니다. 저장에 실패해도 예외를 전파하지 않습니다.
+   *
+   * @param snapshot 저장할 스냅샷
+   */
+  public void write(HolidaySnapshot snapshot) {
+    if (!enabled) {
+      return;
+    }
+
+    Path temp = null;
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        HolidaySnapshotCodec.encode(snapshot, out);
+      }
+      move(temp, file);
+    } catch (IOException e) {
+      log.warn("공휴일 스냅샷 저장에 실패했습니다. ( file: {} )", file, e);
+      if (temp != null) {
+        deleteQuietly(temp);
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  private void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void deleteQuietly(Path target) {
+    try {
+      Files.deleteIfExists(target);
+    } catch (IOException ignored) {
+      // 다음 저장 시 덮어씁니다.
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.holidaykeeper.api.v1.Presentation.cache;
+
+import com.holidaykeeper.api.v1.Presentation.request.SearchHolidayRequest;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.common.cache.CacheStats;
+import com.holidaykeeper.api.v1.common.cache.LocalCache;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 검색 응답 직렬화 결과 캐시
+ *
+ * <p>정규화한 검색 파라미터마다 직렬화가 끝난 응답 본문(JSON 바이트)을 보관하여,
+ * 자주 요청되는 검색은 조회와 Jackson 직렬화 없이 바로 응답합니다.
+ * 기본값을 생략한 요청과 명시한 요청, 대소문자만 다른 정렬 순서는 같은 항목을 사용합니다.
+ *
+ * <p>반복해서 요청되는 오프셋 방식의 첫 페이지만 보관합니다. 커서 방식과 두 번째 이후 페이지는 조건마다 값이 달라
+ * 다시 요청될 가능성이 낮으므로, 보관하지 않고 매번 생성하여 다른 항목을 밀어내지 않도록 합니다.
+ *
+ * <p><strong>무효화:</strong>
+ * {@link HolidayChangedEvent} 수신 시, 변경된 국가·연도를 포함할 수 있는 검색 조건의 응답만 제거합니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class SearchResponseCache {
+
+  private final LocalCache<SearchResponseKey, byte[]> cache;
+
+  public SearchResponseCache(
+      @Value("${app.cache.search_response.max_size}") int maxSize,
+      @Value("${app.cache.search_response.ttl_seconds}") long ttlSeconds
+  ) {
+    this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+  }
+
+  /**
+   * 검색 요청의 직렬화된 응답 본문을 조회하고, 없으면 생성하여 적재합니다.
+   *
+   * <p>보관 대상이 아닌 요청(커서 방식, 두 번째 이후 페이지)은 캐시를 거치지 않고 바로 생성합니다.
+   *
+   * @param request 검색 요청
+   * @param renderer 캐시 미스 시 응답 본문을 생성할 함수
+   * @return 직렬화된 응답 본문
+   */
+  public byte[] get(SearchHolidayRequest request, Supplier<byte[]> renderer) {
+    if (!isCacheable(request)) {
+      return renderer.get();
+    }
+    return cache.get(SearchResponseKey.from(request), key -> renderer.get());
+  }
+
+  private static boolean isCacheable(SearchHolidayRequest request) {
+    return !request.isCursorMode() && request.page().orElse(0) == 0;
+  }
+
+  /**
+   * 공휴일 데이터 변경 이벤트를 수신하여, 트랜잭션 커밋 이후 영향을 받는 검색 응답을 무효화합니다.
+   *
+   * <p>응답 본문은 공휴일·개수 캐시의 데이터로 생성되므로, 해당 캐시들이 먼저 무효화된 뒤에 실행됩니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    cache.invalidateIf(key -> key.covers(event.countryCode(), event.year()));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * 정규화한 첫 페이지 검색 파라미터 (null은 해당 조건이 없음을 의미)
+   */
+  private record SearchResponseKey(
+      Integer year,
+      String countryCode,
+      String holidayType,
+      String sortType,
+      String sortOrder,
+      int size,
+      boolean includeTotal
+  ) {
+    static SearchResponseKey from(SearchHolidayRequest request) {
+      return new SearchResponseKey(
+          request.year().orElse(null),
+          request.countryCode().orElse(null),
+          request.holidayType().orElse(null),
+          request.sortType().orElse("date"),
+          request.sortOrder().orElse("DESC").toUpperCase(Locale.ROOT),
+          request.size().orElse(10),
+          request.includeTotal().orElse(true)
+      );
+    }
+
+    boolean covers(String changedCountryCode, int changedYear) {
+      return (year == null || year == changedYear)
+          && (countryCode == null || Objects.equals(countryCode, changedCountryCode));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.holidaykeeper.api.v1.Presentation.controller;
+
+import com.holidaykeeper.api.v1.Presentation.request.AddBusinessDayRequest;
+import com.holidaykeeper.api.v1.Presentation.request.CountBusinessDayRequest;
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayAddResponse;
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayCountResponse;
+import com.holidaykeeper.api.v1.application.service.BusinessDayUsecase;
+import com.holidaykeeper.api.v1.common.dto.ApiCommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/business-days")
+@Tag(name = "영업일(Business Days)", description = "영업일 계산 API")
+public class BusinessDayController {
+
+  private final BusinessDayUsecase businessDayUsecase;
+
+  @GetMapping("/count")
+  @Operation(summary = "Count Business Days", description = "시작일(포함)부터 종료일(제외)까지의 영업일 수 계산")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
+  })
+  public ResponseEntity<ApiCommonResponse<BusinessDayCountResponse>> countBusinessDays(@ModelAttribute CountBusinessDayRequest request) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ApiCommonResponse.success(
+            businessDayUsecase.countBusinessDays(
+                request.countryCode(),
+                request.startDate(),
+                request.endDate(),
+                request.holidayType()),
+            "계산 성공"
+        ));
+  }
+
+  @GetMapping("/add")
+  @Operation(summary = "Add Business Days", description = "기준일로부터 N 영업일 후(음수이면 전)의 날짜 계산")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
+  })
+  public ResponseEntity<ApiCommonResponse<BusinessDayAddResponse>> addBusinessDays(@ModelAttribute AddBusinessDayRequest request) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ApiCommonResponse.success(
+            businessDayUsecase.addBusinessDays(
+                request.countryCode(),
+                request.date(),
+                request.days(),
+                request.holidayType()),
+            "계산 성공"
+        ));
+  }
+}
@@ -1,26 +1,45 @@
 package com.holidaykeeper.api.v1.Presentation.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeper.api.v1.Presentation.cache.SearchResponseCache;
+import com.holidaykeeper.api.v1.Presentation.request.CheckHolidayRequest;
+import com.holidaykeeper.api.v1.Presentation.request.LookupHolidayRequest;
 import com.holidaykeeper.api.v1.Presentation.request.SearchHolidayRequest;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayCheckResponse;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayLookupResponse;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayRefreshResponse;
 import com.holidaykeeper.api.v1.Presentation.response.HolidayResponse;
+import com.holidaykeeper.api.v1.Presentation.response.SyncJobResponse;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshCoordinator;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
 import com.holidaykeeper.api.v1.application.service.HolidayUsecase;
+import com.holidaykeeper.api.v1.application.service.SyncJobUsecase;
 import com.holidaykeeper.api.v1.common.dto.ApiCommonResponse;
 import com.holidaykeeper.api.v1.common.dto.Pagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,30 +48,72 @@ import org.springframework.web.bind.annotation.RestController;
 public class HolidayController {
 
   private final HolidayUsecase holidayUsecase;
+  private final HolidayRefreshCoordinator holidayRefreshCoordinator;
+  private final SyncJobUsecase syncJobUsecase;
+  private final SearchResponseCache searchResponseCache;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
   @Operation(summary = "Search Holiday", description = "등록되어있는 공휴일 조회")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match와 ETag 일치)"),
       @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
   })
-  public ResponseEntity<ApiCommonResponse<Pagination<HolidayResponse>>> searchHoliday(@ModelAttribute SearchHolidayRequest request) {
+  public ResponseEntity<byte[]> searchHoliday(
+      @ModelAttribute SearchHolidayRequest request,
+      WebRequest webRequest
+  ) {
+    // 조회 범위의 데이터 버전이 바뀌지 않았다면 DB 조회 없이 304 Not Modified로 응답합니다.
+    String eTag = holidayUsecase.getSearchETag(request.year(), request.countryCode());
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    // 직렬화된 응답 본문(ApiCommonResponse<Pagination<HolidayResponse>>)을 캐시하여, 캐시 적중 시 조회와 직렬화 없이 응답합니다.
+    byte[] body = searchResponseCache.get(request, () -> render(
+        ApiCommonResponse.success(search(request), "조회 성공")
+    ));
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+
+  @GetMapping("/check")
+  @Operation(summary = "Check Holiday", description = "특정 국가·날짜의 공휴일 및 영업일 여부 조회")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
+  })
+  public ResponseEntity<ApiCommonResponse<HolidayCheckResponse>> checkHoliday(@ModelAttribute CheckHolidayRequest request) {
     return ResponseEntity.status(HttpStatus.OK)
         .body(ApiCommonResponse.success(
-            holidayUsecase.searchHoliday(
-                request.year(),
+            holidayUsecase.checkHoliday(
                 request.countryCode(),
+                request.date(),
                 request.holidayType(),
-                request.sortType(),
-                request.sortOrder(),
-                request.page(),
-                request.size()),
+                request.county()),
+            "조회 성공"
+        ));
+  }
+
+  @PostMapping("/lookup")
+  @Operation(summary = "Lookup Holidays", description = "여러 (국가 코드, 날짜[, 공휴일 타입]) 조합의 공휴일 정보를 한 번에 조회")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
+  })
+  public ResponseEntity<ApiCommonResponse<List<HolidayLookupResponse>>> lookupHolidays(@RequestBody LookupHolidayRequest request) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ApiCommonResponse.success(
+            holidayUsecase.lookupHolidays(request.items()),
             "조회 성공"
-            ));
+        ));
   }
 
   @PostMapping("/{countryCode}/{year}")
-  @Operation(summary = "Refresh Holiday", description = "특정 연도·국가 데이터를 재호출하여 Upsert(덮어쓰기)")
+  @Operation(summary = "Refresh Holiday", description = "특정 연도·국가 데이터를 재호출하여 Upsert(덮어쓰기), 동시 요청은 하나로 합치고 최근 결과는 재사용")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "성공"),
       @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
@@ -61,13 +122,40 @@ public class HolidayController {
       @Parameter(name = "countryCode", description = "국가 코드", example = "KR"),
       @Parameter(name = "year", description = "대상 연도", example = "2025")
   })
-  public ResponseEntity<ApiCommonResponse> refreshHolidays(
+  public ResponseEntity<ApiCommonResponse<HolidayRefreshResponse>> refreshHolidays(
       @PathVariable String countryCode,
       @PathVariable int year
   ) {
-    holidayUsecase.refreshHolidays(countryCode, year);
+    HolidayRefreshResult result = holidayRefreshCoordinator.refresh(countryCode, year);
     return ResponseEntity.status(HttpStatus.OK)
-        .body(ApiCommonResponse.success(null,"공휴일 재동기화 완료 ( countryCode: %s, year: %d )".formatted(countryCode,year)));
+        .body(ApiCommonResponse.success(HolidayRefreshResponse.from(result),"공휴일 재동기화 완료 ( countryCode: %s, year: %d )".formatted(countryCode,year)));
+  }
+
+  @PostMapping(value = "/{countryCode}/{year}", params = "async=true")
+  @Operation(summary = "Submit Refresh Holiday Job", description = "특정 연도·국가 재동기화를 작업으로 접수하고 바로 202 응답 (GET /api/v1/sync-jobs/{id}로 조회)")
+  @ApiResponses({
+      @ApiResponse(responseCode = "202", description = "비동기 재동기화 작업 접수"),
+      @ApiResponse(responseCode = "4xx", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "503", description = "비동기 재동기화 대기열이 가득 참"),
+  })
+  @Parameters({
+      @Parameter(name = "countryCode", description = "국가 코드", example = "KR"),
+      @Parameter(name = "year", description = "대상 연도", example = "2025"),
+      @Parameter(name = "async", in = ParameterIn.QUERY, required = true, description = "true로 지정하면 작업으로 접수", example = "true")
+  })
+  public ResponseEntity<ApiCommonResponse<SyncJobResponse>> submitRefreshHolidays(
+      @PathVariable String countryCode,
+      @PathVariable int year
+  ) {
+    try {
+      SyncJobResponse job = syncJobUsecase.submitRefresh(countryCode, year);
+      return ResponseEntity.status(HttpStatus.ACCEPTED)
+          .location(URI.create("/api/v1/sync-jobs/" + job.id()))
+          .body(ApiCommonResponse.success(job, "공휴일 재동기화 작업 접수 ( countryCode: %s, year: %d )".formatted(countryCode, year)));
+    } catch (TaskRejectedException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(ApiCommonResponse.failure("재동기화 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."));
+    }
   }
 
   @DeleteMapping("/{countryCode}/{year}")
@@ -88,4 +176,34 @@ public class HolidayController {
     return ResponseEntity.status(HttpStatus.OK)
         .body(ApiCommonResponse.success(null,"공휴일 일괄 삭제 완료 ( countryCode: %s, year: %d )".formatted(countryCode,year)));
   }
+
+  private Pagination<HolidayResponse> search(SearchHolidayRequest request) {
+    if (request.isCursorMode()) {
+      return holidayUsecase.searchHolidayByCursor(
+          request.year(),
+          request.countryCode(),
+          request.holidayType(),
+          request.sortOrder(),
+          request.cursor(),
+          request.size());
+    }
+
+    return holidayUsecase.searchHoliday(
+        request.year(),
+        request.countryCode(),
+        request.holidayType(),
+        request.sortType(),
+        request.sortOrder(),
+        request.page(),
+        request.size(),
+        request.includeTotal());
+  }
+
+  private byte[] render(Object body) {
+    try {
+      return objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("검색 응답 직렬화에 실패했습니다.", e);
+    }
+  }
 }
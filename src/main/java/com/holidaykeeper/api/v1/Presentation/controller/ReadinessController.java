@@ -0,0 +1,40 @@
+package com.holidaykeeper.api.v1.Presentation.controller;
+
+import com.holidaykeeper.api.v1.Presentation.response.ReadinessResponse;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.common.dto.ApiCommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/readiness")
+@Tag(name = "준비 상태(Readiness)", description = "로드 밸런서용 준비 상태 API")
+public class ReadinessController {
+
+  private final HolidayLoadState holidayLoadState;
+
+  @GetMapping
+  @Operation(summary = "Readiness", description = "요청을 받을 수 있으면 200과 적재 상태, 아니면 503과 함께 메시지로 초기 적재 진행률을 반환")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "준비 완료"),
+      @ApiResponse(responseCode = "503", description = "준비 중"),
+  })
+  public ResponseEntity<ApiCommonResponse<ReadinessResponse>> getReadiness() {
+    ReadinessResponse readiness = ReadinessResponse.from(holidayLoadState);
+    if (!readiness.ready()) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(ApiCommonResponse.failure("준비 중 ( phase: %s, loadedUnits: %d, totalUnits: %d )"
+              .formatted(readiness.phase(), readiness.loadedUnits(), readiness.totalUnits())));
+    }
+    return ResponseEntity.ok(ApiCommonResponse.success(readiness, "준비 완료"));
+  }
+}
@@ -0,0 +1,61 @@
+package com.holidaykeeper.api.v1.Presentation.controller;
+
+import com.holidaykeeper.api.v1.Presentation.response.SyncJobResponse;
+import com.holidaykeeper.api.v1.application.service.SyncJobUsecase;
+import com.holidaykeeper.api.v1.common.dto.ApiCommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/sync-jobs")
+@Tag(name = "동기화 작업(Sync Jobs)", description = "공휴일 동기화 작업 조회 API")
+public class SyncJobController {
+
+  private final SyncJobUsecase syncJobUsecase;
+
+  @GetMapping
+  @Operation(summary = "Recent Sync Jobs", description = "최근 공휴일 동기화 작업의 진행률과 국가·연도별 소요 시간, 실패 원인 조회")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+  })
+  @Parameters({
+      @Parameter(name = "limit", description = "조회할 최대 작업 수", example = "10")
+  })
+  public ResponseEntity<ApiCommonResponse<List<SyncJobResponse>>> getRecentJobs(
+      @RequestParam(defaultValue = "10") int limit
+  ) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ApiCommonResponse.success(syncJobUsecase.getRecentJobs(limit), "조회 성공"));
+  }
+
+  @GetMapping("/{id}")
+  @Operation(summary = "Sync Job", description = "동기화 작업(비동기 재동기화 포함)의 상태와 소요 시간, 삽입·변경·삭제된 공휴일 수 조회")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "성공"),
+      @ApiResponse(responseCode = "404", description = "보관된 작업이 아님"),
+  })
+  @Parameters({
+      @Parameter(name = "id", description = "작업 ID")
+  })
+  public ResponseEntity<ApiCommonResponse<SyncJobResponse>> getJob(@PathVariable UUID id) {
+    return syncJobUsecase.getJob(id)
+        .map(job -> ResponseEntity.status(HttpStatus.OK).body(ApiCommonResponse.success(job, "조회 성공")))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiCommonResponse.failure("존재하지 않는 작업입니다. ( id: %s )".formatted(id))));
+  }
+}
@@ -0,0 +1,24 @@
+package com.holidaykeeper.api.v1.Presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Schema(description = "N 영업일 후 날짜 계산 Request")
+public record AddBusinessDayRequest(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "기준일 (영업일 수에 포함하지 않음)", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate date,
+
+    @Schema(description = "더할 영업일 수 (음수이면 이전 영업일)", example = "5")
+    int days,
+
+    @Schema(description = "영업일에서 제외할 공휴일 타입 (지정하지 않으면 모든 타입)", example = "Public")
+    Optional<String> holidayType
+) {
+}
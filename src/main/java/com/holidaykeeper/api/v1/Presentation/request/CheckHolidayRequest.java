@@ -0,0 +1,24 @@
+package com.holidaykeeper.api.v1.Presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Schema(description = "공휴일 여부 확인 Request")
+public record CheckHolidayRequest(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "확인할 날짜", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate date,
+
+    @Schema(description = "공휴일 타입 (지정하지 않으면 모든 타입)", example = "Public")
+    Optional<String> holidayType,
+
+    @Schema(description = "지역 코드 (지정 시 전국 공휴일과 해당 지역 공휴일만 포함)", example = "KR-11")
+    Optional<String> county
+) {
+}
@@ -0,0 +1,25 @@
+package com.holidaykeeper.api.v1.Presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Schema(description = "영업일 수 계산 Request")
+public record CountBusinessDayRequest(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "시작일 (포함)", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate startDate,
+
+    @Schema(description = "종료일 (제외)", example = "2025-02-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate endDate,
+
+    @Schema(description = "영업일에서 제외할 공휴일 타입 (지정하지 않으면 모든 타입)", example = "Public")
+    Optional<String> holidayType
+) {
+}
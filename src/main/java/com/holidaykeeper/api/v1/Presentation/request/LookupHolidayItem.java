@@ -0,0 +1,19 @@
+package com.holidaykeeper.api.v1.Presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Schema(description = "공휴일 일괄 조회 항목")
+public record LookupHolidayItem(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "조회할 날짜", example = "2025-01-01")
+    LocalDate date,
+
+    @Schema(description = "공휴일 타입 (지정하지 않으면 모든 타입)", example = "Public")
+    Optional<String> holidayType
+) {
+}
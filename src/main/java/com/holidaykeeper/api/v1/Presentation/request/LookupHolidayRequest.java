@@ -0,0 +1,12 @@
+package com.holidaykeeper.api.v1.Presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "공휴일 일괄 조회 Request")
+public record LookupHolidayRequest(
+
+    @Schema(description = "조회할 (국가 코드, 날짜[, 공휴일 타입]) 목록")
+    List<LookupHolidayItem> items
+) {
+}
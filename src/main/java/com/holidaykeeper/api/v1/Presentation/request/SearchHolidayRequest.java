@@ -25,6 +25,18 @@ public record SearchHolidayRequest(
     Optional<String> countryCode,
 
     @Schema(description = "공휴일 타입", example = "Public")
-    Optional<String> holidayType
+    Optional<String> holidayType,
+
+    @Schema(description = "전체 개수(total) 포함 여부 (기본값: true). false이면 개수 조회 없이 hasNext만 반환합니다.", example = "false")
+    Optional<Boolean> includeTotal,
+
+    @Schema(description = "페이지네이션 방식 (OFFSET 또는 CURSOR, 기본값: OFFSET). CURSOR는 날짜 기준 정렬만 지원하며 전체 개수를 조회하지 않습니다.", example = "CURSOR")
+    Optional<String> paginationMode,
+
+    @Schema(description = "이전 응답의 nextCursor (지정 시 CURSOR 방식으로 조회)", example = "MjAyNS0wMS0wMXw...")
+    Optional<String> cursor
 ) {
+  public boolean isCursorMode() {
+    return cursor.isPresent() || paginationMode.map("CURSOR"::equalsIgnoreCase).orElse(false);
+  }
 }
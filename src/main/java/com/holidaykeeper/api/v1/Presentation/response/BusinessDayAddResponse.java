@@ -0,0 +1,21 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(description = "N 영업일 후 날짜 계산 Response")
+public record BusinessDayAddResponse(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "기준일", example = "2025-01-01")
+    LocalDate date,
+
+    @Schema(description = "더한 영업일 수", example = "5")
+    int days,
+
+    @Schema(description = "계산된 날짜", example = "2025-01-08")
+    LocalDate result
+) {
+}
@@ -0,0 +1,21 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(description = "영업일 수 계산 Response")
+public record BusinessDayCountResponse(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "시작일 (포함)", example = "2025-01-01")
+    LocalDate startDate,
+
+    @Schema(description = "종료일 (제외)", example = "2025-02-01")
+    LocalDate endDate,
+
+    @Schema(description = "구간 내 영업일 수 (종료일이 시작일보다 앞서면 음수)", example = "19")
+    long businessDays
+) {
+}
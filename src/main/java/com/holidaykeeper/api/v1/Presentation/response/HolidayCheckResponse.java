@@ -0,0 +1,21 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(description = "공휴일 여부 확인 Response")
+public record HolidayCheckResponse(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "확인한 날짜", example = "2025-01-01")
+    LocalDate date,
+
+    @Schema(description = "공휴일 여부", example = "true")
+    boolean holiday,
+
+    @Schema(description = "영업일 여부 (주말과 공휴일 제외)", example = "false")
+    boolean businessDay
+) {
+}
@@ -0,0 +1,22 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "공휴일 일괄 조회 결과 Response")
+public record HolidayLookupResponse(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "조회한 날짜", example = "2025-01-01")
+    LocalDate date,
+
+    @Schema(description = "공휴일 여부", example = "true")
+    boolean holiday,
+
+    @Schema(description = "해당 날짜의 공휴일 목록")
+    List<HolidayResponse> holidays
+) {
+}
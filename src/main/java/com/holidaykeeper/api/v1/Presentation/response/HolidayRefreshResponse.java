@@ -0,0 +1,42 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "공휴일 재동기화 결과 Response")
+public record HolidayRefreshResponse(
+
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "연도", example = "2025")
+    int year,
+
+    @Schema(description = "삽입된 공휴일 수", example = "2")
+    int inserted,
+
+    @Schema(description = "변경된 공휴일 수", example = "1")
+    int updated,
+
+    @Schema(description = "삭제된 공휴일 수", example = "0")
+    int deleted,
+
+    @Schema(description = "API 응답이 마지막 동기화와 같아 비교를 생략했는지 여부", example = "false")
+    boolean unchanged,
+
+    @Schema(description = "재동기화가 끝난 시각 (최근 결과를 재사용한 경우 원래 재동기화 시각)")
+    Instant refreshedAt
+) {
+  public static HolidayRefreshResponse from(HolidayRefreshResult result) {
+    return new HolidayRefreshResponse(
+        result.countryCode(),
+        result.year(),
+        result.inserted(),
+        result.updated(),
+        result.deleted(),
+        result.unchanged(),
+        result.refreshedAt()
+    );
+  }
+}
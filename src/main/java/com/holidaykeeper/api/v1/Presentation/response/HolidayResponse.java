@@ -1,5 +1,6 @@
 package com.holidaykeeper.api.v1.Presentation.response;
 
+import com.holidaykeeper.api.v1.domain.Holiday;
 import com.holidaykeeper.api.v1.domain.HolidayType;
 import java.time.LocalDate;
 import java.util.List;
@@ -29,4 +30,15 @@ public record HolidayResponse(
     @Schema(description = "공휴일 타입 목록", example = "[\"PUBLIC\", \"NATIONAL\"]")
     List<HolidayType> type
 ) {
+  public static HolidayResponse from(Holiday holiday) {
+    return new HolidayResponse(
+        holiday.getCountry().getCode(),
+        holiday.getCountry().getName(),
+        holiday.getDate(),
+        holiday.getLocalName(),
+        holiday.getName(),
+        holiday.getLaunchYear(),
+        HolidayType.fromMask(holiday.getTypesMask())
+    );
+  }
 }
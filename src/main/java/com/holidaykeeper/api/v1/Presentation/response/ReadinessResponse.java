@@ -0,0 +1,43 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import com.holidaykeeper.api.v1.application.load.HolidayLoadPhase;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "준비 상태 Response")
+public record ReadinessResponse(
+
+    @Schema(description = "요청을 받을 수 있는지 여부", example = "true")
+    boolean ready,
+
+    @Schema(description = "초기 적재 단계", example = "LOADING_HOLIDAYS")
+    HolidayLoadPhase phase,
+
+    @Schema(description = "적재할 국가·연도 수", example = "720")
+    int totalUnits,
+
+    @Schema(description = "적재된 국가·연도 수", example = "360")
+    int loadedUnits,
+
+    @Schema(description = "적재 시작 시각")
+    Instant startedAt,
+
+    @Schema(description = "적재 종료 시각")
+    Instant finishedAt,
+
+    @Schema(description = "적재 실패 사유")
+    String error
+) {
+  public static ReadinessResponse from(HolidayLoadState state) {
+    return new ReadinessResponse(
+        state.isReady(),
+        state.getPhase(),
+        state.getTotalUnits(),
+        state.getLoadedUnits().get(),
+        state.getStartedAt(),
+        state.getFinishedAt(),
+        state.getError()
+    );
+  }
+}
@@ -0,0 +1,121 @@
+package com.holidaykeeper.api.v1.Presentation.response;
+
+import com.holidaykeeper.api.v1.application.job.SyncFailureType;
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncJobStatus;
+import com.holidaykeeper.api.v1.application.job.SyncTaskResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "공휴일 동기화 작업 Response")
+public record SyncJobResponse(
+
+    @Schema(description = "작업 ID")
+    UUID id,
+
+    @Schema(description = "작업 이름", example = "YEARLY_HOLIDAY_REFRESH")
+    String name,
+
+    @Schema(description = "작업 상태", example = "SUCCEEDED")
+    SyncJobStatus status,
+
+    @Schema(description = "동기화 대상 연도", example = "[2024, 2025]")
+    List<Integer> years,
+
+    @Schema(description = "작업 생성 시각")
+    Instant createdAt,
+
+    @Schema(description = "작업 시작 시각")
+    Instant startedAt,
+
+    @Schema(description = "작업 종료 시각")
+    Instant finishedAt,
+
+    @Schema(description = "전체 국가·연도 수", example = "240")
+    int totalTasks,
+
+    @Schema(description = "완료된 국가·연도 수", example = "120")
+    int completedTasks,
+
+    @Schema(description = "성공한 국가·연도 수", example = "118")
+    int succeededTasks,
+
+    @Schema(description = "실패한 국가·연도 수", example = "2")
+    int failedTasks,
+
+    @Schema(description = "삽입된 공휴일 수 (완료된 국가·연도 합계)", example = "12")
+    int inserted,
+
+    @Schema(description = "변경된 공휴일 수 (완료된 국가·연도 합계)", example = "3")
+    int updated,
+
+    @Schema(description = "삭제된 공휴일 수 (완료된 국가·연도 합계)", example = "1")
+    int deleted,
+
+    @Schema(description = "작업 실패 사유 (작업 자체가 실패한 경우)")
+    String error,
+
+    @Schema(description = "국가·연도별 동기화 결과 (소요 시간 내림차순)")
+    List<Task> tasks
+) {
+  public static SyncJobResponse from(SyncJob job) {
+    List<SyncTaskResult> taskResults = job.taskResults();
+    return new SyncJobResponse(
+        job.getId(),
+        job.getName(),
+        job.getStatus(),
+        job.getYears(),
+        job.getCreatedAt(),
+        job.getStartedAt(),
+        job.getFinishedAt(),
+        job.getTotalTasks(),
+        job.completedTasks(),
+        job.getSucceededTasks().get(),
+        job.getFailedTasks().get(),
+        taskResults.stream().mapToInt(SyncTaskResult::inserted).sum(),
+        taskResults.stream().mapToInt(SyncTaskResult::updated).sum(),
+        taskResults.stream().mapToInt(SyncTaskResult::deleted).sum(),
+        job.getError(),
+        taskResults.stream()
+            .sorted(Comparator.comparingLong(SyncTaskResult::elapsedMillis).reversed())
+            .map(Task::from)
+            .toList()
+    );
+  }
+
+  @Schema(description = "국가·연도별 동기화 결과")
+  public record Task(
+
+      @Schema(description = "국가 코드", example = "KR")
+      String countryCode,
+
+      @Schema(description = "연도", example = "2025")
+      int year,
+
+      @Schema(description = "소요 시간 (ms, 재시도 포함)", example = "320")
+      long elapsedMillis,
+
+      @Schema(description = "삽입된 공휴일 수", example = "2")
+      int inserted,
+
+      @Schema(description = "변경된 공휴일 수", example = "1")
+      int updated,
+
+      @Schema(description = "삭제된 공휴일 수", example = "0")
+      int deleted,
+
+      @Schema(description = "실패 분류 (성공 시 null)", example = "TRANSIENT")
+      SyncFailureType failureType,
+
+      @Schema(description = "실패 메시지 (성공 시 null)")
+      String message
+  ) {
+    public static Task from(SyncTaskResult result) {
+      return new Task(result.countryCode(), result.year(), result.elapsedMillis(),
+          result.inserted(), result.updated(), result.deleted(), result.failureType(), result.message());
+    }
+  }
+}
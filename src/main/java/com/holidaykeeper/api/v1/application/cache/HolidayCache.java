@@ -0,0 +1,100 @@
+package com.holidaykeeper.api.v1.application.cache;
+
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayResponse;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.common.cache.CacheStats;
+import com.holidaykeeper.api.v1.common.cache.LocalCache;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가·연도 단위 공휴일 Read-through 캐시
+ *
+ * <p>공휴일 데이터는 연 단위로만 변경되므로, (국가 코드, 연도) 조합의 공휴일 목록을
+ * 날짜 오름차순으로 정렬하여 메모리에 보관합니다. 캐시 미스 시에만 데이터베이스를 조회합니다.
+ *
+ * <p><strong>만료 정책:</strong>
+ * <ul>
+ *   <li>최대 항목 수를 초과하면 LRU 방식으로 제거</li>
+ *   <li>적재 후 TTL이 지나면 만료</li>
+ *   <li>{@link HolidayChangedEvent} 수신 시 해당 국가·연도만 커밋 이후 무효화</li>
+ * </ul>
+ *
+ * <p>초기 적재가 진행 중일 때 아직 적재되지 않은 국가·연도에서 캐시 미스가 발생하면,
+ * 데이터베이스를 조회하기 전에 {@link PendingHolidayHydrator}로 해당 국가·연도를 즉시 적재합니다.
+ * 즉시 적재가 실패하면 예외가 전파되어 빈 목록을 캐시하지 않습니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class HolidayCache {
+
+  private static final Comparator<HolidayResponse> DEFAULT_ORDER =
+      Comparator.comparing(HolidayResponse::date).thenComparing(HolidayResponse::name);
+
+  private final HolidayRepository holidayRepository;
+  private final PendingHolidayHydrator pendingHolidayHydrator;
+  private final LocalCache<HolidayCacheKey, List<HolidayResponse>> cache;
+
+  public HolidayCache(
+      HolidayRepository holidayRepository,
+      PendingHolidayHydrator pendingHolidayHydrator,
+      @Value("${app.cache.holiday.max_size}") int maxSize,
+      @Value("${app.cache.holiday.ttl_seconds}") long ttlSeconds
+  ) {
+    this.holidayRepository = holidayRepository;
+    this.pendingHolidayHydrator = pendingHolidayHydrator;
+    this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+  }
+
+  /**
+   * 특정 국가와 연도의 공휴일 목록을 날짜 오름차순으로 조회합니다.
+   *
+   * <p>반환되는 리스트는 불변이며, 캐시에 없는 경우 데이터베이스에서 조회하여 적재합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 날짜 오름차순으로 정렬된 공휴일 응답 리스트
+   */
+  public List<HolidayResponse> getHolidays(String countryCode, int year) {
+    return cache.get(new HolidayCacheKey(countryCode, year), this::load);
+  }
+
+  /**
+   * 공휴일 데이터 변경 이벤트를 수신하여, 트랜잭션 커밋 이후 해당 국가·연도의 캐시를 무효화합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    cache.invalidate(new HolidayCacheKey(event.countryCode(), event.year()));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private List<HolidayResponse> load(HolidayCacheKey key) {
+    pendingHolidayHydrator.hydrateIfPending(key.countryCode(), key.year());
+    return holidayRepository.findByCountryCodeAndYear(key.countryCode(), key.year())
+        .stream()
+        .map(HolidayResponse::from)
+        .sorted(DEFAULT_ORDER)
+        .toList();
+  }
+
+  private record HolidayCacheKey(String countryCode, int year) {
+  }
+}
@@ -0,0 +1,84 @@
+package com.holidaykeeper.api.v1.application.cache;
+
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.common.cache.CacheStats;
+import com.holidaykeeper.api.v1.common.cache.LocalCache;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 조건 조합별 공휴일 전체 개수 캐시
+ *
+ * <p>(연도, 국가 코드, 공휴일 타입) 필터 조합마다 {@code count} 쿼리 결과를 보관하여,
+ * 페이지를 넘길 때마다 반복되는 개수 조회를 생략합니다.
+ *
+ * <p><strong>무효화:</strong>
+ * {@link HolidayChangedEvent} 수신 시, 변경된 국가·연도를 포함할 수 있는 필터 조합만 제거합니다.
+ * 예를 들어 (KR, 2025) 변경 시 연도 또는 국가 조건이 없는 조합도 함께 제거됩니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class HolidayCountCache {
+
+  private final HolidayRepository holidayRepository;
+  private final LocalCache<CountKey, Long> cache;
+
+  public HolidayCountCache(
+      HolidayRepository holidayRepository,
+      @Value("${app.cache.count.max_size}") int maxSize,
+      @Value("${app.cache.count.ttl_seconds}") long ttlSeconds
+  ) {
+    this.holidayRepository = holidayRepository;
+    this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+  }
+
+  /**
+   * 검색 조건에 해당하는 공휴일 개수를 조회합니다.
+   *
+   * @param year 연도 (Optional)
+   * @param countryCode 국가 코드 (Optional)
+   * @param holidayType 공휴일 타입 (Optional)
+   * @return 조건에 해당하는 공휴일 개수
+   */
+  public long getCount(Optional<Integer> year, Optional<String> countryCode, Optional<String> holidayType) {
+    CountKey key = new CountKey(year.orElse(null), countryCode.orElse(null), holidayType.orElse(null));
+    return cache.get(key, k -> holidayRepository.countHoliday(year, countryCode, holidayType));
+  }
+
+  /**
+   * 공휴일 데이터 변경 이벤트를 수신하여, 트랜잭션 커밋 이후 영향을 받는 필터 조합을 무효화합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    cache.invalidateIf(key -> key.covers(event.countryCode(), event.year()));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * 개수 캐시 키 (null은 해당 조건이 없음을 의미)
+   */
+  private record CountKey(Integer year, String countryCode, String holidayType) {
+    boolean covers(String changedCountryCode, int changedYear) {
+      return (year == null || year == changedYear)
+          && (countryCode == null || Objects.equals(countryCode, changedCountryCode));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.holidaykeeper.api.v1.application.cache;
+
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 데이터 버전 관리
+ *
+ * <p>(국가, 연도) 단위로 단조 증가하는 버전을 관리하며, 검색 조건이 포함하는 범위의 버전으로
+ * 응답 ETag를 생성합니다. 국가 또는 연도 조건이 없는 검색을 위해 국가별·연도별·전체 버전도 함께 관리합니다.
+ *
+ * <p>버전은 메모리에만 보관되므로, 재기동 시 이전 ETag와 충돌하지 않도록 기동 시각(epoch)을 ETag에 포함합니다.
+ *
+ * <p><strong>갱신 순서:</strong>
+ * 버전은 {@link HolidayChangedEvent} 수신 시 캐시 무효화가 모두 끝난 뒤 증가합니다.
+ * 새 버전의 ETag가 무효화 이전의 캐시 데이터와 함께 응답되는 것을 막기 위함입니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class HolidayDataVersion {
+
+  private final long epoch = System.currentTimeMillis();
+
+  private final AtomicLong globalVersion = new AtomicLong();
+  private final ConcurrentHashMap<String, AtomicLong> countryVersions = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Integer, AtomicLong> yearVersions = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<VersionKey, AtomicLong> unitVersions = new ConcurrentHashMap<>();
+
+  /**
+   * 검색 조건이 포함하는 범위의 데이터 버전을 조회합니다.
+   *
+   * @param year 연도 (Optional)
+   * @param countryCode 국가 코드 (Optional)
+   * @return 해당 범위의 데이터 버전
+   */
+  public long getVersion(Optional<Integer> year, Optional<String> countryCode) {
+    if (year.isPresent() && countryCode.isPresent()) {
+      return valueOf(unitVersions.get(new VersionKey(countryCode.get(), year.get())));
+    }
+    if (countryCode.isPresent()) {
+      return valueOf(countryVersions.get(countryCode.get()));
+    }
+    if (year.isPresent()) {
+      return valueOf(yearVersions.get(year.get()));
+    }
+    return globalVersion.get();
+  }
+
+  /**
+   * 검색 조건이 포함하는 범위의 데이터 버전으로 ETag를 생성합니다.
+   *
+   * @param year 연도 (Optional)
+   * @param countryCode 국가 코드 (Optional)
+   * @return 따옴표로 감싸지 않은 ETag 값
+   */
+  public String getETag(Optional<Integer> year, Optional<String> countryCode) {
+    return "%d-%d".formatted(epoch, getVersion(year, countryCode));
+  }
+
+  /**
+   * 공휴일 데이터 변경 이벤트를 수신하여, 트랜잭션 커밋 이후 해당 국가·연도를 포함하는 모든 범위의 버전을 증가시킵니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    unitVersions.computeIfAbsent(new VersionKey(event.countryCode(), event.year()), key -> new AtomicLong()).incrementAndGet();
+    countryVersions.computeIfAbsent(event.countryCode(), key -> new AtomicLong()).incrementAndGet();
+    yearVersions.computeIfAbsent(event.year(), key -> new AtomicLong()).incrementAndGet();
+    globalVersion.incrementAndGet();
+  }
+
+  private long valueOf(AtomicLong version) {
+    return version == null ? 0L : version.get();
+  }
+
+  private record VersionKey(String countryCode, int year) {
+  }
+}
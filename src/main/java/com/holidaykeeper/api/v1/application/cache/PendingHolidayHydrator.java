@@ -0,0 +1,27 @@
+package com.holidaykeeper.api.v1.application.cache;
+
+import com.holidaykeeper.api.v1.common.exception.HolidayDataUnavailableException;
+
+/**
+ * 캐시 미스 시 아직 적재되지 않은 국가·연도를 먼저 적재하는 훅
+ *
+ * <p>{@link HolidayCache}와 {@code HolidayCalendarIndex}가 데이터베이스를 읽기 전에 호출합니다.
+ * 캐시 계층은 이 인터페이스에만 의존하며, 초기 적재를 담당하는 쪽이 구현합니다.
+ *
+ * @since 1.0
+ */
+public interface PendingHolidayHydrator {
+
+  /**
+   * 국가·연도가 초기 적재 대기 중이면 즉시 적재합니다.
+   *
+   * <p>같은 국가·연도의 동시 호출은 한 번의 적재를 공유합니다. 적재에 실패하면 예외를 던지므로,
+   * 호출한 캐시는 빈 결과를 보관하지 않아야 합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 이 호출이나 함께 기다린 호출에서 적재했으면 true, 적재 대상이 아니면 false
+   * @throws HolidayDataUnavailableException 즉시 적재가 실패한 경우
+   */
+  boolean hydrateIfPending(String countryCode, int year);
+}
@@ -0,0 +1,120 @@
+package com.holidaykeeper.api.v1.application.calendar;
+
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영업일 계산기
+ *
+ * <p>{@link HolidayCalendarIndex}의 국가·연도별 영업일 누적합으로 계산하므로,
+ * 구간 길이와 무관하게 연도당 O(1)(영업일 수) 또는 O(log n)(N 영업일 후) 연산만 수행합니다.
+ * 영업일은 국가별 주말과 공휴일을 제외한 날입니다.
+ *
+ * <p>공휴일 데이터가 적재되지 않은 연도는 모든 평일을 영업일로 잘못 셀 수 있으므로 계산하지 않고 거절합니다.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDayCalculator {
+
+  private final HolidayCalendarIndex holidayCalendarIndex;
+
+  /**
+   * 시작일(포함)부터 종료일(제외)까지의 영업일 수를 계산합니다.
+   *
+   * <p>종료일이 시작일보다 앞서면 음수를 반환합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param startDate 시작일 (포함)
+   * @param endDate 종료일 (제외)
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (null이면 모든 타입)
+   * @return 구간 내 영업일 수
+   * @throws InvalidRequestException 지원하지 않거나 공휴일 데이터가 적재되지 않은 연도가 포함된 경우
+   */
+  public long countBusinessDays(String countryCode, LocalDate startDate, LocalDate endDate, HolidayType holidayType) {
+    if (endDate.isBefore(startDate)) {
+      return -countBusinessDays(countryCode, endDate, startDate, holidayType);
+    }
+    YearCalendar start = calendarOf(countryCode, startDate.getYear());
+    int startIndex = startDate.getDayOfYear() - 1;
+    int endIndex = endDate.getDayOfYear() - 1;
+
+    if (startDate.getYear() == endDate.getYear()) {
+      return start.businessDaysBefore(endIndex, holidayType) - start.businessDaysBefore(startIndex, holidayType);
+    }
+
+    long count = start.businessDayCount(holidayType) - start.businessDaysBefore(startIndex, holidayType);
+    for (int year = startDate.getYear() + 1; year < endDate.getYear(); year++) {
+      count += calendarOf(countryCode, year).businessDayCount(holidayType);
+    }
+    // 종료일은 제외하므로, 종료일이 1월 1일이면 종료 연도의 공휴일은 필요하지 않습니다.
+    if (endIndex == 0) {
+      return count;
+    }
+    return count + calendarOf(countryCode, endDate.getYear()).businessDaysBefore(endIndex, holidayType);
+  }
+
+  /**
+   * 기준일로부터 N 영업일 후(음수이면 전)의 날짜를 계산합니다.
+   *
+   * <p>기준일은 영업일 수에 포함하지 않으며, N이 0이면 기준일을 그대로 반환합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param date 기준일
+   * @param businessDays 더할 영업일 수 (음수이면 이전 영업일)
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (null이면 모든 타입)
+   * @return N 영업일 후의 날짜
+   * @throws InvalidRequestException 지원하지 않거나 공휴일 데이터가 적재되지 않은 연도에 도달하는 경우
+   */
+  public LocalDate addBusinessDays(String countryCode, LocalDate date, int businessDays, HolidayType holidayType) {
+    if (businessDays == 0) {
+      return date;
+    }
+
+    int year = date.getYear();
+    YearCalendar calendar = calendarOf(countryCode, year);
+    int dayIndex = date.getDayOfYear() - 1;
+
+    if (businessDays > 0) {
+      long remaining = businessDays;
+      // 기준일까지(포함)의 영업일 수
+      int passed = calendar.businessDaysBefore(dayIndex + 1, holidayType);
+      while (passed + remaining > calendar.businessDayCount(holidayType)) {
+        remaining -= calendar.businessDayCount(holidayType) - passed;
+        calendar = calendarOf(countryCode, ++year);
+        passed = 0;
+      }
+      return toDate(calendar, calendar.nthBusinessDay((int) (passed + remaining), holidayType));
+    }
+
+    long remaining = -(long) businessDays;
+    // 기준일 이전(제외)의 영업일 수
+    int before = calendar.businessDaysBefore(dayIndex, holidayType);
+    while (remaining > before) {
+      remaining -= before;
+      calendar = calendarOf(countryCode, --year);
+      before = calendar.businessDayCount(holidayType);
+    }
+    return toDate(calendar, calendar.nthBusinessDay((int) (before - remaining + 1), holidayType));
+  }
+
+  private LocalDate toDate(YearCalendar calendar, int dayIndex) {
+    return LocalDate.ofYearDay(calendar.year(), dayIndex + 1);
+  }
+
+  /**
+   * 영업일 계산에 사용할 국가·연도의 달력을 조회합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 공휴일 데이터가 적재된 달력
+   * @throws InvalidRequestException 지원하지 않거나 공휴일 데이터가 적재되지 않은 연도인 경우
+   */
+  private YearCalendar calendarOf(String countryCode, int year) {
+    return holidayCalendarIndex.getLoadedYearCalendar(countryCode, year);
+  }
+}
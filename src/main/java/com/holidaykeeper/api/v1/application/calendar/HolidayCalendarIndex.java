@@ -0,0 +1,143 @@
+package com.holidaykeeper.api.v1.application.calendar;
+
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.application.cache.PendingHolidayHydrator;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.common.config.BusinessDayProperties;
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가·연도별 공휴일 비트셋 인덱스
+ *
+ * <p>"국가 C에서 날짜 D가 공휴일인가?"와 같은 대량의 단건 질의를 메모리에서 처리합니다.
+ * 국가별로 연도를 인덱스로 하는 배열에 {@link YearCalendar}를 보관하므로,
+ * 적재된 이후의 조회는 해시 조회 1회와 비트 연산만으로 끝나며 객체를 할당하지 않습니다.
+ *
+ * <p><strong>갱신:</strong>
+ * 최초 조회 시 데이터베이스에서 해당 국가·연도만 읽어 생성하고,
+ * {@link HolidayChangedEvent} 수신 시 변경된 국가·연도만 비운 뒤 다음 조회에서 다시 생성합니다.
+ * 달력에 포함된 영업일 누적합도 함께 다시 생성됩니다.
+ * 저장된 국가만 달력을 보관하며, 알 수 없는 국가 코드는 {@link InvalidRequestException}으로 거절합니다.
+ * 동기화 상태(체크포인트)가 없는 국가·연도의 달력은 적재되지 않은 달력({@link YearCalendar#isLoaded()})으로 표시합니다.
+ * 초기 적재가 진행 중이면 아직 적재되지 않은 국가·연도는 {@link PendingHolidayHydrator}로 먼저 적재하며,
+ * 즉시 적재가 실패하면 예외가 전파되어 빈 달력을 보관하지 않습니다.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayCalendarIndex {
+
+  static final int MIN_YEAR = 1900;
+  static final int YEAR_RANGE = 300;
+
+  private final CountryRepository countryRepository;
+  private final HolidayRepository holidayRepository;
+  private final HolidaySyncStateRepository holidaySyncStateRepository;
+  private final PendingHolidayHydrator pendingHolidayHydrator;
+  private final BusinessDayProperties businessDayProperties;
+  private final ConcurrentHashMap<String, AtomicReferenceArray<YearCalendar>> calendars = new ConcurrentHashMap<>();
+
+  // 무효화가 발생할 때마다 증가하며, 생성 도중 무효화된 달력은 인덱스에 저장하지 않습니다.
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * 국가·연도의 공휴일 달력을 조회하며, 없으면 데이터베이스에서 읽어 생성합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 공휴일 비트셋 달력
+   * @throws InvalidRequestException 저장된 국가가 아닌 경우
+   */
+  public YearCalendar getYearCalendar(String countryCode, int year) {
+    AtomicReferenceArray<YearCalendar> years = calendars.get(countryCode);
+    if (years == null) {
+      // 임의의 국가 코드마다 연도 배열이 만들어지지 않도록, 저장된 국가인지 확인한 뒤에만 생성합니다.
+      if (!countryRepository.existsByCode(countryCode)) {
+        throw new InvalidRequestException("지원하지 않는 국가 코드입니다. ( countryCode: %s )".formatted(countryCode));
+      }
+      years = calendars.computeIfAbsent(countryCode, code -> new AtomicReferenceArray<>(YEAR_RANGE));
+    }
+
+    int index = year - MIN_YEAR;
+    if (index < 0 || index >= YEAR_RANGE) {
+      return load(countryCode, year);
+    }
+
+    YearCalendar calendar = years.get(index);
+    if (calendar != null) {
+      return calendar;
+    }
+
+    long loadGeneration = generation.get();
+    YearCalendar loaded = load(countryCode, year);
+    if (loadGeneration == generation.get()) {
+      years.compareAndSet(index, null, loaded);
+    }
+    return loaded;
+  }
+
+  /**
+   * 공휴일 데이터가 적재된 국가·연도의 달력을 조회합니다.
+   *
+   * <p>동기화 상태가 없는 연도의 달력은 공휴일이 없는 것이 아니라 모르는 것이므로,
+   * 공휴일·영업일 판정에 사용하면 평일을 영업일로 잘못 응답하게 되어 거절합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 공휴일 데이터가 적재된 달력
+   * @throws InvalidRequestException 저장된 국가가 아니거나, 지원하지 않거나 공휴일 데이터가 적재되지 않은 연도인 경우
+   */
+  public YearCalendar getLoadedYearCalendar(String countryCode, int year) {
+    if (year < MIN_YEAR || year >= MIN_YEAR + YEAR_RANGE) {
+      throw new InvalidRequestException("지원하지 않는 연도입니다. ( year: %d )".formatted(year));
+    }
+    YearCalendar calendar = getYearCalendar(countryCode, year);
+    if (!calendar.isLoaded()) {
+      throw new InvalidRequestException(
+          "공휴일 데이터가 적재되지 않은 국가·연도입니다. ( countryCode: %s, year: %d )".formatted(countryCode, year));
+    }
+    return calendar;
+  }
+
+  /**
+   * 공휴일 데이터 변경 이벤트를 수신하여, 트랜잭션 커밋 이후 해당 국가·연도의 달력을 비웁니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    generation.incrementAndGet();
+    int index = event.year() - MIN_YEAR;
+    AtomicReferenceArray<YearCalendar> years = calendars.get(event.countryCode());
+    if (years != null && index >= 0 && index < YEAR_RANGE) {
+      years.set(index, null);
+    }
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    calendars.clear();
+  }
+
+  private YearCalendar load(String countryCode, int year) {
+    pendingHolidayHydrator.hydrateIfPending(countryCode, year);
+    return YearCalendar.of(
+        year,
+        holidaySyncStateRepository.findContentHash(countryCode, year).isPresent(),
+        businessDayProperties.weekendOf(countryCode),
+        holidayRepository.findByCountryCodeAndYear(countryCode, year)
+    );
+  }
+}
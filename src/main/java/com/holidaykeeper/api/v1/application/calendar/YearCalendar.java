@@ -0,0 +1,232 @@
+package com.holidaykeeper.api.v1.application.calendar;
+
+import com.holidaykeeper.api.v1.application.util.JsonUtil;
+import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 한 국가·연도의 공휴일 여부를 비트셋으로 표현한 불변 달력
+ *
+ * <p>연중 일자(0 ~ 365)마다 1비트를 사용하는 366비트 비트셋({@code long[6]})을
+ * 공휴일 타입별로, 그리고 타입과 무관한 전체(ANY)로 나누어 보관합니다.
+ * 지역(county) 한정 공휴일은 지역별 비트셋에 따로 기록합니다.
+ *
+ * <p>영업일 계산을 위해 공휴일 타입별 영업일 누적합 배열을 최초 사용 시 생성하여 보관하므로,
+ * 구간 내 영업일 수는 O(1), N번째 영업일은 O(log n)으로 계산합니다.
+ * 영업일은 국가 전체 기준이므로 전국(global) 공휴일만 제외하며, 지역 한정 공휴일은 영업일로 셉니다.
+ *
+ * <p>조회는 배열 인덱싱과 비트 연산만 수행하므로 객체를 할당하지 않습니다.
+ *
+ * @since 1.0
+ */
+public final class YearCalendar {
+
+  private static final HolidayType[] TYPES = HolidayType.values();
+  private static final int ANY = TYPES.length;
+  private static final int WORDS = 6;
+
+  private final int year;
+  private final int length;
+  // 국가·연도의 공휴일 데이터가 적재(동기화)되었는지 여부
+  private final boolean loaded;
+  // 1월 1일의 요일 (월요일 = 0)
+  private final int firstDayOfWeek;
+  // 주말 요일 비트마스크 (월요일 = 1 << 0)
+  private final int weekendMask;
+
+  // 전국 공휴일과 지역 공휴일을 모두 포함한 비트셋 [타입 슬롯][워드]
+  private final long[][] all;
+  // 전국(global) 공휴일만 포함한 비트셋 [타입 슬롯][워드]
+  private final long[][] global;
+  // 지역 코드별 지역 한정 공휴일 비트셋 [타입 슬롯][워드]
+  private final Map<String, long[][]> counties;
+
+  // 타입 슬롯별 영업일 누적합: prefix[i] = 0 ~ (i - 1)일 중 영업일 수
+  private final AtomicReferenceArray<int[]> businessDayPrefix = new AtomicReferenceArray<>(ANY + 1);
+
+  private YearCalendar(
+      int year,
+      boolean loaded,
+      Set<DayOfWeek> weekend,
+      long[][] all,
+      long[][] global,
+      Map<String, long[][]> counties
+  ) {
+    this.year = year;
+    this.loaded = loaded;
+    this.length = Year.of(year).length();
+    this.firstDayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek().ordinal();
+    this.weekendMask = weekend.stream().mapToInt(day -> 1 << day.ordinal()).reduce(0, (a, b) -> a | b);
+    this.all = all;
+    this.global = global;
+    this.counties = counties;
+  }
+
+  /**
+   * 특정 국가·연도의 공휴일 목록으로 달력을 생성합니다.
+   *
+   * @param year 연도
+   * @param loaded 국가·연도의 동기화 상태(체크포인트)가 있으면 true (없으면 공휴일이 없는 것이 아니라 모르는 것)
+   * @param weekend 해당 국가의 주말 요일
+   * @param holidays 같은 국가·연도의 공휴일 엔티티 목록
+   * @return 공휴일 비트셋 달력
+   */
+  public static YearCalendar of(int year, boolean loaded, Set<DayOfWeek> weekend, List<Holiday> holidays) {
+    long[][] all = newBitsets();
+    long[][] global = newBitsets();
+    Map<String, long[][]> counties = new HashMap<>();
+
+    for (Holiday holiday : holidays) {
+      int dayIndex = holiday.getDate().getDayOfYear() - 1;
+      int typesMask = holiday.getTypesMask();
+
+      mark(all, dayIndex, typesMask);
+      if (Boolean.TRUE.equals(holiday.getGlobal())) {
+        mark(global, dayIndex, typesMask);
+        continue;
+      }
+      for (String county : JsonUtil.toStringList(holiday.getCountiesJson())) {
+        mark(counties.computeIfAbsent(county, key -> newBitsets()), dayIndex, typesMask);
+      }
+    }
+    return new YearCalendar(year, loaded, weekend, all, global, Map.copyOf(counties));
+  }
+
+  public int year() {
+    return year;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * 연중 일자가 공휴일인지 확인합니다.
+   *
+   * @param dayIndex 연중 일자 (1월 1일 = 0)
+   * @param holidayType 공휴일 타입 필터 (null이면 모든 타입)
+   * @param county 지역 코드 필터 (null이면 지역 공휴일 포함 전체, 지정 시 전국 공휴일 + 해당 지역 공휴일)
+   * @return 공휴일이면 true
+   */
+  public boolean contains(int dayIndex, HolidayType holidayType, String county) {
+    int slot = slotOf(holidayType);
+    if (county == null) {
+      return test(all[slot], dayIndex);
+    }
+    if (test(global[slot], dayIndex)) {
+      return true;
+    }
+    long[][] countyBits = counties.get(county);
+    return countyBits != null && test(countyBits[slot], dayIndex);
+  }
+
+  public boolean isWeekend(int dayIndex) {
+    return (weekendMask & (1 << ((firstDayOfWeek + dayIndex) % 7))) != 0;
+  }
+
+  /**
+   * 연중 일자가 영업일인지 확인합니다.
+   *
+   * <p>영업일 누적합과 같은 기준으로, 주말과 전국(global) 공휴일만 제외하고 지역 한정 공휴일은 영업일로 봅니다.
+   *
+   * @param dayIndex 연중 일자 (1월 1일 = 0)
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (null이면 모든 타입)
+   * @return 영업일이면 true
+   */
+  public boolean isBusinessDay(int dayIndex, HolidayType holidayType) {
+    return isBusinessDay(dayIndex, slotOf(holidayType));
+  }
+
+  /**
+   * 연중 일자 이전(해당 일자 제외)의 영업일 수를 반환합니다.
+   *
+   * @param dayIndex 연중 일자 (0 ~ length, length이면 연간 전체 영업일 수)
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (null이면 모든 타입)
+   * @return 1월 1일부터 dayIndex 직전까지의 영업일 수
+   */
+  public int businessDaysBefore(int dayIndex, HolidayType holidayType) {
+    return businessDayPrefix(slotOf(holidayType))[dayIndex];
+  }
+
+  public int businessDayCount(HolidayType holidayType) {
+    return businessDaysBefore(length, holidayType);
+  }
+
+  /**
+   * 해당 연도의 n번째 영업일을 이진 탐색으로 찾습니다.
+   *
+   * @param n 1부터 시작하는 영업일 순번 (1 ~ {@link #businessDayCount(HolidayType)})
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (null이면 모든 타입)
+   * @return n번째 영업일의 연중 일자
+   */
+  public int nthBusinessDay(int n, HolidayType holidayType) {
+    int[] prefix = businessDayPrefix(slotOf(holidayType));
+    // prefix[i + 1] >= n 을 만족하는 가장 작은 i
+    int low = 0;
+    int high = length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (prefix[mid + 1] >= n) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private int[] businessDayPrefix(int slot) {
+    int[] prefix = businessDayPrefix.get(slot);
+    if (prefix != null) {
+      return prefix;
+    }
+
+    prefix = new int[length + 1];
+    for (int dayIndex = 0; dayIndex < length; dayIndex++) {
+      prefix[dayIndex + 1] = prefix[dayIndex] + (isBusinessDay(dayIndex, slot) ? 1 : 0);
+    }
+    businessDayPrefix.compareAndSet(slot, null, prefix);
+    return businessDayPrefix.get(slot);
+  }
+
+  private boolean isBusinessDay(int dayIndex, int slot) {
+    return !isWeekend(dayIndex) && !test(global[slot], dayIndex);
+  }
+
+  private static int slotOf(HolidayType holidayType) {
+    return holidayType == null ? ANY : holidayType.ordinal();
+  }
+
+  private static void mark(long[][] bitsets, int dayIndex, int typesMask) {
+    set(bitsets[ANY], dayIndex);
+    for (HolidayType type : TYPES) {
+      if ((typesMask & type.mask()) != 0) {
+        set(bitsets[type.ordinal()], dayIndex);
+      }
+    }
+  }
+
+  private static void set(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  private static boolean test(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static long[][] newBitsets() {
+    return new long[ANY + 1][WORDS];
+  }
+}
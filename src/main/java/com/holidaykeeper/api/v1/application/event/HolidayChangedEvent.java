@@ -0,0 +1,14 @@
+package com.holidaykeeper.api.v1.application.event;
+
+/**
+ * 특정 국가·연도의 공휴일 데이터가 실제로 변경되었음을 알리는 이벤트
+ *
+ * <p>재동기화·삭제·적재로 인해 행이 추가, 수정, 삭제된 경우에만 발행되며,
+ * 캐시 등 파생 데이터는 이 이벤트를 기준으로 해당 국가·연도만 무효화합니다.
+ *
+ * @param countryCode 변경된 국가 코드
+ * @param year 변경된 연도
+ * @since 1.0
+ */
+public record HolidayChangedEvent(String countryCode, int year) {
+}
@@ -0,0 +1,42 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 동기화 실패 분류
+ *
+ * <p>재시도를 모두 소진한 실패라도 원인에 따라 다음 실행에서 성공할 수 있는지가 다르므로,
+ * 원인 예외를 따라가며 외부 API의 일시적인 장애로 볼 수 있는 실패만 {@link #TRANSIENT}로 분류합니다.
+ */
+public enum SyncFailureType {
+  // 429, 5xx, 연결 실패·시간 초과 등 다시 실행하면 성공할 수 있는 실패
+  TRANSIENT,
+  // 429를 제외한 4xx, 잘못된 인자·상태 등 프로그램 오류처럼 다시 실행해도 결과가 같은 실패
+  PERMANENT;
+
+  /**
+   * 예외의 원인을 따라가며 실패를 분류합니다.
+   *
+   * @param e 발생한 예외
+   * @return 원인 중 I/O·시간 초과, 5xx, 429 응답이 있으면 TRANSIENT, 그 밖에는 PERMANENT
+   */
+  public static SyncFailureType classify(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+      if (isTransient(cause)) {
+        return TRANSIENT;
+      }
+    }
+    return PERMANENT;
+  }
+
+  private static boolean isTransient(Throwable e) {
+    if (e instanceof RestClientResponseException response) {
+      return response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+          || response.getStatusCode().is5xxServerError();
+    }
+    return e instanceof IOException || e instanceof TimeoutException;
+  }
+}
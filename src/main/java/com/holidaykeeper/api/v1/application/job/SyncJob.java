@@ -0,0 +1,85 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import com.holidaykeeper.api.v1.domain.common.UuidV7;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * 공휴일 동기화 작업 기록
+ *
+ * <p>작업 상태와 진행률, 국가·연도별 소요 시간과 실패 원인을 보관합니다.
+ * 작업을 실행하는 스레드들이 갱신하고 조회 API가 동시에 읽으므로, 모든 상태는 스레드 안전하게 갱신됩니다.
+ *
+ * @since 1.0
+ */
+@Getter
+public class SyncJob {
+
+  private final UUID id = UuidV7.generate();
+  private final String name;
+  private final List<Integer> years;
+  private final Instant createdAt = Instant.now();
+  private volatile Instant startedAt;
+  private volatile Instant finishedAt;
+  private volatile SyncJobStatus status = SyncJobStatus.QUEUED;
+  private volatile int totalTasks;
+  private volatile String error;
+  private final AtomicInteger succeededTasks = new AtomicInteger();
+  private final AtomicInteger failedTasks = new AtomicInteger();
+  private final ConcurrentLinkedQueue<SyncTaskResult> taskResults = new ConcurrentLinkedQueue<>();
+
+  public SyncJob(String name, List<Integer> years) {
+    this.name = name;
+    this.years = List.copyOf(years);
+  }
+
+  /**
+   * 작업을 시작 상태로 전환합니다.
+   *
+   * @param totalTasks 동기화할 국가·연도 수
+   */
+  public void start(int totalTasks) {
+    this.totalTasks = totalTasks;
+    this.startedAt = Instant.now();
+    this.status = SyncJobStatus.RUNNING;
+  }
+
+  public void record(SyncTaskResult result) {
+    taskResults.add(result);
+    (result.isSuccess() ? succeededTasks : failedTasks).incrementAndGet();
+  }
+
+  /**
+   * 모든 국가·연도 동기화가 끝난 뒤 작업을 완료합니다.
+   */
+  public void complete() {
+    finish(failedTasks.get() == 0 ? SyncJobStatus.SUCCEEDED : SyncJobStatus.PARTIALLY_FAILED, null);
+  }
+
+  /**
+   * 작업 자체가 실패한 경우 작업을 종료합니다.
+   *
+   * @param e 발생한 예외
+   */
+  public void fail(Throwable e) {
+    finish(SyncJobStatus.FAILED, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+  }
+
+  public int completedTasks() {
+    return succeededTasks.get() + failedTasks.get();
+  }
+
+  public List<SyncTaskResult> taskResults() {
+    return List.copyOf(taskResults);
+  }
+
+  private void finish(SyncJobStatus status, String error) {
+    this.error = error;
+    this.finishedAt = Instant.now();
+    this.status = status;
+  }
+}
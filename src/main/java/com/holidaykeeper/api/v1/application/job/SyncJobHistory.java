@@ -0,0 +1,74 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 동기화 작업 기록 저장소
+ *
+ * <p>최근 {@code app.sync.history_size}개의 작업만 메모리에 보관하며, 끝난 작업 중 가장 오래된 작업부터 제거합니다.
+ * 대기 중이거나 실행 중인 작업은 제거하지 않으므로, 요청한 작업의 결과를 작업 ID로 끝까지 조회할 수 있습니다.
+ * 끝나지 않은 작업 수는 실행기의 스레드 수와 대기열 용량으로 제한됩니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class SyncJobHistory {
+
+  private final int historySize;
+  private final Deque<SyncJob> jobs = new ArrayDeque<>();
+
+  public SyncJobHistory(@Value("${app.sync.history_size}") int historySize) {
+    this.historySize = historySize;
+  }
+
+  /**
+   * 새 작업을 만들어 기록합니다.
+   *
+   * @param name 작업 이름
+   * @param years 동기화 대상 연도 목록
+   * @return 대기 상태의 작업
+   */
+  public synchronized SyncJob create(String name, List<Integer> years) {
+    SyncJob job = new SyncJob(name, years);
+    jobs.addFirst(job);
+    evictFinishedJobs();
+    return job;
+  }
+
+  /**
+   * 최근 작업을 최신순으로 조회합니다.
+   *
+   * @param limit 조회할 최대 작업 수
+   * @return 최근 작업 목록
+   */
+  public synchronized List<SyncJob> recent(int limit) {
+    return jobs.stream().limit(Math.max(limit, 0)).toList();
+  }
+
+  /**
+   * 작업 ID로 작업을 조회합니다.
+   *
+   * @param id 작업 ID
+   * @return 작업 (보관 기간이 지나 제거되었거나 없으면 Optional.empty())
+   */
+  public synchronized Optional<SyncJob> find(UUID id) {
+    return jobs.stream().filter(job -> job.getId().equals(id)).findFirst();
+  }
+
+  // 보관 개수를 넘는 만큼 끝난 작업을 오래된 순서로 제거합니다.
+  private void evictFinishedJobs() {
+    Iterator<SyncJob> oldestFirst = jobs.descendingIterator();
+    while (jobs.size() > historySize && oldestFirst.hasNext()) {
+      if (oldestFirst.next().getStatus().isFinished()) {
+        oldestFirst.remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.holidaykeeper.api.v1.application.job;
+
+/**
+ * 동기화 작업 상태
+ */
+public enum SyncJobStatus {
+  // 실행 대기열에서 대기 중
+  QUEUED,
+  // 실행 중
+  RUNNING,
+  // 모든 국가·연도 동기화 성공
+  SUCCEEDED,
+  // 일부 국가·연도 동기화 실패
+  PARTIALLY_FAILED,
+  // 작업 자체가 실패 (국가 목록 조회 실패, 실행 대기열 초과 등)
+  FAILED;
+
+  public boolean isFinished() {
+    return this != QUEUED && this != RUNNING;
+  }
+}
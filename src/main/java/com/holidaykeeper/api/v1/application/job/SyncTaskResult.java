@@ -0,0 +1,47 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
+
+/**
+ * 국가·연도별 동기화 결과
+ *
+ * @param countryCode 국가 코드
+ * @param year 연도
+ * @param elapsedMillis 소요 시간 (재시도 포함)
+ * @param inserted 삽입된 공휴일 수
+ * @param updated 변경된 공휴일 수
+ * @param deleted 삭제된 공휴일 수
+ * @param failureType 실패 분류 (성공 시 null)
+ * @param message 실패 메시지 (성공 시 null)
+ */
+public record SyncTaskResult(
+    String countryCode,
+    int year,
+    long elapsedMillis,
+    int inserted,
+    int updated,
+    int deleted,
+    SyncFailureType failureType,
+    String message
+) {
+  public static SyncTaskResult success(HolidayRefreshResult result, long elapsedMillis) {
+    return new SyncTaskResult(result.countryCode(), result.year(), elapsedMillis,
+        result.inserted(), result.updated(), result.deleted(), null, null);
+  }
+
+  public static SyncTaskResult failure(String countryCode, int year, long elapsedMillis, Throwable e) {
+    return new SyncTaskResult(countryCode, year, elapsedMillis, 0, 0, 0, SyncFailureType.classify(e), describe(e));
+  }
+
+  public boolean isSuccess() {
+    return failureType == null;
+  }
+
+  private static String describe(Throwable e) {
+    Throwable root = e;
+    while (root.getCause() != null && root.getCause() != root) {
+      root = root.getCause();
+    }
+    return root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+  }
+}
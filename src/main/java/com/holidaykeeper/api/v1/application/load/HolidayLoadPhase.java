@@ -0,0 +1,17 @@
+package com.holidaykeeper.api.v1.application.load;
+
+/**
+ * 초기 공휴일 적재 단계
+ */
+public enum HolidayLoadPhase {
+  // 적재 시작 전
+  NOT_STARTED,
+  // 국가 정보 적재 중 (요청을 받을 수 없음)
+  LOADING_COUNTRIES,
+  // 공휴일 적재 중 (요청을 받으며, 아직 적재되지 않은 국가·연도는 조회 시 즉시 적재)
+  LOADING_HOLIDAYS,
+  // 적재 완료
+  COMPLETED,
+  // 적재 실패
+  FAILED
+}
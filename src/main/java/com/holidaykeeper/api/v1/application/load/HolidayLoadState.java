@@ -0,0 +1,103 @@
+package com.holidaykeeper.api.v1.application.load;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 공휴일 적재 상태
+ *
+ * <p>백그라운드에서 진행되는 초기 적재의 단계와 진행률, 국가·연도별 적재 여부를 보관합니다.
+ *
+ * <p><strong>준비 상태(readiness):</strong>
+ * 국가 정보가 저장되면 요청을 받을 수 있는 상태가 됩니다. 공휴일 적재가 끝나지 않았더라도
+ * 아직 적재되지 않은 국가·연도는 조회 시점에 즉시 적재되므로, 전체 적재 완료를 기다리지 않습니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Component
+public class HolidayLoadState {
+
+  private volatile HolidayLoadPhase phase = HolidayLoadPhase.NOT_STARTED;
+  private volatile boolean countriesLoaded;
+  private volatile Instant startedAt;
+  private volatile Instant finishedAt;
+  private volatile String error;
+  private volatile int totalUnits;
+  private final AtomicInteger loadedUnits = new AtomicInteger();
+
+  // 적재 대상 국가·연도별 적재 여부 (false: 대기, true: 적재 완료)
+  private final ConcurrentHashMap<HolidayLoadUnit, Boolean> units = new ConcurrentHashMap<>();
+
+  public void startCountries() {
+    startedAt = Instant.now();
+    finishedAt = null;
+    error = null;
+    phase = HolidayLoadPhase.LOADING_COUNTRIES;
+  }
+
+  /**
+   * 국가 정보 적재를 마치고 공휴일 적재를 시작합니다. 이 시점부터 요청을 받을 수 있습니다.
+   *
+   * @param pendingUnits 적재할 국가·연도 목록
+   */
+  public void startHolidays(Collection<HolidayLoadUnit> pendingUnits) {
+    units.clear();
+    pendingUnits.forEach(unit -> units.put(unit, false));
+    loadedUnits.set(0);
+    totalUnits = pendingUnits.size();
+    countriesLoaded = true;
+    phase = HolidayLoadPhase.LOADING_HOLIDAYS;
+  }
+
+  /**
+   * 국가·연도의 적재가 커밋되었음을 기록합니다. 백그라운드 적재와 즉시 적재 중 먼저 기록한 쪽만 진행률에 반영됩니다.
+   *
+   * @param unit 적재한 국가·연도
+   */
+  public void markLoaded(HolidayLoadUnit unit) {
+    if (units.replace(unit, false, true)) {
+      loadedUnits.incrementAndGet();
+    }
+  }
+
+  /**
+   * 적재 대상이지만 아직 적재되지 않아 즉시 적재해야 하는 국가·연도인지 확인합니다.
+   *
+   * <p>적재가 실패로 끝난 뒤에는 요청마다 재시도와 대기를 반복하지 않도록 false를 반환합니다.
+   */
+  public boolean isPending(HolidayLoadUnit unit) {
+    return phase != HolidayLoadPhase.FAILED && Boolean.FALSE.equals(units.get(unit));
+  }
+
+  /**
+   * 적재 대상 중 이미 적재된 국가·연도인지 확인합니다.
+   */
+  public boolean isLoaded(HolidayLoadUnit unit) {
+    return Boolean.TRUE.equals(units.get(unit));
+  }
+
+  public void complete() {
+    finishedAt = Instant.now();
+    phase = HolidayLoadPhase.COMPLETED;
+  }
+
+  public void fail(Throwable e) {
+    error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    finishedAt = Instant.now();
+    phase = HolidayLoadPhase.FAILED;
+  }
+
+  /**
+   * 요청을 받을 수 있는 상태인지 확인합니다.
+   *
+   * @return 국가 정보가 저장되었으면 true
+   */
+  public boolean isReady() {
+    return countriesLoaded;
+  }
+}
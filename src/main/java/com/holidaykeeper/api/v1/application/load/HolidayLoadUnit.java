@@ -0,0 +1,10 @@
+package com.holidaykeeper.api.v1.application.load;
+
+/**
+ * 공휴일 적재 단위 (국가·연도)
+ *
+ * @param countryCode 국가 코드
+ * @param year 연도
+ */
+public record HolidayLoadUnit(String countryCode, int year) {
+}
@@ -0,0 +1,113 @@
+package com.holidaykeeper.api.v1.application.refresh;
+
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadUnit;
+import com.holidaykeeper.api.v1.application.service.HolidayUsecase;
+import com.holidaykeeper.api.v1.common.cache.LocalCache;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 국가·연도별 공휴일 재동기화 중복 제거기
+ *
+ * <p>같은 국가·연도의 재동기화가 동시에 요청되면 먼저 요청한 호출 하나만 {@link HolidayUsecase#refreshHolidays}를
+ * 실행하고, 나머지 호출은 그 실행이 끝나기를 기다려 같은 결과(또는 같은 예외·오류)를 받습니다.
+ * 따라서 외부 API 조회, 비교, 저장이 국가·연도마다 한 번만 진행됩니다.
+ *
+ * <p><strong>최근 결과 재사용:</strong>
+ * 성공한 재동기화 결과는 {@code app.refresh.recent_window_seconds}초 동안 보관하며, 그동안 들어온 같은 국가·연도의
+ * 요청에는 외부 API를 호출하지 않고 보관된 결과로 응답합니다. 실패한 결과는 보관하지 않습니다.
+ * 삭제 등으로 {@link HolidayChangedEvent}가 커밋되면 해당 국가·연도의 보관된 결과를 제거합니다.
+ *
+ * <p>트랜잭션 밖에서 호출되어야 하며, 결과는 재동기화 트랜잭션이 커밋된 뒤에 공유됩니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class HolidayRefreshCoordinator {
+
+  private final HolidayUsecase holidayUsecase;
+  private final LocalCache<HolidayLoadUnit, HolidayRefreshResult> recentResults;
+
+  private final ConcurrentMap<HolidayLoadUnit, CompletableFuture<HolidayRefreshResult>> inFlight = new ConcurrentHashMap<>();
+
+  public HolidayRefreshCoordinator(
+      HolidayUsecase holidayUsecase,
+      @Value("${app.refresh.recent_max_size}") int recentMaxSize,
+      @Value("${app.refresh.recent_window_seconds}") long recentWindowSeconds
+  ) {
+    this.holidayUsecase = holidayUsecase;
+    this.recentResults = new LocalCache<>(recentMaxSize, Duration.ofSeconds(recentWindowSeconds));
+  }
+
+  /**
+   * 특정 국가와 연도의 공휴일을 재동기화합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 재동기화 결과 (다른 호출과 공유되었거나 최근 결과를 재사용했을 수 있음)
+   * @throws RuntimeException 재동기화가 실패한 경우
+   */
+  public HolidayRefreshResult refresh(String countryCode, int year) {
+    HolidayLoadUnit key = new HolidayLoadUnit(countryCode, year);
+    HolidayRefreshResult recent = recentResults.getIfPresent(key);
+    if (recent != null) {
+      log.debug("최근 재동기화 결과 재사용 ( countryCode: {}, year: {}, refreshedAt: {} )", countryCode, year, recent.refreshedAt());
+      return recent;
+    }
+
+    CompletableFuture<HolidayRefreshResult> future = new CompletableFuture<>();
+    CompletableFuture<HolidayRefreshResult> running = inFlight.putIfAbsent(key, future);
+    if (running != null) {
+      log.debug("진행 중인 재동기화에 합류 ( countryCode: {}, year: {} )", countryCode, year);
+      return join(running);
+    }
+
+    try {
+      HolidayRefreshResult result = holidayUsecase.refreshHolidays(countryCode, year);
+      recentResults.put(key, result);
+      future.complete(result);
+      return result;
+    } catch (Throwable e) {
+      // Error로 끝나도 기다리는 호출이 영원히 대기하지 않도록 항상 완료합니다.
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  /**
+   * 공휴일 변경이 커밋되면 해당 국가·연도의 최근 재동기화 결과를 제거합니다.
+   *
+   * <p>재동기화 자신이 발행한 이벤트는 결과를 보관하기 전에 처리되므로, 새 결과는 제거되지 않습니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    recentResults.invalidate(new HolidayLoadUnit(event.countryCode(), event.year()));
+  }
+
+  private HolidayRefreshResult join(CompletableFuture<HolidayRefreshResult> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
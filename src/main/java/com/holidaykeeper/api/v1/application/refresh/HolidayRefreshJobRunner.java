@@ -0,0 +1,50 @@
+package com.holidaykeeper.api.v1.application.refresh;
+
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncTaskResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 공휴일 재동기화 작업 실행기
+ *
+ * <p>요청 스레드 대신 {@code refreshExecutor}에서 국가·연도 하나의 재동기화를 실행하고, 결과를 작업에 기록합니다.
+ * 재동기화는 {@link HolidayRefreshCoordinator}를 거치므로, 같은 국가·연도의 동기 요청이나 다른 작업과 중복 실행되지 않습니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayRefreshJobRunner {
+
+  private final HolidayRefreshCoordinator refreshCoordinator;
+
+  /**
+   * 특정 국가와 연도의 공휴일을 재동기화하고 삽입·변경·삭제된 공휴일 수를 작업에 기록합니다.
+   *
+   * @param job 실행할 작업
+   * @param countryCode 국가 코드
+   * @param year 연도
+   */
+  @Async("refreshExecutor")
+  public void run(SyncJob job, String countryCode, int year) {
+    job.start(1);
+    long start = System.nanoTime();
+    try {
+      HolidayRefreshResult result = refreshCoordinator.refresh(countryCode, year);
+      job.record(SyncTaskResult.success(result, elapsedMillis(start)));
+      job.complete();
+    } catch (Exception e) {
+      job.record(SyncTaskResult.failure(countryCode, year, elapsedMillis(start), e));
+      job.fail(e);
+      log.warn("공휴일 재동기화 작업 실패 (id: {}, countryCode: {}, year: {})", job.getId(), countryCode, year, e);
+    }
+  }
+
+  private long elapsedMillis(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000;
+  }
+}
@@ -0,0 +1,37 @@
+package com.holidaykeeper.api.v1.application.refresh;
+
+import java.time.Instant;
+
+/**
+ * 국가·연도별 공휴일 재동기화 결과
+ *
+ * @param countryCode 국가 코드
+ * @param year 연도
+ * @param inserted 삽입된 공휴일 수
+ * @param updated 변경된 공휴일 수
+ * @param deleted 삭제된 공휴일 수
+ * @param unchanged API 응답의 내용 해시가 마지막 동기화와 같아 비교를 생략했으면 true
+ * @param refreshedAt 재동기화가 끝난 시각
+ */
+public record HolidayRefreshResult(
+    String countryCode,
+    int year,
+    int inserted,
+    int updated,
+    int deleted,
+    boolean unchanged,
+    Instant refreshedAt
+) {
+
+  public static HolidayRefreshResult unchanged(String countryCode, int year) {
+    return new HolidayRefreshResult(countryCode, year, 0, 0, 0, true, Instant.now());
+  }
+
+  public static HolidayRefreshResult of(String countryCode, int year, int inserted, int updated, int deleted) {
+    return new HolidayRefreshResult(countryCode, year, inserted, updated, deleted, false, Instant.now());
+  }
+
+  public boolean hasChanges() {
+    return inserted > 0 || updated > 0 || deleted > 0;
+  }
+}
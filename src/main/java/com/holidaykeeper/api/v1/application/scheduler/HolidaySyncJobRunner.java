@@ -0,0 +1,109 @@
+package com.holidaykeeper.api.v1.application.scheduler;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncTaskResult;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshCoordinator;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
+import com.holidaykeeper.api.v1.application.util.ConcurrencyLimitedExecutor;
+import com.holidaykeeper.api.v1.application.util.LatencyRecorder;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 동기화 작업 실행기
+ *
+ * <p>작업 하나를 {@code holidayExecutor}의 전용 스레드에서 실행합니다.
+ * 스케줄러와 다른 빈으로 분리하여, 호출이 프록시를 거쳐 실제로 비동기 실행되도록 합니다.
+ *
+ * <p><strong>병렬 처리:</strong>
+ * 작업 안의 국가·연도별 동기화는 가상 스레드에서 병렬로 처리하며,
+ * 동시에 진행되는 동기화 수는 {@code app.api.max_concurrency}로 제한합니다.
+ * 국가·연도별 동기화는 {@link HolidayRefreshCoordinator}를 거치므로, 같은 시점의 수동 재동기화와 중복 실행되지 않습니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidaySyncJobRunner {
+
+  private final HolidayRefreshCoordinator refreshCoordinator;
+  private final ApiClient apiClient;
+
+  @Value("${app.api.max_concurrency}")
+  private int maxConcurrency;
+
+  /**
+   * 작업의 모든 국가·연도 공휴일을 동기화하고, 국가·연도별 소요 시간과 실패 원인을 작업에 기록합니다.
+   *
+   * <p>국가·연도별 실패는 작업을 중단하지 않으며, 국가 목록 조회 실패 등 작업 자체의 실패는 작업을 실패로 종료합니다.
+   *
+   * @param job 실행할 작업
+   */
+  @Async("holidayExecutor")
+  public void run(SyncJob job) {
+    long startTime = System.currentTimeMillis();
+    try (ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(maxConcurrency, "holiday-refresh-")) {
+      List<GetCountryResponse> countries = apiClient.getCountries();
+      job.start(countries.size() * job.getYears().size());
+      LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+      List<CompletableFuture<Void>> futures = countries.stream()
+          .flatMap(country -> job.getYears().stream()
+              .map(year -> refreshHolidays(job, country.countryCode(), year, latencyRecorder, executor)))
+          .toList();
+
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+      job.complete();
+
+      log.info("[스케줄러] 공휴일 동기화 작업 완료 (id: {}, 성공: {}건, 실패: {}건, {}, 소요시간: {}ms)",
+          job.getId(), job.getSucceededTasks().get(), job.getFailedTasks().get(),
+          latencyRecorder.summarize(), System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      job.fail(e);
+      log.error("[스케줄러] 공휴일 동기화 작업 중 오류 발생 (id: {})", job.getId(), e);
+    }
+  }
+
+  /**
+   * 특정 국가와 연도의 공휴일 데이터를 비동기로 동기화하고 결과를 작업에 기록합니다.
+   *
+   * @param job 진행 중인 작업
+   * @param countryCode 국가 코드
+   * @param year 대상 연도
+   * @param latencyRecorder 동기화별 지연 시간 기록기
+   * @param executor 동시 실행 수가 제한된 가상 스레드 실행기
+   * @return 비동기 작업 결과를 담은 CompletableFuture
+   */
+  private CompletableFuture<Void> refreshHolidays(
+      SyncJob job,
+      String countryCode,
+      int year,
+      LatencyRecorder latencyRecorder,
+      ConcurrencyLimitedExecutor executor
+  ) {
+    return executor.runAsync(() -> {
+      long start = System.nanoTime();
+      try {
+        HolidayRefreshResult result = latencyRecorder.record(() -> refreshCoordinator.refresh(countryCode, year));
+        job.record(SyncTaskResult.success(result, elapsedMillis(start)));
+      } catch (Exception e) {
+        SyncTaskResult result = SyncTaskResult.failure(countryCode, year, elapsedMillis(start), e);
+        job.record(result);
+        log.warn("[스케줄러] 공휴일 동기화 실패 ( countryCode: {}, year: {}, type: {} )",
+            countryCode, year, result.failureType(), e);
+      }
+    });
+  }
+
+  private long elapsedMillis(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000;
+  }
+}
@@ -2,20 +2,46 @@ package com.holidaykeeper.api.v1.application.service;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
-import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshot;
+import com.holidaykeeper.api.v1.application.cache.PendingHolidayHydrator;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadUnit;
+import com.holidaykeeper.api.v1.application.snapshot.HolidaySnapshotService;
+import com.holidaykeeper.api.v1.application.util.Backoff;
+import com.holidaykeeper.api.v1.application.util.ConcurrencyLimitedExecutor;
+import com.holidaykeeper.api.v1.application.util.HolidayContentHash;
+import com.holidaykeeper.api.v1.application.util.LatencyRecorder;
+import com.holidaykeeper.api.v1.application.writer.BulkWriteReport;
+import com.holidaykeeper.api.v1.application.writer.HolidayParallelWriter;
+import com.holidaykeeper.api.v1.application.writer.HolidayWriteUnit;
+import com.holidaykeeper.api.v1.common.exception.HolidayDataUnavailableException;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 애플리케이션 최초 실행시 동작하는 서비스
@@ -28,11 +54,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AppInitService {
+public class AppInitService implements PendingHolidayHydrator {
 
   private final CountryRepository countryRepository;
   private final HolidayRepository holidayRepository;
+  private final HolidaySyncStateRepository holidaySyncStateRepository;
   private final ApiClient apiClient;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PlatformTransactionManager transactionManager;
+  private final HolidayParallelWriter parallelWriter;
+  private final HolidayLoadState loadState;
+  private final HolidaySnapshotService snapshotService;
+
+  // 국가·연도별 진행 중인 즉시 적재
+  private final ConcurrentMap<HolidayLoadUnit, CompletableFuture<Boolean>> hydrations = new ConcurrentHashMap<>();
 
   private static final int FROM_YEAR = 2020;
   private static final int TO_YEAR = 2025;
@@ -43,70 +78,359 @@ public class AppInitService {
   @Value("${app.api.retry_count}")
   private int retryCount;
 
+  @Value("${app.api.backoff.base_millis}")
+  private long backoffBaseMillis;
+
+  @Value("${app.api.backoff.max_millis}")
+  private long backoffMaxMillis;
+
+  @Value("${app.api.max_concurrency}")
+  private int maxConcurrency;
+
+  @Value("${app.batch.queue_capacity}")
+  private int queueCapacity;
+
   /**
    * 최근 연도의 모든 국가 공휴일 데이터를 조회하여 저장합니다.
    *
    * <p>다음 작업을 순차적으로 수행합니다:
    * <ol>
    *   <li>외부 API에서 지원하는 모든 국가 정보를 조회하여 저장</li>
-   *   <li>각 국가별로 2020년부터 2025년까지의 공휴일 데이터를 병렬로 조회</li>
-   *   <li>조회된 공휴일 데이터를 배치 단위로 데이터베이스에 저장</li>
+   *   <li>동기화 상태(체크포인트)가 없는 국가·연도만 골라 2020년부터 2025년까지의 공휴일 데이터를 병렬로 조회</li>
+   *   <li>조회가 끝난 결과부터 배치 단위로 데이터베이스에 저장 (조회와 저장을 동시에 진행)</li>
+   *   <li>국가·연도별 API 응답의 내용 해시를 동기화 상태로 저장</li>
+   *   <li>국가·연도의 체크포인트가 커밋될 때마다 {@link HolidayChangedEvent}를 발행하여 캐시를 무효화</li>
    * </ol>
    *
-   * <p>공휴일 조회는 멀티스레드 환경에서 병렬로 처리되어 성능을 최적화합니다.
+   * <p>공휴일 조회는 가상 스레드에서 병렬로 처리되며, 동시 호출 수는 외부 API 기준으로 제한됩니다.
    * 각 API 호출은 설정된 재시도 횟수만큼 재시도됩니다.
    *
+   * <p><strong>재개:</strong>
+   * 전체 적재를 하나의 트랜잭션으로 묶지 않고 배치마다 커밋하며, 국가·연도의 마지막 행과 같은 트랜잭션으로
+   * 동기화 상태를 저장하여 완료 체크포인트로 사용합니다. 적재 도중 중단되어도 다음 실행에서는 체크포인트가 없는
+   * 국가·연도만 다시 조회하며, 체크포인트 없이 먼저 커밋된 행은 병합(MERGE)되므로 중복 저장되지 않습니다.
+   * 병렬 쓰기({@code app.batch.parallel_writers} > 1)에서는 {@link HolidayParallelWriter}가 국가·연도 단위로 커밋합니다.
+   *
+   * <p><strong>스냅샷:</strong>
+   * 사용할 수 있는 공휴일 스냅샷이 있으면 국가 목록을 외부 API 대신 스냅샷에서 가져오고, 체크포인트가 없는 국가·연도를
+   * 스냅샷에서 먼저 적재합니다. 외부 API는 스냅샷에 없는 국가·연도만 조회하며, 외부 API에서 적재한 국가·연도가 있으면
+   * 적재가 끝난 뒤 스냅샷을 다시 저장합니다. 자세한 내용은 {@link HolidaySnapshotService}를 참고합니다.
+   *
    * @throws RuntimeException API 호출이 모든 재시도 후에도 실패한 경우
    * @since 1.0
    */
-  @Transactional
   public void saveRecentHolidays() {
     long start = System.currentTimeMillis();
-    // 1. 국가 조회 후 저장
-    List<GetCountryResponse> countries = getCountriesWithRetry();
-    countryRepository.bulkInsert(countries);
-    // 2. 공휴일 조회 후 저장
-    List<GetHolidayResponse> totalHolidays = getHolidays(countries);
-    batchInsertHolidays(totalHolidays);
+    Optional<HolidaySnapshot> snapshot;
+    List<HolidayLoadUnit> pendingUnits;
+    loadState.startCountries();
+    try {
+      // 1. 국가 조회 후 저장 (다른 커넥션의 공휴일 저장이 국가를 참조할 수 있도록 먼저 커밋)
+      snapshot = snapshotService.readFresh();
+      List<GetCountryResponse> countries = snapshot.map(HolidaySnapshot::countries).orElseGet(this::getCountriesWithRetry);
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> countryRepository.bulkInsert(countries));
+      // 2. 스냅샷이 있으면 체크포인트가 없는 국가·연도를 스냅샷에서 적재
+      snapshot.map(snapshotService::importSnapshot).ifPresent(this::publishHolidayChangedEvents);
+      // 3. 체크포인트가 없는 국가·연도만 공휴일 조회와 동시에 배치 단위로 저장
+      pendingUnits = findPendingUnits(countries);
+      loadState.startHolidays(pendingUnits);
+      streamHolidays(pendingUnits);
+      loadState.complete();
+    } catch (RuntimeException e) {
+      loadState.fail(e);
+      throw e;
+    }
+    // 4. 외부 API에서 적재한 내용이 있으면 스냅샷 갱신 (실패해도 적재 결과에는 영향 없음)
+    if (snapshot.isEmpty() || !pendingUnits.isEmpty()) {
+      exportSnapshot();
+    }
     log.info("{}년부터 {}년까지 모든 국가의 공휴일 정보 적재 완료 (소요시간 : {}ms)", FROM_YEAR, TO_YEAR, System.currentTimeMillis() - start);
   }
 
   /**
-   * 여러 국가의 지정된 연도 범위 공휴일 데이터를 병렬로 조회합니다.
+   * 초기 적재가 끝나지 않은 국가·연도를 조회 요청 스레드에서 즉시 적재합니다.
+   *
+   * <p>백그라운드 적재의 대기열을 거치지 않고 바로 외부 API를 호출하여, 별도 트랜잭션으로 공휴일과 완료 체크포인트를
+   * 커밋합니다. 백그라운드 적재는 이후 이 국가·연도를 건너뜁니다. 백그라운드 적재가 같은 국가·연도를 이미 조회 중이면
+   * 중복 조회될 수 있으나, 저장은 병합(MERGE)되므로 결과는 같습니다.
    *
-   * <p>각 국가와 연도 조합에 대해 별도의 비동기 작업을 생성하고,
-   * 시스템의 CPU 코어 수만큼 스레드 풀을 구성하여 병렬 처리합니다.
-   * 모든 비동기 작업이 완료될 때까지 대기한 후 결과를 통합하여 반환합니다.
+   * <p>같은 국가·연도의 동시 호출은 먼저 호출한 하나만 적재하고, 나머지는 그 결과를 기다립니다.
+   * 적재가 실패하면 기다린 호출 모두 {@link HolidayDataUnavailableException}을 받습니다.
+   * 초기 적재가 실패로 끝난 뒤에는 즉시 적재하지 않습니다.
    *
-   * @param countries 공휴일을 조회할 국가 목록
-   * @return 모든 국가와 연도에 대한 공휴일 데이터 리스트
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 즉시 적재했으면 true, 적재 대상이 아니거나 이미 적재되었으면 false
+   * @throws HolidayDataUnavailableException 즉시 적재가 실패한 경우
    */
-  private List<GetHolidayResponse> getHolidays(List<GetCountryResponse> countries) {
-    ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  @Override
+  public boolean hydrateIfPending(String countryCode, int year) {
+    HolidayLoadUnit unit = new HolidayLoadUnit(countryCode, year);
+    if (!loadState.isPending(unit)) {
+      return false;
+    }
+
+    CompletableFuture<Boolean> future = new CompletableFuture<>();
+    CompletableFuture<Boolean> running = hydrations.putIfAbsent(unit, future);
+    if (running != null) {
+      return join(running);
+    }
+
     try {
-      List<CompletableFuture<List<GetHolidayResponse>>> futures = countries.stream()
-          .flatMap(country -> IntStream.rangeClosed(FROM_YEAR, TO_YEAR)
-              .mapToObj(year -> CompletableFuture.supplyAsync(
-                  () -> getHolidaysWithRetry(year, country.countryCode()),
-                  executor
-              ))
-          )
-          .toList();
-
-      return futures.stream()
-          .map(CompletableFuture::join)
-          .flatMap(List::stream)
-          .toList();
+      // 앞선 적재가 방금 끝났을 수 있으므로 다시 확인합니다.
+      boolean hydrated = loadState.isPending(unit) && hydrate(unit);
+      future.complete(hydrated);
+      return hydrated;
+    } catch (RuntimeException e) {
+      log.warn("공휴일 즉시 적재 실패 ( countryCode: {}, year: {} )", countryCode, year, e);
+      HolidayDataUnavailableException failure = new HolidayDataUnavailableException(
+          "공휴일 데이터를 적재하지 못했습니다. 잠시 후 다시 시도해 주세요. ( countryCode: %s, year: %d )".formatted(countryCode, year), e);
+      future.completeExceptionally(failure);
+      throw failure;
+    } catch (Error e) {
+      future.completeExceptionally(e);
+      throw e;
     } finally {
-      executor.shutdown();
+      hydrations.remove(unit, future);
+    }
+  }
+
+  private boolean hydrate(HolidayLoadUnit unit) {
+    long start = System.currentTimeMillis();
+    String countryCode = unit.countryCode();
+    int year = unit.year();
+    List<HolidayRow> rows = getHolidaysWithRetry(year, countryCode, new LatencyRecorder());
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!rows.isEmpty()) {
+        holidayRepository.bulkInsertRows(rows);
+      }
+      holidaySyncStateRepository.bulkUpsert(List.of(HolidaySyncState.of(countryCode, year, HolidayContentHash.ofRows(rows))));
+    });
+    markLoaded(unit);
+    log.info("공휴일 즉시 적재 완료 ( countryCode: {}, year: {}, {}건, 소요시간: {}ms )",
+        countryCode, year, rows.size(), System.currentTimeMillis() - start);
+    return true;
+  }
+
+  private boolean join(CompletableFuture<Boolean> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void exportSnapshot() {
+    try {
+      snapshotService.requestExport();
+    } catch (RuntimeException e) {
+      log.warn("공휴일 스냅샷 저장에 실패했습니다.", e);
+    }
+  }
+
+  /**
+   * 적재 대상 국가·연도 중 완료 체크포인트(동기화 상태)가 없는 국가·연도를 조회합니다.
+   *
+   * @param countries 적재할 국가 목록
+   * @return 적재가 필요한 국가·연도 목록
+   */
+  private List<HolidayLoadUnit> findPendingUnits(List<GetCountryResponse> countries) {
+    Set<HolidayLoadUnit> completedUnits = holidaySyncStateRepository.findSyncStates(FROM_YEAR, TO_YEAR).stream()
+        .map(state -> new HolidayLoadUnit(state.getCountryCode(), state.getYear()))
+        .collect(Collectors.toSet());
+
+    List<HolidayLoadUnit> pendingUnits = countries.stream()
+        .flatMap(country -> IntStream.rangeClosed(FROM_YEAR, TO_YEAR)
+            .mapToObj(year -> new HolidayLoadUnit(country.countryCode(), year)))
+        .filter(unit -> !completedUnits.contains(unit))
+        .toList();
+    if (!completedUnits.isEmpty()) {
+      log.info("이전 적재 체크포인트 확인 (완료: {}건, 남은 국가·연도: {}건)", completedUnits.size(), pendingUnits.size());
     }
+    return pendingUnits;
+  }
+
+  /**
+   * 여러 국가의 지정된 연도 범위 공휴일 데이터를 병렬로 조회하면서, 도착한 결과부터 배치 단위로 저장합니다.
+   *
+   * <p><strong>생산자/소비자 파이프라인:</strong>
+   * <ul>
+   *   <li>생산자: 국가·연도 조합마다 가상 스레드에서 API를 호출하고, 결과를 크기가 제한된 큐에 넣습니다.
+   *   동시 호출 수는 {@code app.api.max_concurrency}로 제한하며, 응답은 {@link ApiClient#getHolidayRows}로
+   *   저장용 행으로 바로 디코딩하여 지역·타입 목록을 다시 JSON으로 인코딩하지 않습니다.</li>
+   *   <li>소비자: 현재 스레드가 큐에서 결과를 꺼내 배치 크기만큼 모이면 배치마다 커밋합니다.
+   *   병렬 쓰기가 켜져 있으면 결과를 국가·연도 단위로 {@link HolidayParallelWriter}에 넘깁니다.</li>
+   *   <li>역압(backpressure): 저장이 조회보다 느리면 큐가 가득 차고, 생산자는 빈자리가 날 때까지 대기합니다.</li>
+   * </ul>
+   * 따라서 메모리에는 전체 데이터가 아닌 큐와 배치 버퍼 크기만큼의 결과만 유지됩니다.
+   *
+   * <p>하나의 조회라도 최종 실패하면 남은 조회를 모두 취소하고 예외를 발생시킵니다.
+   * 호출별 지연 시간 요약과 전체 소요 시간을 기록합니다.
+   *
+   * @param units 공휴일을 조회할 국가·연도 목록
+   * @throws RuntimeException API 호출이 모든 재시도 후에도 실패한 경우
+   */
+  private void streamHolidays(List<HolidayLoadUnit> units) {
+    long start = System.currentTimeMillis();
+    LatencyRecorder latencyRecorder = new LatencyRecorder();
+    BlockingQueue<FetchResult> queue = new ArrayBlockingQueue<>(queueCapacity);
+    int taskCount = units.size();
+
+    try (ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(maxConcurrency, "holiday-init-")) {
+      units.forEach(unit -> executor.execute(() -> fetchHolidays(queue, unit.year(), unit.countryCode(), latencyRecorder)));
+
+      try {
+        long savedCount = parallelWriter.isEnabled()
+            ? consumeHolidaysInParallel(queue, taskCount)
+            : consumeHolidays(queue, taskCount);
+        log.info("공휴일 조회·저장 완료 ({}건 저장, {}, 최대 동시 호출: {}, 소요시간: {}ms)",
+            savedCount, latencyRecorder.summarize(), maxConcurrency, System.currentTimeMillis() - start);
+      } catch (RuntimeException e) {
+        executor.shutdownNow();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * 생산자: 특정 연도와 국가의 공휴일을 조회하여 결과(또는 실패)를 큐에 넣습니다.
+   *
+   * @param queue 조회 결과 큐
+   * @param year 조회할 연도
+   * @param countryCode 조회할 국가 코드
+   * @param latencyRecorder 호출별 지연 시간 기록기
+   */
+  private void fetchHolidays(BlockingQueue<FetchResult> queue, int year, String countryCode, LatencyRecorder latencyRecorder) {
+    FetchResult result;
+    try {
+      // 조회 요청으로 이미 즉시 적재된 국가·연도는 다시 조회하지 않습니다.
+      result = loadState.isLoaded(new HolidayLoadUnit(countryCode, year))
+          ? FetchResult.skipped(countryCode, year)
+          : new FetchResult(countryCode, year, getHolidaysWithRetry(year, countryCode, latencyRecorder), null, false);
+    } catch (RuntimeException e) {
+      result = new FetchResult(countryCode, year, List.of(), e, false);
+    }
+
+    try {
+      queue.put(result);
+    } catch (InterruptedException e) {
+      // 소비자가 실패하여 취소된 경우입니다.
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 소비자: 모든 조회 결과가 도착할 때까지 큐에서 꺼내어 배치 단위로 저장합니다.
+   *
+   * <p>배치마다 별도 트랜잭션으로 커밋합니다. 국가·연도의 모든 행이 배치에 담긴 뒤 그 국가·연도의 내용 해시를
+   * 완료 체크포인트로 실어, 마지막 행과 같은 트랜잭션으로 커밋되도록 합니다.
+   *
+   * @param queue 조회 결과 큐
+   * @param taskCount 기다릴 조회 결과 수
+   * @return 저장한 공휴일 수
+   * @throws RuntimeException 조회가 실패했거나 대기 중 인터럽트가 발생한 경우
+   */
+  private long consumeHolidays(BlockingQueue<FetchResult> queue, int taskCount) {
+    List<HolidayRow> batch = new ArrayList<>(batchSize);
+    List<HolidaySyncState> checkpoints = new ArrayList<>();
+    long savedCount = 0;
+
+    for (int received = 0; received < taskCount; received++) {
+      FetchResult result = takeResult(queue);
+      if (result.error() != null) {
+        throw result.error();
+      }
+      if (result.skipped()) {
+        continue;
+      }
+      for (HolidayRow holiday : result.holidays()) {
+        batch.add(holiday);
+        if (batch.size() == batchSize) {
+          savedCount += insertBatch(batch, checkpoints);
+        }
+      }
+      checkpoints.add(HolidaySyncState.of(result.countryCode(), result.year(), HolidayContentHash.ofRows(result.holidays())));
+    }
+    if (!batch.isEmpty() || !checkpoints.isEmpty()) {
+      savedCount += insertBatch(batch, checkpoints);
+    }
+    return savedCount;
+  }
+
+  /**
+   * 병렬 소비자: 조회 결과를 국가·연도 단위로 {@link HolidayParallelWriter}에 넘기고, 모든 저장이 끝날 때까지 기다립니다.
+   *
+   * <p>국가·연도 단위마다 공휴일과 내용 해시가 같은 트랜잭션으로 커밋됩니다.
+   *
+   * @param queue 조회 결과 큐
+   * @param taskCount 기다릴 조회 결과 수
+   * @return 저장한 공휴일 수
+   * @throws RuntimeException 조회 또는 저장이 실패했거나 대기 중 인터럽트가 발생한 경우
+   */
+  private long consumeHolidaysInParallel(BlockingQueue<FetchResult> queue, int taskCount) {
+    try (HolidayParallelWriter.WriteSession session = parallelWriter.open(
+        unit -> markLoaded(new HolidayLoadUnit(unit.countryCode(), unit.year())))) {
+      for (int received = 0; received < taskCount; received++) {
+        FetchResult result = takeResult(queue);
+        if (result.error() != null) {
+          throw result.error();
+        }
+        if (result.skipped()) {
+          continue;
+        }
+        session.submit(new HolidayWriteUnit(result.countryCode(), result.year(), result.holidays(),
+            HolidayContentHash.ofRows(result.holidays())));
+      }
+      BulkWriteReport report = session.finish();
+      log.info("공휴일 병렬 저장 완료 ({})", report);
+      return report.rows();
+    }
+  }
+
+  private FetchResult takeResult(BlockingQueue<FetchResult> queue) {
+    try {
+      return queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("공휴일 조회 결과 대기 중 인터럽트가 발생했습니다.", e);
+    }
+  }
+
+  /**
+   * 배치와 완료 체크포인트를 하나의 트랜잭션으로 저장한 뒤 비웁니다.
+   *
+   * @param batch 저장할 공휴일 행
+   * @param checkpoints 모든 행이 이번 배치까지 담긴 국가·연도의 동기화 상태
+   * @return 저장한 공휴일 수
+   */
+  private int insertBatch(List<HolidayRow> batch, List<HolidaySyncState> checkpoints) {
+    List<HolidayRow> rows = List.copyOf(batch);
+    List<HolidaySyncState> states = List.copyOf(checkpoints);
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      if (!rows.isEmpty()) {
+        holidayRepository.bulkInsertRows(rows);
+      }
+      holidaySyncStateRepository.bulkUpsert(states);
+    });
+    states.forEach(state -> markLoaded(new HolidayLoadUnit(state.getCountryCode(), state.getYear())));
+    batch.clear();
+    checkpoints.clear();
+    return rows.size();
   }
 
   /**
    * 재시도 로직을 포함하여 외부 API에서 국가 정보를 조회합니다.
    *
-   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며,
-   * 모든 시도가 실패하면 예외를 발생시킵니다.
+   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며, 재시도 사이에는 지수 백오프(Jitter 포함)만큼 대기합니다.
+   * 재시도해도 결과가 달라지지 않는 4xx 응답(429 제외)이나 모든 시도가 실패하면 예외를 발생시킵니다.
    *
    * @return 국가 정보 리스트
    * @throws RuntimeException 모든 재시도가 실패한 경우
@@ -116,10 +440,11 @@ public class AppInitService {
       try {
         return apiClient.getCountries();
       } catch (Exception e) {
-        if (attempt == retryCount) {
+        if (attempt == retryCount || !Backoff.isRetryable(e)) {
           // todo : 예외 정의하기
-          throw new RuntimeException();
+          throw new RuntimeException(e);
         }
+        Backoff.sleep(attempt, e, backoffBaseMillis, backoffMaxMillis);
       }
     }
     return Collections.emptyList();
@@ -128,44 +453,67 @@ public class AppInitService {
   /**
    * 재시도 로직을 포함하여 외부 API에서 특정 연도와 국가의 공휴일 데이터를 조회합니다.
    *
-   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며,
-   * 모든 시도가 실패하면 예외를 발생시킵니다.
+   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며, 재시도 사이에는 지수 백오프(Jitter 포함)만큼 대기합니다.
+   * 재시도해도 결과가 달라지지 않는 4xx 응답(429 제외)이나 모든 시도가 실패하면 예외를 발생시킵니다.
    *
    * @param year 조회할 연도
    * @param countryCode 조회할 국가 코드
-   * @return 공휴일 데이터 리스트
+   * @param latencyRecorder 호출별 지연 시간 기록기
+   * @return 공휴일 행 리스트
    * @throws RuntimeException 모든 재시도가 실패한 경우
    */
-  private List<GetHolidayResponse> getHolidaysWithRetry(int year, String countryCode) {
+  private List<HolidayRow> getHolidaysWithRetry(int year, String countryCode, LatencyRecorder latencyRecorder) {
     for (int attempt = 1; attempt <= retryCount; attempt++) {
       try {
-        return apiClient.getHolidays(year, countryCode);
+        return latencyRecorder.record(() -> apiClient.getHolidayRows(year, countryCode));
       } catch (Exception e) {
-        if (attempt == retryCount) {
+        if (attempt == retryCount || !Backoff.isRetryable(e)) {
           // todo : 예외 정의하기
-          throw new RuntimeException();
+          throw new RuntimeException(e);
         }
+        Backoff.sleep(attempt, e, backoffBaseMillis, backoffMaxMillis);
       }
     }
     return Collections.emptyList();
   }
 
   /**
-   * 공휴일 데이터를 배치 단위로 나누어 데이터베이스에 삽입합니다.
+   * 완료 체크포인트가 커밋된 국가·연도를 적재 완료로 표시하고 공휴일 변경 이벤트를 발행합니다.
+   *
+   * <p>적재 전체가 끝나기를 기다리지 않고 국가·연도마다 발행하므로, 이후 다른 국가·연도의 적재가 실패해도
+   * 이미 커밋된 국가·연도의 캐시는 무효화됩니다.
+   *
+   * @param unit 체크포인트가 커밋된 국가·연도
+   */
+  private void markLoaded(HolidayLoadUnit unit) {
+    loadState.markLoaded(unit);
+    eventPublisher.publishEvent(new HolidayChangedEvent(unit.countryCode(), unit.year()));
+  }
+
+  /**
+   * 적재한 모든 국가·연도에 대해 공휴일 변경 이벤트를 발행합니다.
    *
-   * <p>대량의 데이터를 한 번에 삽입하는 것을 방지하기 위해,
-   * 설정된 배치 크기만큼 데이터를 분할하여 순차적으로 삽입합니다.
+   * <p>적재 이전에 조회되어 캐시된 빈 결과가 남지 않도록 캐시가 무효화됩니다.
    *
-   * @param holidays 삽입할 공휴일 데이터 리스트
+   * @param units 적재한 국가·연도 목록
    */
-  private void batchInsertHolidays(List<GetHolidayResponse> holidays) {
-    if (holidays.isEmpty()) {
-      return;
-    }
-    for (int i = 0; i < holidays.size(); i += batchSize) {
-      int endIndex = Math.min(i + batchSize, holidays.size());
-      List<GetHolidayResponse> batch = holidays.subList(i, endIndex);
-      holidayRepository.bulkInsert(batch);
+  private void publishHolidayChangedEvents(List<HolidayLoadUnit> units) {
+    units.forEach(unit -> eventPublisher.publishEvent(new HolidayChangedEvent(unit.countryCode(), unit.year())));
+  }
+
+  /**
+   * 국가·연도별 공휴일 조회 결과
+   *
+   * @param countryCode 조회한 국가 코드
+   * @param year 조회한 연도
+   * @param holidays 조회한 공휴일 행 목록
+   * @param error 모든 재시도 후에도 실패한 경우의 예외 (성공 시 null)
+   * @param skipped 이미 즉시 적재되어 조회를 생략한 경우 true
+   */
+  private record FetchResult(String countryCode, int year, List<HolidayRow> holidays, RuntimeException error, boolean skipped) {
+
+    static FetchResult skipped(String countryCode, int year) {
+      return new FetchResult(countryCode, year, List.of(), null, true);
     }
   }
 }
@@ -0,0 +1,84 @@
+package com.holidaykeeper.api.v1.application.service;
+
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayAddResponse;
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayCountResponse;
+import com.holidaykeeper.api.v1.application.calendar.BusinessDayCalculator;
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 영업일 계산과 관련된 서비스 로직
+ *
+ * <p> BusinessDayUsecase의 구현체로, 구간 내 영업일 수와 N 영업일 후의 날짜 계산 기능을 제공합니다.
+ * 계산은 메모리의 영업일 누적합으로 처리하므로 트랜잭션을 시작하지 않습니다.
+ *
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class BusinessDayService implements BusinessDayUsecase {
+
+  private final BusinessDayCalculator businessDayCalculator;
+
+  /**
+   * 시작일(포함)부터 종료일(제외)까지의 영업일 수를 계산합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param startDate 시작일 (포함)
+   * @param endDate 종료일 (제외)
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (Optional, 없으면 모든 타입)
+   * @return 구간 내 영업일 수
+   * @throws InvalidRequestException 국가 코드·시작일·종료일이 없거나, 공휴일 타입 또는 연도가 올바르지 않거나, 공휴일 데이터가 적재되지 않은 연도인 경우
+   * @since 1.0
+   */
+  @Override
+  public BusinessDayCountResponse countBusinessDays(
+      String countryCode,
+      LocalDate startDate,
+      LocalDate endDate,
+      Optional<String> holidayType
+  ) {
+    if (countryCode == null || startDate == null || endDate == null) {
+      throw new InvalidRequestException("국가 코드와 시작일, 종료일은 필수입니다.");
+    }
+    long businessDays = businessDayCalculator.countBusinessDays(
+        countryCode, startDate, endDate, toHolidayType(holidayType));
+    return new BusinessDayCountResponse(countryCode, startDate, endDate, businessDays);
+  }
+
+  /**
+   * 기준일로부터 N 영업일 후(음수이면 전)의 날짜를 계산합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param date 기준일 (영업일 수에 포함하지 않음)
+   * @param days 더할 영업일 수
+   * @param holidayType 영업일에서 제외할 공휴일 타입 (Optional, 없으면 모든 타입)
+   * @return N 영업일 후의 날짜
+   * @throws InvalidRequestException 국가 코드·기준일이 없거나, 공휴일 타입 또는 연도가 올바르지 않거나, 공휴일 데이터가 적재되지 않은 연도인 경우
+   * @since 1.0
+   */
+  @Override
+  public BusinessDayAddResponse addBusinessDays(
+      String countryCode,
+      LocalDate date,
+      int days,
+      Optional<String> holidayType
+  ) {
+    if (countryCode == null || date == null) {
+      throw new InvalidRequestException("국가 코드와 기준일은 필수입니다.");
+    }
+    LocalDate result = businessDayCalculator.addBusinessDays(countryCode, date, days, toHolidayType(holidayType));
+    return new BusinessDayAddResponse(countryCode, date, days, result);
+  }
+
+  private HolidayType toHolidayType(Optional<String> holidayType) {
+    return holidayType
+        .map(type -> HolidayType.from(type)
+            .orElseThrow(() -> new InvalidRequestException("지원하지 않는 공휴일 타입입니다. ( holidayType: %s )".formatted(type))))
+        .orElse(null);
+  }
+}
@@ -0,0 +1,26 @@
+package com.holidaykeeper.api.v1.application.service;
+
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayAddResponse;
+import com.holidaykeeper.api.v1.Presentation.response.BusinessDayCountResponse;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 영업일 계산과 관련된 Usecase 인터페이스
+ *
+ * @since 1.0
+ */
+public interface BusinessDayUsecase {
+  BusinessDayCountResponse countBusinessDays(
+      String countryCode,
+      LocalDate startDate,
+      LocalDate endDate,
+      Optional<String> holidayType
+  );
+  BusinessDayAddResponse addBusinessDays(
+      String countryCode,
+      LocalDate date,
+      int days,
+      Optional<String> holidayType
+  );
+}
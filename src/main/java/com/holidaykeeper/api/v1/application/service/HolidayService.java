@@ -2,14 +2,31 @@ package com.holidaykeeper.api.v1.application.service;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayCursor;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Presentation.request.LookupHolidayItem;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayCheckResponse;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayLookupResponse;
 import com.holidaykeeper.api.v1.Presentation.response.HolidayResponse;
-import com.holidaykeeper.api.v1.application.util.JsonUtil;
+import com.holidaykeeper.api.v1.application.cache.HolidayCache;
+import com.holidaykeeper.api.v1.application.cache.HolidayCountCache;
+import com.holidaykeeper.api.v1.application.cache.HolidayDataVersion;
+import com.holidaykeeper.api.v1.application.calendar.HolidayCalendarIndex;
+import com.holidaykeeper.api.v1.application.calendar.YearCalendar;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
+import com.holidaykeeper.api.v1.application.util.Backoff;
+import com.holidaykeeper.api.v1.application.util.HolidayContentHash;
 import com.holidaykeeper.api.v1.common.dto.Pagination;
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
 import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import com.holidaykeeper.api.v1.domain.HolidayType;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,42 +37,81 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 공휴일(Holiday)와 관련된 서비스 로직
  *
  * <p> HolidayUsecase의 구현체로, 조회, 재동기화, 삭제 기능을 제공합니다.
  *
+ * <p>캐시·비트셋 인덱스로 응답하는 조회(캐시 적중, 공휴일 여부 확인, ETag)가 커넥션을 잡지 않도록
+ * 클래스 단위 트랜잭션을 두지 않습니다. 데이터베이스 조회는 리포지토리 호출 단위의 읽기 전용 트랜잭션으로 실행되며,
+ * 쓰기 작업만 메서드 단위로 트랜잭션을 시작합니다.
+ *
  * @since 1.0
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class HolidayService implements HolidayUsecase {
 
+  /**
+   * 캐시 조회 시 메모리에서 정렬할 수 있는 정렬 기준
+   *
+   * <p>데이터베이스 정렬과 동일하게 null 값은 오름차순에서 가장 앞에 위치합니다.
+   */
+  private static final Map<String, Comparator<HolidayResponse>> CACHE_SORT_COMPARATORS = Map.of(
+      "date", Comparator.comparing(HolidayResponse::date),
+      "name", Comparator.comparing(HolidayResponse::name),
+      "localName", Comparator.comparing(HolidayResponse::localName),
+      "launchYear", Comparator.comparing(HolidayResponse::launchYear, Comparator.nullsFirst(Comparator.naturalOrder()))
+  );
+
   private final HolidayRepository holidayRepository;
+  private final HolidaySyncStateRepository holidaySyncStateRepository;
   private final ApiClient apiClient;
+  private final HolidayCache holidayCache;
+  private final HolidayCountCache holidayCountCache;
+  private final HolidayCalendarIndex holidayCalendarIndex;
+  private final HolidayDataVersion holidayDataVersion;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PlatformTransactionManager transactionManager;
 
   @Value("${app.api.retry_count}")
   private int retryCount;
 
+  @Value("${app.api.backoff.base_millis}")
+  private long backoffBaseMillis;
+
+  @Value("${app.api.backoff.max_millis}")
+  private long backoffMaxMillis;
+
   @Value("${app.batch.size}")
   private int batchSize;
 
+  @Value("${app.lookup.max_items}")
+  private int lookupMaxItems;
+
   /**
    * 여러 필터링 조건을 기반으로 공휴일 데이터를 조회합니다.
    *
    * <p>연도, 국가 코드, 공휴일 타입 등의 조건으로 필터링하며,
    * 정렬 기준과 페이징 옵션을 지원합니다.
    *
+   * <p>전체 개수는 필터 조합별로 {@link HolidayCountCache}에 캐시되며,
+   * {@code includeTotal}이 false이면 개수 조회 없이 다음 페이지 존재 여부만 반환합니다.
+   *
+   * <p>연도와 국가 코드가 모두 지정된 경우에는 {@link HolidayCache}에서
+   * 해당 국가·연도의 공휴일을 가져와 필터링, 정렬, 페이징을 메모리에서 처리합니다.
+   *
    * @param year 조회할 연도 (Optional)
    * @param countryCode 국가 코드 (Optional, 예: "KR", "US")
    * @param holidayType 공휴일 타입 (Optional)
@@ -63,6 +119,7 @@ public class HolidayService implements HolidayUsecase {
    * @param sortOrder 정렬 순서 (Optional, "ASC" 또는 "DESC", 기본값: "DESC")
    * @param page 페이지 번호 (Optional, 0부터 시작, 기본값: 0)
    * @param size 페이지 크기 (Optional, 기본값: 10)
+   * @param includeTotal 전체 개수 포함 여부 (Optional, 기본값: true)
    * @return 페이징 처리된 공휴일 응답 데이터
    * @since 1.0
    */
@@ -74,7 +131,8 @@ public class HolidayService implements HolidayUsecase {
       Optional<String> sortType,
       Optional<String> sortOrder,
       Optional<Integer> page,
-      Optional<Integer> size
+      Optional<Integer> size,
+      Optional<Boolean> includeTotal
   ) {
     Pageable pageable = PageRequest.of(
         page.orElse(0),
@@ -84,33 +142,292 @@ public class HolidayService implements HolidayUsecase {
         sortType.orElse("date")
     );
 
-    Page<Holiday> holidays = holidayRepository.searchHoliday(
+    boolean withTotal = includeTotal.orElse(true);
+
+    if (year.isPresent() && countryCode.isPresent() && isCacheSortable(pageable)) {
+      return searchHolidayFromCache(year.get(), countryCode.get(), holidayType, pageable, withTotal);
+    }
+
+    if (!withTotal) {
+      // 전체 개수 대신 한 건을 더 조회하여 다음 페이지 존재 여부만 확인합니다.
+      List<Holiday> holidays = holidayRepository.searchHoliday(
+          year,
+          countryCode,
+          holidayType,
+          pageable.getOffset(),
+          pageable.getPageSize() + 1,
+          pageable.getSort()
+      );
+      boolean hasNext = holidays.size() > pageable.getPageSize();
+
+      return Pagination.ofSlice(
+          pageable.getPageNumber(),
+          pageable.getPageSize(),
+          hasNext,
+          toHolidayResponses(hasNext ? holidays.subList(0, pageable.getPageSize()) : holidays)
+      );
+    }
+
+    List<Holiday> holidays = holidayRepository.searchHoliday(
+        year,
+        countryCode,
+        holidayType,
+        pageable.getOffset(),
+        pageable.getPageSize(),
+        pageable.getSort()
+    );
+
+    return Pagination.of(
+        pageable.getPageNumber(),
+        pageable.getPageSize(),
+        holidayCountCache.getCount(year, countryCode, holidayType),
+        toHolidayResponses(holidays)
+    );
+  }
+
+  /**
+   * 커서(keyset) 기반으로 공휴일 데이터를 조회합니다.
+   *
+   * <p>OFFSET 대신 마지막으로 조회한 {@code (date, holiday_id)} 이후의 데이터를 seek 조건으로 조회하며,
+   * 전체 개수 조회는 수행하지 않습니다. 정렬 기준은 날짜로 고정되고, 정렬 순서만 지정할 수 있습니다.
+   *
+   * <p>다음 페이지가 존재하면 응답의 {@code nextCursor}로 다음 요청에 사용할 커서를 반환합니다.
+   *
+   * @param year 조회할 연도 (Optional)
+   * @param countryCode 국가 코드 (Optional)
+   * @param holidayType 공휴일 타입 (Optional)
+   * @param sortOrder 정렬 순서 (Optional, "ASC" 또는 "DESC", 기본값: "DESC")
+   * @param cursor 이전 응답의 nextCursor (Optional, 없으면 첫 페이지)
+   * @param size 페이지 크기 (Optional, 기본값: 10)
+   * @return 커서 정보가 포함된 공휴일 응답 데이터
+   * @throws InvalidRequestException 커서 형식이 올바르지 않거나, 페이지 크기가 1보다 작은 경우
+   * @since 1.0
+   */
+  @Override
+  public Pagination<HolidayResponse> searchHolidayByCursor(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType,
+      Optional<String> sortOrder,
+      Optional<String> cursor,
+      Optional<Integer> size
+  ) {
+    int pageSize = size.orElse(10);
+    if (pageSize < 1) {
+      throw new InvalidRequestException("페이지 크기는 1 이상이어야 합니다. ( size: %d )".formatted(pageSize));
+    }
+    Sort.Direction direction = sortOrder.map(Sort.Direction::fromString).orElse(Direction.DESC);
+
+    // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회합니다.
+    List<Holiday> holidays = holidayRepository.searchHolidayByCursor(
         year,
         countryCode,
         holidayType,
-        pageable
+        cursor.map(HolidayCursor::decode),
+        direction,
+        pageSize + 1
     );
 
-    List<HolidayResponse> holidayRes = holidays.getContent().stream()
-        .map(holiday -> new HolidayResponse(
-            holiday.getCountry().getCode(),
-            holiday.getCountry().getName(),
-            holiday.getDate(),
-            holiday.getLocalName(),
-            holiday.getName(),
-            holiday.getLaunchYear(),
-            JsonUtil.toHolidayType(holiday.getTypesJson())
-        ))
+    boolean hasNext = holidays.size() > pageSize;
+    List<Holiday> page = hasNext ? holidays.subList(0, pageSize) : holidays;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Holiday last = page.get(page.size() - 1);
+      nextCursor = new HolidayCursor(last.getDate(), last.getId()).encode();
+    }
+
+    return Pagination.ofCursor(pageSize, toHolidayResponses(page), nextCursor);
+  }
+
+  /**
+   * 특정 국가에서 해당 날짜가 공휴일 또는 영업일인지 확인합니다.
+   *
+   * <p>{@link HolidayCalendarIndex}의 국가·연도별 비트셋으로 판정하므로,
+   * 최초 적재 이후에는 데이터베이스를 조회하지 않습니다.
+   * 영업일은 영업일 계산과 같은 기준으로, 국가별 주말이 아니면서 필터 조건에 해당하는 전국 공휴일도 아닌 날입니다.
+   * 지역 한정 공휴일은 공휴일로 판정하더라도 국가 전체 기준의 영업일로 봅니다.
+   *
+   * @param countryCode 국가 코드
+   * @param date 확인할 날짜
+   * @param holidayType 공휴일 타입 (Optional, 없으면 모든 타입, 존재하지 않는 타입이면 공휴일이 아닌 것으로 판정)
+   * @param county 지역 코드 (Optional, 지정 시 전국 공휴일과 해당 지역 공휴일만 포함)
+   * @return 공휴일 및 영업일 여부
+   * @throws InvalidRequestException 국가 코드·날짜가 없거나, 저장되지 않은 국가이거나, 지원하지 않거나 공휴일 데이터가 적재되지 않은 연도인 경우
+   * @since 1.0
+   */
+  @Override
+  public HolidayCheckResponse checkHoliday(
+      String countryCode,
+      LocalDate date,
+      Optional<String> holidayType,
+      Optional<String> county
+  ) {
+    if (countryCode == null || date == null) {
+      throw new InvalidRequestException("국가 코드와 날짜는 필수입니다.");
+    }
+    YearCalendar calendar = holidayCalendarIndex.getLoadedYearCalendar(countryCode, date.getYear());
+    int dayIndex = date.getDayOfYear() - 1;
+
+    Optional<HolidayType> type = holidayType.flatMap(HolidayType::from);
+    if (holidayType.isPresent() && type.isEmpty()) {
+      // 존재하지 않는 타입의 공휴일은 없으므로 주말만 영업일에서 제외합니다.
+      return new HolidayCheckResponse(countryCode, date, false, !calendar.isWeekend(dayIndex));
+    }
+
+    boolean holiday = calendar.contains(dayIndex, type.orElse(null), county.orElse(null));
+    boolean businessDay = calendar.isBusinessDay(dayIndex, type.orElse(null));
+
+    return new HolidayCheckResponse(countryCode, date, holiday, businessDay);
+  }
+
+  /**
+   * 여러 (국가 코드, 날짜[, 공휴일 타입]) 조합의 공휴일 정보를 한 번에 조회합니다.
+   *
+   * <p>요청 항목을 (국가 코드, 연도) 단위로 묶어 {@link HolidayCache}에서 그룹당 한 번만 조회하므로,
+   * 데이터베이스 조회는 캐시 미스가 발생한 그룹마다 최대 1회입니다.
+   * 결과는 요청 항목과 같은 순서로 반환합니다.
+   *
+   * @param items 조회할 항목 목록
+   * @return 요청 순서와 동일한 항목별 공휴일 조회 결과
+   * @throws InvalidRequestException 항목 목록이 없거나 최대치를 초과하거나, 국가 코드 또는 날짜가 없는 항목이 있는 경우
+   * @since 1.0
+   */
+  @Override
+  public List<HolidayLookupResponse> lookupHolidays(List<LookupHolidayItem> items) {
+    if (items == null) {
+      throw new InvalidRequestException("조회할 항목 목록은 필수입니다.");
+    }
+    if (items.size() > lookupMaxItems) {
+      throw new InvalidRequestException("한 번에 조회할 수 있는 항목 수를 초과했습니다. ( max: %d )".formatted(lookupMaxItems));
+    }
+
+    Map<LookupGroup, Map<LocalDate, List<HolidayResponse>>> groups = new HashMap<>();
+    List<HolidayLookupResponse> results = new ArrayList<>(items.size());
+
+    for (LookupHolidayItem item : items) {
+      if (item == null || item.countryCode() == null || item.date() == null) {
+        throw new InvalidRequestException("국가 코드와 날짜는 필수입니다.");
+      }
+
+      Map<LocalDate, List<HolidayResponse>> holidaysByDate = groups.computeIfAbsent(
+          new LookupGroup(item.countryCode(), item.date().getYear()),
+          this::loadLookupGroup
+      );
+      List<HolidayResponse> matched = holidaysByDate.getOrDefault(item.date(), List.of()).stream()
+          .filter(holiday -> matchesHolidayType(holiday, item.holidayType()))
+          .toList();
+
+      results.add(new HolidayLookupResponse(item.countryCode(), item.date(), !matched.isEmpty(), matched));
+    }
+    return results;
+  }
+
+  private Map<LocalDate, List<HolidayResponse>> loadLookupGroup(LookupGroup group) {
+    return holidayCache.getHolidays(group.countryCode(), group.year()).stream()
+        .collect(Collectors.groupingBy(HolidayResponse::date));
+  }
+
+  private boolean matchesHolidayType(HolidayResponse holiday, Optional<String> holidayType) {
+    return holidayType
+        .map(type -> HolidayType.from(type).map(holiday.type()::contains).orElse(false))
+        .orElse(true);
+  }
+
+  /**
+   * 검색 조건이 포함하는 범위의 데이터 버전으로 검색 응답의 ETag를 생성합니다.
+   *
+   * <p>데이터베이스를 조회하지 않으므로, 응답 생성 전에 조건부 요청(If-None-Match)을 판정하는 데 사용합니다.
+   *
+   * @param year 연도 (Optional)
+   * @param countryCode 국가 코드 (Optional)
+   * @return 따옴표로 감싸지 않은 ETag 값
+   * @since 1.0
+   */
+  @Override
+  public String getSearchETag(Optional<Integer> year, Optional<String> countryCode) {
+    return holidayDataVersion.getETag(year, countryCode);
+  }
+
+  private List<HolidayResponse> toHolidayResponses(List<Holiday> holidays) {
+    return holidays.stream()
+        .map(HolidayResponse::from)
         .toList();
+  }
+
+  /**
+   * 캐시된 국가·연도의 공휴일 목록에서 필터링, 정렬, 페이징을 수행합니다.
+   *
+   * @param year 조회할 연도
+   * @param countryCode 국가 코드
+   * @param holidayType 공휴일 타입 (Optional)
+   * @param pageable 정렬 및 페이징 정보
+   * @param withTotal 전체 개수 포함 여부
+   * @return 페이징 처리된 공휴일 응답 데이터
+   */
+  private Pagination<HolidayResponse> searchHolidayFromCache(
+      int year,
+      String countryCode,
+      Optional<String> holidayType,
+      Pageable pageable,
+      boolean withTotal
+  ) {
+    Sort.Order order = pageable.getSort().iterator().next();
+    Comparator<HolidayResponse> comparator = CACHE_SORT_COMPARATORS.get(order.getProperty());
+    if (order.isDescending()) {
+      comparator = comparator.reversed();
+    }
+
+    List<HolidayResponse> filtered = holidayCache.getHolidays(countryCode, year).stream()
+        .filter(holiday -> holidayType.map(type -> hasHolidayType(holiday, type)).orElse(true))
+        .sorted(comparator)
+        .toList();
+
+    int fromIndex = (int) Math.min(pageable.getOffset(), filtered.size());
+    int toIndex = Math.min(fromIndex + pageable.getPageSize(), filtered.size());
+
+    if (!withTotal) {
+      return Pagination.ofSlice(
+          pageable.getPageNumber(),
+          pageable.getPageSize(),
+          toIndex < filtered.size(),
+          filtered.subList(fromIndex, toIndex)
+      );
+    }
 
     return Pagination.of(
-        holidays.getNumber(),
-        holidays.getSize(),
-        holidays.getTotalElements(),
-        holidayRes
+        pageable.getPageNumber(),
+        pageable.getPageSize(),
+        (long) filtered.size(),
+        filtered.subList(fromIndex, toIndex)
     );
   }
 
+  /**
+   * 캐시에서 처리할 수 있는 정렬 조건인지 확인합니다.
+   *
+   * @param pageable 정렬 및 페이징 정보
+   * @return 메모리 정렬이 가능한 정렬 기준이면 true
+   */
+  private boolean isCacheSortable(Pageable pageable) {
+    return pageable.getSort().stream()
+        .map(Sort.Order::getProperty)
+        .allMatch(CACHE_SORT_COMPARATORS::containsKey);
+  }
+
+  /**
+   * 공휴일이 외부 API 표기 기준의 특정 타입(예: "Public")을 포함하는지 확인합니다.
+   *
+   * @param holiday 공휴일 응답 데이터
+   * @param type 공휴일 타입 문자열
+   * @return 해당 타입을 포함하면 true
+   */
+  private boolean hasHolidayType(HolidayResponse holiday, String type) {
+    return HolidayType.from(type)
+        .map(holiday.type()::contains)
+        .orElse(false);
+  }
+
   /**
    * 외부 API로부터 공휴일 데이터를 가져와 데이터베이스와 동기화합니다.
    *
@@ -121,15 +438,45 @@ public class HolidayService implements HolidayUsecase {
    *   <li>API에 없는 기존 데이터는 삭제(DELETE)</li>
    * </ul>
    *
+   * <p>API 응답의 내용 해시가 마지막 동기화 시점과 같으면 변경이 없는 것이므로,
+   * 데이터베이스 조회와 비교를 모두 생략합니다. 비교를 수행한 경우에는 새 해시를 저장합니다.
+   *
+   * <p>외부 API 조회와 재시도는 트랜잭션 밖에서 먼저 수행하여, 응답을 기다리거나 재시도 간격만큼 대기하는 동안
+   * 데이터베이스 커넥션을 잡지 않습니다. 해시 비교와 저장만 하나의 트랜잭션으로 실행하며,
+   * 호출한 쪽에 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+   *
+   * <p>같은 국가·연도의 동시 요청을 하나로 합치려면
+   * {@link com.holidaykeeper.api.v1.application.refresh.HolidayRefreshCoordinator}를 거쳐 호출합니다.
+   *
    * @param countryCode 동기화할 국가 코드 (예: "KR")
    * @param year 동기화할 연도
+   * @return 삽입·변경·삭제된 공휴일 수를 담은 재동기화 결과
    * @throws RuntimeException API 호출이 재시도 횟수를 초과하여 실패한 경우
    * @since 1.0
    */
   @Override
-  @Transactional
-  public void refreshHolidays(String countryCode, int year) {
-    Map<HolidayKey, GetHolidayResponse> apiHolidays = fetchHolidaysAsMap(countryCode, year);
+  public HolidayRefreshResult refreshHolidays(String countryCode, int year) {
+    List<GetHolidayResponse> fetchedHolidays = getHolidaysWithRetry(year, countryCode);
+    return new TransactionTemplate(transactionManager)
+        .execute(status -> applyHolidays(countryCode, year, fetchedHolidays));
+  }
+
+  /**
+   * 조회한 공휴일을 데이터베이스와 비교하여 삽입·변경·삭제하고 내용 해시를 저장합니다.
+   *
+   * @param countryCode 동기화할 국가 코드
+   * @param year 동기화할 연도
+   * @param fetchedHolidays 외부 API에서 조회한 공휴일
+   * @return 삽입·변경·삭제된 공휴일 수를 담은 재동기화 결과
+   */
+  private HolidayRefreshResult applyHolidays(String countryCode, int year, List<GetHolidayResponse> fetchedHolidays) {
+    String contentHash = HolidayContentHash.of(fetchedHolidays);
+    if (isAlreadySynced(countryCode, year, contentHash)) {
+      log.debug("공휴일 변경 없음, 동기화 생략 ( countryCode: {}, year: {} )", countryCode, year);
+      return HolidayRefreshResult.unchanged(countryCode, year);
+    }
+
+    Map<HolidayKey, GetHolidayResponse> apiHolidays = toHolidayMap(fetchedHolidays);
     Map<HolidayKey, Holiday> persistHolidays = getPersistHolidaysAsMap(countryCode, year);
 
     List<GetHolidayResponse> toInsert = new ArrayList<>();
@@ -150,17 +497,38 @@ public class HolidayService implements HolidayUsecase {
     if (!toDelete.isEmpty()) {
       holidayRepository.bulkDelete(toDelete);
     }
+
+    holidaySyncStateRepository.bulkUpsert(List.of(HolidaySyncState.of(countryCode, year, contentHash)));
+
+    HolidayRefreshResult result = HolidayRefreshResult.of(countryCode, year, toInsert.size(), toUpdate.size(), toDelete.size());
+    if (result.hasChanges()) {
+      eventPublisher.publishEvent(new HolidayChangedEvent(countryCode, year));
+    }
+    return result;
   }
 
   /**
-   * 외부 API에서 공휴일 데이터를 조회하여 Map으로 변환합니다.
+   * 마지막으로 동기화한 API 응답과 내용 해시가 같은지 확인합니다.
    *
-   * @param countryCode 조회할 국가 코드
-   * @param year 조회할 연도
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @param contentHash 새로 조회한 API 응답의 내용 해시
+   * @return 같으면 true
+   */
+  private boolean isAlreadySynced(String countryCode, int year, String contentHash) {
+    return holidaySyncStateRepository.findContentHash(countryCode, year)
+        .filter(contentHash::equals)
+        .isPresent();
+  }
+
+  /**
+   * 외부 API에서 조회한 공휴일 데이터를 Map으로 변환합니다.
+   *
+   * @param holidays 외부 API 공휴일 응답 데이터
    * @return 공휴일 키(날짜+이름)를 기준으로 한 공휴일 응답 데이터 맵
    */
-  private Map<HolidayKey, GetHolidayResponse> fetchHolidaysAsMap(String countryCode, int year) {
-    return getHolidaysWithRetry(year, countryCode)
+  private Map<HolidayKey, GetHolidayResponse> toHolidayMap(List<GetHolidayResponse> holidays) {
+    return holidays
         .stream()
         .collect(Collectors.toMap(
             holiday -> new HolidayKey(holiday.date(), holiday.name()),
@@ -171,7 +539,8 @@ public class HolidayService implements HolidayUsecase {
   /**
    * 재시도 로직을 포함하여 외부 API에서 공휴일 데이터를 조회합니다.
    *
-   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며, 모두 실패 시 예외를 발생시킵니다.
+   * <p>설정된 재시도 횟수만큼 API 호출을 시도하며, 재시도 사이에는 지수 백오프(Jitter 포함)만큼 대기합니다.
+   * 재시도해도 결과가 달라지지 않는 4xx 응답(429 제외)이나 모든 시도가 실패하면 예외를 발생시킵니다.
    *
    * @param year 조회할 연도
    * @param countryCode 조회할 국가 코드
@@ -183,10 +552,11 @@ public class HolidayService implements HolidayUsecase {
       try {
         return apiClient.getHolidays(year, countryCode);
       } catch (Exception e) {
-        if (attempt == retryCount) {
+        if (attempt == retryCount || !Backoff.isRetryable(e)) {
           // todo : 예외 정의하기
-          throw new RuntimeException();
+          throw new RuntimeException(e);
         }
+        Backoff.sleep(attempt, e, backoffBaseMillis, backoffMaxMillis);
       }
     }
     return Collections.emptyList();
@@ -278,6 +648,15 @@ public class HolidayService implements HolidayUsecase {
     });
   }
 
+  /**
+   * 일괄 조회 시 공휴일을 한 번에 조회하는 (국가 코드, 연도) 단위
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   */
+  private record LookupGroup(String countryCode, int year) {
+  }
+
   /**
    * 공휴일의 고유 키를 나타내는 레코드 클래스
    *
@@ -313,5 +692,12 @@ public class HolidayService implements HolidayUsecase {
   public void deleteHolidays(String countryCode, int year) {
     List<Holiday> holidays = holidayRepository.findByCountryCodeAndYear(countryCode, year);
     holidayRepository.bulkDelete(holidays);
+    // 동기화 상태를 지우면 재시작 시 초기 적재가 삭제한 데이터를 다시 적재하므로, 삭제 표시로 남깁니다.
+    // 삭제 표시는 어떤 응답의 해시와도 다르므로 재동기화하면 API 응답이 같더라도 다시 저장됩니다.
+    holidaySyncStateRepository.bulkUpsert(List.of(HolidaySyncState.of(countryCode, year, HolidayContentHash.DELETED)));
+
+    if (!holidays.isEmpty()) {
+      eventPublisher.publishEvent(new HolidayChangedEvent(countryCode, year));
+    }
   }
 }
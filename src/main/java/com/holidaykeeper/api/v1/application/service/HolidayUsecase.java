@@ -1,7 +1,13 @@
 package com.holidaykeeper.api.v1.application.service;
 
+import com.holidaykeeper.api.v1.Presentation.request.LookupHolidayItem;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayCheckResponse;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayLookupResponse;
 import com.holidaykeeper.api.v1.Presentation.response.HolidayResponse;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
 import com.holidaykeeper.api.v1.common.dto.Pagination;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,8 +23,25 @@ public interface HolidayUsecase {
       Optional<String> sortType,
       Optional<String> sortOrder,
       Optional<Integer> page,
+      Optional<Integer> size,
+      Optional<Boolean> includeTotal
+  );
+  Pagination<HolidayResponse> searchHolidayByCursor(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<String> holidayType,
+      Optional<String> sortOrder,
+      Optional<String> cursor,
       Optional<Integer> size
   );
-  void refreshHolidays(String countryCode, int year);
+  String getSearchETag(Optional<Integer> year, Optional<String> countryCode);
+  HolidayCheckResponse checkHoliday(
+      String countryCode,
+      LocalDate date,
+      Optional<String> holidayType,
+      Optional<String> county
+  );
+  List<HolidayLookupResponse> lookupHolidays(List<LookupHolidayItem> items);
+  HolidayRefreshResult refreshHolidays(String countryCode, int year);
   void deleteHolidays(String countryCode, int year);
 }
@@ -0,0 +1,76 @@
+package com.holidaykeeper.api.v1.application.service;
+
+import com.holidaykeeper.api.v1.Presentation.response.SyncJobResponse;
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncJobHistory;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshJobRunner;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공휴일 동기화 작업 조회·요청 서비스
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncJobService implements SyncJobUsecase {
+
+  static final String MANUAL_REFRESH_JOB = "MANUAL_HOLIDAY_REFRESH";
+
+  private final SyncJobHistory syncJobHistory;
+  private final HolidayRefreshJobRunner refreshJobRunner;
+
+  /**
+   * 최근 동기화 작업을 최신순으로 조회합니다.
+   *
+   * @param limit 조회할 최대 작업 수
+   * @return 최근 동기화 작업 목록 (진행 중인 작업 포함)
+   */
+  @Override
+  public List<SyncJobResponse> getRecentJobs(int limit) {
+    return syncJobHistory.recent(limit).stream()
+        .map(SyncJobResponse::from)
+        .toList();
+  }
+
+  /**
+   * 동기화 작업을 조회합니다.
+   *
+   * @param id 작업 ID
+   * @return 동기화 작업 (보관된 작업이 아니면 Optional.empty())
+   */
+  @Override
+  public Optional<SyncJobResponse> getJob(UUID id) {
+    return syncJobHistory.find(id).map(SyncJobResponse::from);
+  }
+
+  /**
+   * 특정 국가와 연도의 공휴일 재동기화를 작업으로 기록하고 {@code refreshExecutor}에 넘깁니다.
+   *
+   * <p>작업 ID로 상태와 소요 시간, 삽입·변경·삭제된 공휴일 수를 조회할 수 있습니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 대기 상태의 작업
+   * @throws TaskRejectedException 실행 대기열이 가득 차 작업을 받을 수 없는 경우 (작업은 실패로 기록됩니다)
+   */
+  @Override
+  public SyncJobResponse submitRefresh(String countryCode, int year) {
+    SyncJob job = syncJobHistory.create("%s:%s".formatted(MANUAL_REFRESH_JOB, countryCode), List.of(year));
+    try {
+      refreshJobRunner.run(job, countryCode, year);
+    } catch (TaskRejectedException e) {
+      job.fail(e);
+      log.warn("공휴일 재동기화 작업을 실행 대기열에 넣지 못했습니다. (id: {})", job.getId());
+      throw e;
+    }
+    return SyncJobResponse.from(job);
+  }
+}
@@ -0,0 +1,17 @@
+package com.holidaykeeper.api.v1.application.service;
+
+import com.holidaykeeper.api.v1.Presentation.response.SyncJobResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 공휴일 동기화 작업 조회·요청과 관련된 Usecase 인터페이스
+ *
+ * @since 1.0
+ */
+public interface SyncJobUsecase {
+  List<SyncJobResponse> getRecentJobs(int limit);
+  Optional<SyncJobResponse> getJob(UUID id);
+  SyncJobResponse submitRefresh(String countryCode, int year);
+}
@@ -0,0 +1,222 @@
+package com.holidaykeeper.api.v1.application.snapshot;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshot;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshotStore;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadPhase;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadUnit;
+import com.holidaykeeper.api.v1.application.util.HolidayContentHash;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 스냅샷 내보내기·가져오기 서비스
+ *
+ * <p>인메모리 데이터베이스는 재시작할 때마다 비워지므로, 동기화가 완료된 국가·연도의 공휴일을
+ * {@link HolidaySnapshotStore}에 바이너리 스냅샷으로 보관하고 다음 시작 시 외부 API 대신 스냅샷에서 적재합니다.
+ *
+ * <p><strong>내보내기 시점:</strong>
+ * <ul>
+ *   <li>초기 적재가 끝난 뒤 ({@code AppInitService})</li>
+ *   <li>재동기화·삭제로 {@link HolidayChangedEvent}가 커밋된 뒤 (여러 변경은 한 번의 내보내기로 합쳐집니다)</li>
+ * </ul>
+ * 내보내기는 모두 {@code snapshotExecutor}의 스레드 하나에서 차례로 실행됩니다.
+ *
+ * <p>신선도는 국가·연도마다 외부 API 응답을 받은 시각({@code syncedAt})으로 판단합니다. 스냅샷을 다시 저장하거나
+ * 스냅샷에서 가져와도 이 시각은 바뀌지 않으며, {@code app.snapshot.max_age_hours}시간이 지난 국가·연도는
+ * 스냅샷에서 가져오지 않고 외부 API에서 다시 적재합니다.
+ *
+ * <p>관리자가 삭제한 국가·연도는 공휴일 없이 삭제 표시({@link HolidayContentHash#DELETED})만 내보냅니다.
+ * 삭제 표시는 외부 API 응답이 아니므로 기간과 관계없이 가져오며, 재시작 뒤에도 재동기화 전까지 삭제 상태가 유지됩니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class HolidaySnapshotService {
+
+  private final HolidaySnapshotStore snapshotStore;
+  private final CountryRepository countryRepository;
+  private final HolidayRepository holidayRepository;
+  private final HolidaySyncStateRepository holidaySyncStateRepository;
+  private final HolidayLoadState loadState;
+  private final Executor snapshotExecutor;
+  private final Duration maxAge;
+
+  private final AtomicBoolean exportRequested = new AtomicBoolean();
+
+  public HolidaySnapshotService(
+      HolidaySnapshotStore snapshotStore,
+      CountryRepository countryRepository,
+      HolidayRepository holidayRepository,
+      HolidaySyncStateRepository holidaySyncStateRepository,
+      HolidayLoadState loadState,
+      @Qualifier("snapshotExecutor") Executor snapshotExecutor,
+      @Value("${app.snapshot.max_age_hours}") long maxAgeHours
+  ) {
+    this.snapshotStore = snapshotStore;
+    this.countryRepository = countryRepository;
+    this.holidayRepository = holidayRepository;
+    this.holidaySyncStateRepository = holidaySyncStateRepository;
+    this.loadState = loadState;
+    this.snapshotExecutor = snapshotExecutor;
+    this.maxAge = Duration.ofHours(maxAgeHours);
+  }
+
+  /**
+   * 사용할 수 있는 스냅샷을 읽습니다.
+   *
+   * <p>동기화된 지 최대 보관 기간이 지난 국가·연도는 제외합니다. 삭제 표시는 기간과 관계없이 남깁니다.
+   *
+   * @return 최대 보관 기간이 지나지 않은 국가·연도만 남긴 스냅샷 (남은 국가·연도가 없으면 Optional.empty())
+   */
+  public Optional<HolidaySnapshot> readFresh() {
+    Instant threshold = Instant.now().minus(maxAge);
+    return snapshotStore.read().flatMap(snapshot -> {
+      List<HolidaySnapshot.Unit> freshUnits = snapshot.units().stream()
+          .filter(unit -> unit.syncedAt().isAfter(threshold) || HolidayContentHash.DELETED.equals(unit.contentHash()))
+          .toList();
+      if (freshUnits.isEmpty()) {
+        log.info("오래된 공휴일 스냅샷은 사용하지 않습니다. ( createdAt: {} )", snapshot.createdAt());
+        return Optional.empty();
+      }
+      if (freshUnits.size() < snapshot.units().size()) {
+        log.info("오래된 국가·연도는 스냅샷에서 가져오지 않습니다. ( staleUnits: {} )", snapshot.units().size() - freshUnits.size());
+      }
+      return Optional.of(new HolidaySnapshot(snapshot.createdAt(), snapshot.countries(), freshUnits));
+    });
+  }
+
+  /**
+   * 스냅샷의 국가·연도 중 데이터베이스에 동기화 상태가 없는 국가·연도만 공휴일과 동기화 상태를 함께 저장합니다.
+   *
+   * <p>국가는 미리 저장되어 있어야 합니다. 데이터베이스에 이미 동기화 상태가 있는 국가·연도는 데이터베이스가 더 최신일 수 있으므로
+   * 덮어쓰지 않습니다. 동기화 시각은 스냅샷에 기록된 원래 시각을 유지합니다.
+   *
+   * @param snapshot 가져올 스냅샷
+   * @return 가져온 국가·연도 목록
+   */
+  @Transactional
+  public List<HolidayLoadUnit> importSnapshot(HolidaySnapshot snapshot) {
+    if (snapshot.units().isEmpty()) {
+      return List.of();
+    }
+    long start = System.currentTimeMillis();
+    IntSummaryStatistics years = snapshot.units().stream().mapToInt(HolidaySnapshot.Unit::year).summaryStatistics();
+    Set<HolidayLoadUnit> syncedUnits = holidaySyncStateRepository.findSyncStates(years.getMin(), years.getMax()).stream()
+        .map(state -> new HolidayLoadUnit(state.getCountryCode(), state.getYear()))
+        .collect(Collectors.toSet());
+
+    List<HolidaySnapshot.Unit> units = snapshot.units().stream()
+        .filter(unit -> !syncedUnits.contains(new HolidayLoadUnit(unit.countryCode(), unit.year())))
+        .toList();
+    List<HolidayRow> rows = units.stream().flatMap(unit -> unit.rows().stream()).toList();
+    if (!rows.isEmpty()) {
+      holidayRepository.bulkInsertRows(rows);
+    }
+    holidaySyncStateRepository.bulkUpsert(units.stream()
+        .map(unit -> HolidaySyncState.of(unit.countryCode(), unit.year(), unit.contentHash(),
+            LocalDateTime.ofInstant(unit.syncedAt(), ZoneId.systemDefault())))
+        .toList());
+
+    log.info("공휴일 스냅샷 적재 완료 (국가·연도: {}건, 공휴일: {}건, 소요시간: {}ms)",
+        units.size(), rows.size(), System.currentTimeMillis() - start);
+    return units.stream().map(unit -> new HolidayLoadUnit(unit.countryCode(), unit.year())).toList();
+  }
+
+  /**
+   * 스냅샷 내보내기를 요청합니다.
+   *
+   * <p>이미 대기 중인 내보내기가 있으면 그 내보내기에 합쳐집니다. 대기 중인 내보내기는 데이터를 읽기 직전에 요청 표시를
+   * 지우므로, 그 뒤에 커밋된 변경은 다음 내보내기에 반영됩니다.
+   */
+  public void requestExport() {
+    if (!snapshotStore.isEnabled() || !exportRequested.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      snapshotExecutor.execute(() -> {
+        try {
+          export();
+        } catch (RuntimeException e) {
+          log.warn("공휴일 스냅샷 저장에 실패했습니다.", e);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      exportRequested.set(false);
+      log.warn("공휴일 스냅샷 저장 요청이 거절되었습니다.", e);
+    }
+  }
+
+  /**
+   * 동기화가 완료된 모든 국가·연도의 공휴일을 스냅샷으로 저장합니다.
+   *
+   * <p>삭제된 공휴일은 저장하지 않으며, 삭제 표시가 남은 국가·연도는 공휴일 없이 동기화 상태만 저장합니다.
+   *
+   * <p>{@code snapshotExecutor}에서만 실행되므로 내보내기끼리 겹치지 않습니다.
+   */
+  void export() {
+    exportRequested.set(false);
+    long start = System.currentTimeMillis();
+    List<GetCountryResponse> countries = countryRepository.findAll().stream()
+        .map(country -> new GetCountryResponse(country.getCode(), country.getName()))
+        .toList();
+    Map<HolidayLoadUnit, List<HolidayRow>> rowsByUnit = holidayRepository.findAllRows().stream()
+        .collect(Collectors.groupingBy(row -> new HolidayLoadUnit(row.countryCode(), row.date().getYear())));
+
+    List<HolidaySnapshot.Unit> units = new ArrayList<>();
+    for (HolidaySyncState state : holidaySyncStateRepository.findAll()) {
+      List<HolidayRow> rows = HolidayContentHash.DELETED.equals(state.getContentHash())
+          ? List.of()
+          : rowsByUnit.getOrDefault(new HolidayLoadUnit(state.getCountryCode(), state.getYear()), List.of());
+      Instant syncedAt = state.getSyncedAt().atZone(ZoneId.systemDefault()).toInstant();
+      units.add(new HolidaySnapshot.Unit(state.getCountryCode(), state.getYear(), state.getContentHash(), syncedAt, rows));
+    }
+
+    HolidaySnapshot snapshot = new HolidaySnapshot(Instant.now(), countries, units);
+    snapshotStore.write(snapshot);
+    log.info("공휴일 스냅샷 저장 완료 (국가: {}건, 국가·연도: {}건, 공휴일: {}건, 소요시간: {}ms)",
+        countries.size(), units.size(), snapshot.rowCount(), System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 공휴일 변경이 커밋된 뒤 스냅샷 내보내기를 요청합니다.
+   *
+   * <p>초기 적재 중에는 적재가 끝난 뒤 한 번만 내보내므로 요청하지 않습니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidayChanged(HolidayChangedEvent event) {
+    HolidayLoadPhase phase = loadState.getPhase();
+    if (phase == HolidayLoadPhase.LOADING_COUNTRIES || phase == HolidayLoadPhase.LOADING_HOLIDAYS) {
+      return;
+    }
+    requestExport();
+  }
+}
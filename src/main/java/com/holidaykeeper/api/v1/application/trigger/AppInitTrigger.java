@@ -1,8 +1,10 @@
 package com.holidaykeeper.api.v1.application.trigger;
 
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
 import com.holidaykeeper.api.v1.application.service.AppInitService;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
@@ -17,16 +19,25 @@ import org.springframework.stereotype.Component;
  * ApplicationReadyEvent는 애플리케이션 컨텍스트가 완전히 준비되고,
  * 모든 빈이 초기화되며, 애플리케이션이 요청을 받을 준비가 완료된 시점에 발생합니다.
  *
+ * <p><strong>백그라운드 적재:</strong>
+ * 적재는 {@code holidayExecutor}에서 실행되므로 애플리케이션 시작을 막지 않습니다.
+ * 진행 상태는 {@link HolidayLoadState}로 확인할 수 있습니다.
+ *
  * @see AppInitService
  * @see ApplicationReadyEvent
  * @since 1.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AppInitTrigger implements ApplicationListener<ApplicationReadyEvent> {
 
   private final AppInitService appInitService;
+  private final Executor holidayExecutor;
+
+  public AppInitTrigger(AppInitService appInitService, @Qualifier("holidayExecutor") Executor holidayExecutor) {
+    this.appInitService = appInitService;
+    this.holidayExecutor = holidayExecutor;
+  }
 
   /**
    * 애플리케이션이 완전히 준비된 후 초기 데이터 로딩을 수행합니다.
@@ -43,7 +54,7 @@ public class AppInitTrigger implements ApplicationListener<ApplicationReadyEvent
    * <p><strong>주의사항:</strong>
    * 이 작업은 애플리케이션 시작 시 한 번만 실행되며,
    * 대량의 데이터를 처리하므로 완료까지 수십 초가 소요될 수 있습니다.
-   * 작업이 완료되기 전까지는 관련 API 엔드포인트에서 데이터가 조회되지 않을 수 있습니다.
+   * 작업이 완료되기 전에 조회된 국가·연도는 조회 시점에 즉시 적재됩니다.
    *
    * @param event 애플리케이션 준비 완료 이벤트
    * @see AppInitService#saveRecentHolidays()
@@ -51,6 +62,12 @@ public class AppInitTrigger implements ApplicationListener<ApplicationReadyEvent
    */
   @Override
   public void onApplicationEvent(ApplicationReadyEvent event) {
-    appInitService.saveRecentHolidays();
+    holidayExecutor.execute(() -> {
+      try {
+        appInitService.saveRecentHolidays();
+      } catch (RuntimeException e) {
+        log.error("초기 공휴일 적재 실패", e);
+      }
+    });
   }
 }
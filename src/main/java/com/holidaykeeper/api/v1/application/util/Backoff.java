@@ -0,0 +1,86 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import com.holidaykeeper.api.v1.common.exception.NonRetryableException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 외부 API 재시도 간격 계산 유틸
+ *
+ * <p>지수 백오프에 Full Jitter를 적용하여, 여러 스레드가 동시에 실패해도 재시도가 한 시점에 몰리지 않도록 합니다.
+ * 429 응답에 {@code Retry-After} 헤더(초)가 있으면 그보다 먼저 재시도하지 않으며,
+ * 헤더 값이 대기 시간 상한보다 길면 상한까지만 대기합니다.
+ *
+ * @since 1.0
+ */
+public class Backoff {
+
+  private Backoff() {
+  }
+
+  /**
+   * 재시도해도 결과가 달라질 수 있는 실패인지 확인합니다.
+   *
+   * <p>429, 5xx 응답과 연결 실패 등은 재시도하고, 그 외 4xx 응답과 {@link NonRetryableException}은 재시도하지 않습니다.
+   *
+   * @param e 발생한 예외
+   * @return 재시도 대상이면 true
+   */
+  public static boolean isRetryable(Exception e) {
+    if (e instanceof NonRetryableException) {
+      return false;
+    }
+    if (e instanceof RestClientResponseException response) {
+      return response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+          || response.getStatusCode().is5xxServerError();
+    }
+    return true;
+  }
+
+  /**
+   * 재시도 전 대기 시간을 계산합니다.
+   *
+   * @param attempt 실패한 시도 횟수 (1부터 시작)
+   * @param e 발생한 예외
+   * @param baseMillis 첫 재시도의 최대 대기 시간
+   * @param maxMillis 대기 시간 상한
+   * @return 0 ~ min(maxMillis, baseMillis * 2^(attempt - 1)) 사이의 무작위 대기 시간
+   *         (Retry-After가 더 길면 Retry-After, 단 maxMillis를 넘지 않음)
+   */
+  public static long delayMillis(int attempt, Exception e, long baseMillis, long maxMillis) {
+    long ceiling = Math.min(maxMillis, baseMillis << Math.min(attempt - 1, 30));
+    long delay = ThreadLocalRandom.current().nextLong(Math.max(ceiling, 0) + 1);
+    // 서버가 보낸 Retry-After가 아무리 길어도 호출 스레드를 상한보다 오래 붙잡지 않습니다.
+    return Math.min(Math.max(delay, retryAfterMillis(e)), Math.max(maxMillis, 0));
+  }
+
+  /**
+   * 재시도 전 대기 시간만큼 현재 스레드를 대기시킵니다.
+   *
+   * @throws IllegalStateException 대기 중 인터럽트가 발생한 경우
+   */
+  public static void sleep(int attempt, Exception e, long baseMillis, long maxMillis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(delayMillis(attempt, e, baseMillis, maxMillis));
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("재시도 대기 중 인터럽트가 발생했습니다.", ie);
+    }
+  }
+
+  private static long retryAfterMillis(Exception e) {
+    if (!(e instanceof RestClientResponseException response) || response.getResponseHeaders() == null) {
+      return 0;
+    }
+    String retryAfter = response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+    try {
+      return retryAfter == null ? 0 : TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+    } catch (NumberFormatException ignored) {
+      // HTTP-date 형식은 지원하지 않으며, 지수 백오프 간격을 사용합니다.
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수를 제한하는 가상 스레드 실행기
+ *
+ * <p>작업마다 가상 스레드를 하나씩 생성하므로, 외부 API 호출처럼 I/O 대기가 대부분인 작업의 동시성이
+ * CPU 코어 수에 묶이지 않습니다. 대신 외부 API에 가하는 부하는 세마포어로 제한합니다.
+ *
+ * <p>작업 제출은 차단되지 않으며, 허용치를 초과한 작업은 가상 스레드 안에서 대기합니다.
+ * 완료를 기다려야 하는 작업은 {@link #runAsync}로 제출해야 합니다. {@link #execute}로 제출한 작업은
+ * {@link #shutdownNow()}로 취소되면 실행되지 않고 사라지므로, 다른 스레드가 결과를 기다리지 않는 작업에만 사용합니다.
+ *
+ * @since 1.0
+ */
+public class ConcurrencyLimitedExecutor implements Executor, AutoCloseable {
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+
+  public ConcurrencyLimitedExecutor(int maxConcurrency, String threadNamePrefix) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("maxConcurrency는 0보다 커야 합니다.");
+    }
+    this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    delegate.execute(() -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        // shutdownNow()로 취소된 작업은 실행하지 않습니다.
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        task.run();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+
+  /**
+   * 작업을 제출하고 완료를 나타내는 CompletableFuture를 반환합니다.
+   *
+   * <p>실행 전에 {@link #shutdownNow()}로 취소되거나 제출이 거절되어도 CompletableFuture는 예외로 완료되므로,
+   * 결과를 기다리는 쪽이 영원히 대기하지 않습니다.
+   *
+   * @param task 실행할 작업
+   * @return 작업이 끝나면 완료되고, 작업이 실패하거나 취소되면 예외로 완료되는 CompletableFuture
+   */
+  public CompletableFuture<Void> runAsync(Runnable task) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      delegate.execute(() -> {
+        try {
+          permits.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          future.completeExceptionally(new CancellationException("실행 전에 취소된 작업입니다."));
+          return;
+        }
+        try {
+          task.run();
+          future.complete(null);
+        } catch (Throwable e) {
+          future.completeExceptionally(e);
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * 실행 중이거나 대기 중인 모든 작업을 인터럽트하여 취소합니다.
+   */
+  public void shutdownNow() {
+    delegate.shutdownNow();
+  }
+
+  /**
+   * 제출된 모든 작업이 끝날 때까지 기다린 뒤 실행기를 종료합니다.
+   */
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
@@ -0,0 +1,100 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 외부 API 공휴일 응답의 내용 해시 유틸
+ *
+ * <p>응답 목록을 (날짜, 이름, 현지 이름) 순으로 정렬한 뒤 모든 필드를 길이 접두 형식으로 이어 붙여
+ * SHA-256 해시를 계산합니다. 따라서 응답 내 공휴일의 순서가 달라도 같은 해시가 나오며,
+ * 한 필드라도 달라지면 다른 해시가 나옵니다.
+ *
+ * <p>지역·타입 목록은 저장되는 JSON 문자열로 비교하므로 {@code Holiday#hasChanges}와 같이 순서까지 구분하며,
+ * {@link GetHolidayResponse} 목록과 {@link HolidayRow} 목록 중 어느 것으로 계산해도 같은 내용이면 같은 해시가 나옵니다.
+ *
+ * @since 1.0
+ */
+public class HolidayContentHash {
+
+  /**
+   * 관리자가 삭제한 국가·연도의 동기화 상태에 남기는 표시(tombstone)
+   *
+   * <p>16진수 해시가 아니므로 어떤 API 응답의 해시와도 같지 않습니다. 따라서 재동기화하면 다시 저장되지만,
+   * 동기화 상태는 남아 있으므로 재시작 시 초기 적재가 삭제된 데이터를 되살리지 않습니다.
+   */
+  public static final String DELETED = "deleted";
+
+  private static final Comparator<HolidayRow> CANONICAL_ORDER = Comparator
+      .comparing(HolidayRow::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+      .thenComparing(HolidayRow::name, Comparator.nullsFirst(Comparator.naturalOrder()))
+      .thenComparing(HolidayRow::localName, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  private HolidayContentHash() {
+  }
+
+  /**
+   * 공휴일 응답 목록의 내용 해시를 계산합니다.
+   *
+   * @param holidays 같은 국가·연도의 공휴일 응답 목록
+   * @return 64자리 16진수 SHA-256 해시
+   */
+  public static String of(List<GetHolidayResponse> holidays) {
+    return ofRows(holidays.stream().map(HolidayRow::from).toList());
+  }
+
+  /**
+   * 일괄 저장용 공휴일 행 목록의 내용 해시를 계산합니다.
+   *
+   * @param holidays 같은 국가·연도의 공휴일 행 목록
+   * @return 64자리 16진수 SHA-256 해시
+   */
+  public static String ofRows(List<HolidayRow> holidays) {
+    MessageDigest digest = newDigest();
+    try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+      List<HolidayRow> sorted = holidays.stream().sorted(CANONICAL_ORDER).toList();
+      out.writeInt(sorted.size());
+      for (HolidayRow holiday : sorted) {
+        writeString(out, holiday.date() == null ? null : holiday.date().toString());
+        writeString(out, holiday.localName());
+        writeString(out, holiday.name());
+        writeString(out, holiday.countryCode());
+        writeString(out, String.valueOf(holiday.fixed()));
+        writeString(out, String.valueOf(holiday.global()));
+        writeString(out, holiday.countiesJson());
+        writeString(out, String.valueOf(holiday.launchYear()));
+        writeString(out, holiday.typesJson());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeBoolean(false);
+      return;
+    }
+    out.writeBoolean(true);
+    out.writeUTF(value);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
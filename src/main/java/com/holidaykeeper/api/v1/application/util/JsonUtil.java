@@ -17,6 +17,21 @@ public class JsonUtil {
     }
   }
 
+  public static List<String> toStringList(String json) {
+    if (json == null || json.isEmpty()) {
+      return List.of();
+    }
+    try {
+      List<String> values = objectMapper.readValue(
+          json,
+          objectMapper.getTypeFactory().constructCollectionType(List.class, String.class)
+      );
+      return values != null ? values : List.of();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("JSON 변환 중 문제가 발생했습니다.", e);
+    }
+  }
+
   public static List<HolidayType> toHolidayType(String typesJson) {
     if (typesJson == null || typesJson.isEmpty()) {
       return List.of();
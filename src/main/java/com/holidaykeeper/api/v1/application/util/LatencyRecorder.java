@@ -0,0 +1,63 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 지연 시간 기록기
+ *
+ * <p>호출마다 소요 시간을 기록하고, 작업이 끝난 뒤 건수·평균·백분위·최대 지연 시간을 요약합니다.
+ * 여러 스레드에서 동시에 기록할 수 있습니다.
+ *
+ * @since 1.0
+ */
+public class LatencyRecorder {
+
+  private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 호출을 실행하고 소요 시간을 기록합니다. 호출이 실패해도 소요 시간은 기록됩니다.
+   *
+   * @param call 실행할 호출
+   * @return 호출 결과
+   */
+  public <T> T record(Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      samples.add((System.nanoTime() - start) / 1_000_000);
+    }
+  }
+
+  public LatencySummary summarize() {
+    long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+    if (sorted.length == 0) {
+      return new LatencySummary(0, 0, 0, 0, 0);
+    }
+    return new LatencySummary(
+        sorted.length,
+        (long) Arrays.stream(sorted).average().orElse(0),
+        percentile(sorted, 50),
+        percentile(sorted, 95),
+        sorted[sorted.length - 1]
+    );
+  }
+
+  private long percentile(long[] sorted, int percent) {
+    int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(index, 0)];
+  }
+
+  /**
+   * 지연 시간 요약 (단위: ms)
+   */
+  public record LatencySummary(int count, long avgMillis, long p50Millis, long p95Millis, long maxMillis) {
+    @Override
+    public String toString() {
+      return "호출 %d건, 평균 %dms, p50 %dms, p95 %dms, 최대 %dms"
+          .formatted(count, avgMillis, p50Millis, p95Millis, maxMillis);
+    }
+  }
+}
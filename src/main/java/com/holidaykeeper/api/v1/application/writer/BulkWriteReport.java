@@ -0,0 +1,22 @@
+package com.holidaykeeper.api.v1.application.writer;
+
+/**
+ * 병렬 쓰기 결과 요약
+ *
+ * @param units 저장한 국가·연도 단위 수
+ * @param rows 저장한 공휴일 행 수
+ * @param writers 쓰기 작업자(커넥션) 수
+ * @param elapsedMillis 소요 시간
+ */
+public record BulkWriteReport(int units, long rows, int writers, long elapsedMillis) {
+
+  public long rowsPerSecond() {
+    return elapsedMillis == 0 ? rows * 1000 : rows * 1000 / elapsedMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "%d개 단위, %d건, 작업자 %d개, %dms, 초당 %d건"
+        .formatted(units, rows, writers, elapsedMillis, rowsPerSecond());
+  }
+}
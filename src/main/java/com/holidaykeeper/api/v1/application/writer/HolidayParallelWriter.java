@@ -0,0 +1,178 @@
+package com.holidaykeeper.api.v1.application.writer;
+
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.application.util.ConcurrencyLimitedExecutor;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 국가별로 분할하여 여러 커넥션에서 동시에 저장하는 공휴일 병렬 쓰기 모듈
+ *
+ * <p>단일 커넥션에서 배치를 차례로 실행하면 대량 적재 속도가 한 커넥션의 쓰기 속도에 묶이므로,
+ * 국가·연도 단위를 국가 코드 기준으로 {@code app.batch.parallel_writers}개의 작업자에게 나누어 저장합니다.
+ * 같은 국가는 항상 같은 작업자가 저장하므로 작업자끼리 같은 인덱스 범위를 두고 경합하지 않습니다.
+ *
+ * <p><strong>트랜잭션:</strong>
+ * 국가·연도 단위마다 새 트랜잭션에서 공휴일과 동기화 상태를 함께 저장하므로,
+ * 단위별로는 전부 저장되거나 전부 저장되지 않습니다. 단위 간에는 원자성이 없으며,
+ * 하나라도 실패하면 남은 단위는 저장하지 않고 {@link WriteSession#finish()}에서 예외를 발생시킵니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class HolidayParallelWriter {
+
+  private static final HolidayWriteUnit END = new HolidayWriteUnit("", 0, List.of(), "");
+
+  private final HolidayRepository holidayRepository;
+  private final HolidaySyncStateRepository holidaySyncStateRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int writers;
+  private final int queueCapacity;
+
+  public HolidayParallelWriter(
+      HolidayRepository holidayRepository,
+      HolidaySyncStateRepository holidaySyncStateRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.batch.parallel_writers}") int writers,
+      @Value("${app.batch.queue_capacity}") int queueCapacity
+  ) {
+    this.holidayRepository = holidayRepository;
+    this.holidaySyncStateRepository = holidaySyncStateRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.writers = Math.max(writers, 1);
+    this.queueCapacity = queueCapacity;
+  }
+
+  public boolean isEnabled() {
+    return writers > 1;
+  }
+
+  /**
+   * 병렬 쓰기 세션을 시작합니다. 세션은 반드시 닫아야 합니다.
+   *
+   * @param onWritten 국가·연도 단위가 커밋될 때마다 작업자 스레드에서 호출되는 콜백
+   * @return 쓰기 세션
+   */
+  public WriteSession open(Consumer<HolidayWriteUnit> onWritten) {
+    return new WriteSession(onWritten);
+  }
+
+  private void write(HolidayWriteUnit unit) {
+    transactionTemplate.executeWithoutResult(status -> {
+      holidayRepository.bulkInsertRows(unit.rows());
+      holidaySyncStateRepository.bulkUpsert(List.of(HolidaySyncState.of(unit.countryCode(), unit.year(), unit.contentHash())));
+    });
+  }
+
+  /**
+   * 병렬 쓰기 세션
+   *
+   * <p>작업자마다 크기가 제한된 큐를 두어, 저장이 제출보다 느리면 {@link #submit}이 대기합니다(역압).
+   */
+  public final class WriteSession implements AutoCloseable {
+
+    private final List<BlockingQueue<HolidayWriteUnit>> queues = new ArrayList<>(writers);
+    private final ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(writers, "holiday-writer-");
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicInteger writtenUnits = new AtomicInteger();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final long start = System.currentTimeMillis();
+    private final Consumer<HolidayWriteUnit> onWritten;
+
+    private WriteSession(Consumer<HolidayWriteUnit> onWritten) {
+      this.onWritten = onWritten;
+      for (int i = 0; i < writers; i++) {
+        BlockingQueue<HolidayWriteUnit> queue = new ArrayBlockingQueue<>(Math.max(queueCapacity / writers, 1));
+        queues.add(queue);
+        executor.execute(() -> drain(queue));
+      }
+    }
+
+    /**
+     * 국가·연도 단위를 해당 국가의 작업자에게 넘깁니다.
+     *
+     * @param unit 저장할 국가·연도 단위
+     * @throws RuntimeException 이미 저장에 실패한 단위가 있는 경우 그 예외
+     */
+    public void submit(HolidayWriteUnit unit) {
+      throwIfFailed();
+      put(queues.get(Math.floorMod(unit.countryCode().hashCode(), writers)), unit);
+    }
+
+    /**
+     * 제출한 모든 단위의 저장이 끝날 때까지 기다립니다.
+     *
+     * @return 저장 결과 요약
+     * @throws RuntimeException 저장에 실패한 단위가 있는 경우 처음 발생한 예외
+     */
+    public BulkWriteReport finish() {
+      queues.forEach(queue -> put(queue, END));
+      executor.close();
+      throwIfFailed();
+      return new BulkWriteReport(writtenUnits.get(), writtenRows.get(), writers, System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void close() {
+      executor.shutdownNow();
+    }
+
+    private void drain(BlockingQueue<HolidayWriteUnit> queue) {
+      try {
+        for (HolidayWriteUnit unit = queue.take(); unit != END; unit = queue.take()) {
+          // 실패 이후에는 제출자가 대기하지 않도록 큐만 비웁니다.
+          if (failure.get() == null) {
+            writeUnit(unit);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void writeUnit(HolidayWriteUnit unit) {
+      try {
+        write(unit);
+        writtenUnits.incrementAndGet();
+        writtenRows.addAndGet(unit.rows().size());
+        onWritten.accept(unit);
+      } catch (RuntimeException e) {
+        log.warn("공휴일 병렬 저장 실패 ( countryCode: {}, year: {} )", unit.countryCode(), unit.year(), e);
+        failure.compareAndSet(null, e);
+      }
+    }
+
+    private void put(BlockingQueue<HolidayWriteUnit> queue, HolidayWriteUnit unit) {
+      try {
+        queue.put(unit);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("공휴일 병렬 저장 대기 중 인터럽트가 발생했습니다.", e);
+      }
+    }
+
+    private void throwIfFailed() {
+      RuntimeException e = failure.get();
+      if (e != null) {
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.holidaykeeper.api.v1.application.writer;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import java.util.List;
+
+/**
+ * 하나의 트랜잭션으로 저장하는 국가·연도 단위 공휴일 묶음
+ *
+ * @param countryCode 국가 코드
+ * @param year 연도
+ * @param rows 저장할 공휴일 행 목록
+ * @param contentHash 외부 API 응답의 내용 해시 (동기화 상태로 함께 저장)
+ */
+public record HolidayWriteUnit(String countryCode, int year, List<HolidayRow> rows, String contentHash) {
+}
@@ -0,0 +1,20 @@
+package com.holidaykeeper.api.v1.common.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "캐시 통계 정보")
+public record CacheStats(
+
+    @Schema(description = "캐시 적중 횟수", example = "1520")
+    long hitCount,
+
+    @Schema(description = "캐시 미스 횟수", example = "12")
+    long missCount,
+
+    @Schema(description = "크기 초과 또는 TTL 만료로 제거된 항목 수", example = "3")
+    long evictionCount,
+
+    @Schema(description = "현재 캐시된 항목 수", example = "9")
+    int size
+) {
+}
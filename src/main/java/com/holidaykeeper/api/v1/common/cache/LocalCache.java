@@ -0,0 +1,151 @@
+package com.holidaykeeper.api.v1.common.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기·TTL 기반으로 만료되는 로컬 캐시
+ *
+ * <p>최대 크기를 초과하면 가장 오래 사용되지 않은(LRU) 항목부터 제거하며,
+ * 적재 후 TTL이 지난 항목은 조회 시점에 만료 처리됩니다.
+ *
+ * <p><strong>무효화 정합성:</strong>
+ * 로더 실행 중에 해당 키가 무효화되면, 로더가 읽어온 값은 이미 오래된 값일 수 있으므로 캐시에 저장하지 않습니다.
+ * 다른 키의 무효화는 진행 중인 적재에 영향을 주지 않습니다.
+ *
+ * @param <K> 캐시 키 타입
+ * @param <V> 캐시 값 타입
+ * @since 1.0
+ */
+public class LocalCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  // 진행 중인 적재의 키별 토큰. 무효화 시 해당 키의 토큰을 지우며, 적재 완료 시 토큰이 남아 있을 때만 저장합니다.
+  private final Map<K, Long> pendingLoads = new HashMap<>();
+  private long loadSequence;
+
+  public LocalCache(int maxSize, Duration ttl) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+    }
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /**
+   * 캐시에서 값을 조회하고, 없거나 만료된 경우 로더를 통해 적재합니다.
+   *
+   * @param key 캐시 키
+   * @param loader 캐시 미스 시 값을 적재할 함수
+   * @return 캐시된 값 또는 새로 적재된 값
+   */
+  public V get(K key, Function<? super K, ? extends V> loader) {
+    long loadToken;
+    synchronized (this) {
+      CacheEntry<V> entry = entries.get(key);
+      if (entry != null) {
+        if (!entry.isExpired(System.nanoTime(), ttlNanos)) {
+          hitCount.increment();
+          return entry.value();
+        }
+        entries.remove(key);
+        evictionCount.increment();
+      }
+      loadToken = ++loadSequence;
+      pendingLoads.put(key, loadToken);
+    }
+
+    missCount.increment();
+    V value;
+    try {
+      value = loader.apply(key);
+    } catch (RuntimeException | Error e) {
+      synchronized (this) {
+        pendingLoads.remove(key, loadToken);
+      }
+      throw e;
+    }
+
+    synchronized (this) {
+      if (pendingLoads.remove(key, loadToken)) {
+        entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+        evictOverflow();
+      }
+    }
+    return value;
+  }
+
+  /**
+   * 캐시에 값이 존재하는 경우에만 조회합니다.
+   *
+   * @param key 캐시 키
+   * @return 캐시된 값, 없거나 만료된 경우 null
+   */
+  public synchronized V getIfPresent(K key) {
+    CacheEntry<V> entry = entries.get(key);
+    if (entry == null) {
+      missCount.increment();
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime(), ttlNanos)) {
+      entries.remove(key);
+      evictionCount.increment();
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    return entry.value();
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+    evictOverflow();
+  }
+
+  public synchronized void invalidate(K key) {
+    pendingLoads.remove(key);
+    entries.remove(key);
+  }
+
+  public synchronized void invalidateIf(Predicate<? super K> predicate) {
+    pendingLoads.keySet().removeIf(predicate);
+    entries.keySet().removeIf(predicate);
+  }
+
+  public synchronized void invalidateAll() {
+    pendingLoads.clear();
+    entries.clear();
+  }
+
+  public synchronized CacheStats stats() {
+    return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+  }
+
+  private void evictOverflow() {
+    Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+    while (entries.size() > maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      evictionCount.increment();
+    }
+  }
+
+  private record CacheEntry<V>(V value, long loadedAt) {
+    boolean isExpired(long now, long ttlNanos) {
+      return now - loadedAt >= ttlNanos;
+    }
+  }
+}
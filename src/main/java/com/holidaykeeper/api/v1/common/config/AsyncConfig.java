@@ -2,6 +2,8 @@ package com.holidaykeeper.api.v1.common.config;
 
 import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -13,16 +15,34 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
+  @Value("${app.sync.executor.pool_size}")
+  private int poolSize;
+
+  @Value("${app.sync.executor.queue_capacity}")
+  private int queueCapacity;
+
+  @Value("${app.refresh.executor.pool_size}")
+  private int refreshPoolSize;
+
+  @Value("${app.refresh.executor.queue_capacity}")
+  private int refreshQueueCapacity;
+
+  /**
+   * 공휴일 동기화 작업 전용 실행기
+   *
+   * <p>작업 하나가 내부에서 국가·연도별 동기화를 가상 스레드로 병렬 처리하므로, 동시에 실행하는 작업 수만 작게 제한합니다.
+   * 대기열이 가득 차면 {@link org.springframework.core.task.TaskRejectedException}으로 작업을 거절합니다.
+   */
   @Bean(name = "holidayExecutor")
   public Executor holidayExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
     // 기본 스레드 수
-    executor.setCorePoolSize(10);
+    executor.setCorePoolSize(poolSize);
     // 최대 스레드 수
-    executor.setMaxPoolSize(10);
+    executor.setMaxPoolSize(poolSize);
     // 큐 용량
-    executor.setQueueCapacity(100);
+    executor.setQueueCapacity(queueCapacity);
     // 스레드 이름 접두사
     executor.setThreadNamePrefix("holiday-async-");
     // 애플리케이션 종료 시 모든 작업이 완료될 때까지 대기
@@ -34,4 +54,56 @@ public class AsyncConfig implements AsyncConfigurer {
 
     return executor;
   }
-}
\ No newline at end of file
+
+  /**
+   * 국가·연도별 비동기 재동기화 전용 실행기
+   *
+   * <p>연간 동기화나 초기 적재가 {@code holidayExecutor}를 오래 점유해도 수동 재동기화가 밀리지 않도록 분리합니다.
+   * 대기열이 가득 차면 {@link org.springframework.core.task.TaskRejectedException}으로 요청을 거절합니다.
+   */
+  @Bean(name = "refreshExecutor")
+  public Executor refreshExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    executor.setCorePoolSize(refreshPoolSize);
+    executor.setMaxPoolSize(refreshPoolSize);
+    executor.setQueueCapacity(refreshQueueCapacity);
+    executor.setThreadNamePrefix("holiday-refresh-async-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * 공휴일 스냅샷 내보내기 전용 실행기
+   *
+   * <p>스레드 하나로 내보내기를 차례로 실행하여, 먼저 시작한 내보내기가 나중에 읽은 더 최신 데이터를 덮어쓰지 않도록 합니다.
+   * 대기 중인 내보내기는 하나로 합쳐지므로 대기열은 작게 둡니다.
+   */
+  @Bean(name = "snapshotExecutor")
+  public Executor snapshotExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(2);
+    executor.setThreadNamePrefix("holiday-snapshot-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * 반환값이 없는 비동기 메서드에서 발생한 예외가 사라지지 않도록 기록합니다.
+   */
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return (e, method, params) -> log.error("비동기 작업 실패 ( method: {} )", method.getName(), e);
+  }
+}
@@ -0,0 +1,35 @@
+package com.holidaykeeper.api.v1.common.config;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 영업일 계산 설정
+ *
+ * <p>국가별 주말 요일을 정의하며, 별도 설정이 없는 국가는 기본 주말(토·일)을 사용합니다.
+ *
+ * @param defaultWeekend 기본 주말 요일
+ * @param weekends 국가 코드별 주말 요일
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "app.business-day")
+public record BusinessDayProperties(
+    @DefaultValue({"SATURDAY", "SUNDAY"}) Set<DayOfWeek> defaultWeekend,
+    Map<String, Set<DayOfWeek>> weekends
+) {
+
+  public BusinessDayProperties {
+    weekends = weekends == null ? Map.of() : Map.copyOf(weekends);
+    if (defaultWeekend.size() >= DayOfWeek.values().length
+        || weekends.values().stream().anyMatch(days -> days.size() >= DayOfWeek.values().length)) {
+      throw new IllegalArgumentException("주말은 일주일 전체일 수 없습니다.");
+    }
+  }
+
+  public Set<DayOfWeek> weekendOf(String countryCode) {
+    return weekends.getOrDefault(countryCode, defaultWeekend);
+  }
+}
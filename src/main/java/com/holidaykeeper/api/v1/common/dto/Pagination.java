@@ -1,5 +1,6 @@
 package com.holidaykeeper.api.v1.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -16,13 +17,30 @@ public class Pagination<T> {
   @Schema(description = "페이지 크기", example = "10")
   private final int size;
 
-  @Schema(description = "전체 데이터 개수", example = "150")
+  @Schema(description = "전체 데이터 개수 (includeTotal=false 또는 커서 페이지네이션에서는 생략)", example = "150")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private final Long total;
 
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private final boolean hasNext;
+
   @Schema(description = "페이지 내 데이터 목록")
   private final List<T> content;
 
+  @Schema(description = "다음 페이지 조회용 커서 (커서 페이지네이션에서 다음 페이지가 있을 때만 포함)", example = "MjAyNS0wMS0wMXw...")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String nextCursor;
+
   public static <T> Pagination<T> of(int page, int size, Long total, List<T> content) {
-    return new Pagination<>(page, size, total, content);
+    boolean hasNext = total != null && (long) (page + 1) * size < total;
+    return new Pagination<>(page, size, total, hasNext, content, null);
+  }
+
+  public static <T> Pagination<T> ofSlice(int page, int size, boolean hasNext, List<T> content) {
+    return new Pagination<>(page, size, null, hasNext, content, null);
+  }
+
+  public static <T> Pagination<T> ofCursor(int size, List<T> content, String nextCursor) {
+    return new Pagination<>(0, size, null, nextCursor != null, content, nextCursor);
   }
 }
@@ -0,0 +1,31 @@
+package com.holidaykeeper.api.v1.common.exception;
+
+import com.holidaykeeper.api.v1.common.dto.ApiCommonResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 애플리케이션 예외를 공통 응답 형식의 HTTP 응답으로 변환합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<ApiCommonResponse<Void>> handleInvalidRequest(InvalidRequestException e) {
+    log.debug("잘못된 요청: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(ApiCommonResponse.failure(e.getMessage()));
+  }
+
+  @ExceptionHandler(HolidayDataUnavailableException.class)
+  public ResponseEntity<ApiCommonResponse<Void>> handleHolidayDataUnavailable(HolidayDataUnavailableException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .body(ApiCommonResponse.failure(e.getMessage()));
+  }
+}
@@ -0,0 +1,15 @@
+package com.holidaykeeper.api.v1.common.exception;
+
+/**
+ * 공휴일 데이터를 아직 제공할 수 없는 경우의 예외 (예: 초기 적재 중 즉시 적재 실패)
+ *
+ * <p>{@link GlobalExceptionHandler}가 {@code 503 Service Unavailable}로 응답합니다.
+ *
+ * @since 1.0
+ */
+public class HolidayDataUnavailableException extends RuntimeException {
+
+  public HolidayDataUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
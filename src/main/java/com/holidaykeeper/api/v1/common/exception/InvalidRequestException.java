@@ -0,0 +1,19 @@
+package com.holidaykeeper.api.v1.common.exception;
+
+/**
+ * 요청 값이 올바르지 않아 처리할 수 없는 경우의 예외
+ *
+ * <p>{@link GlobalExceptionHandler}가 {@code 400 Bad Request}로 응답합니다.
+ *
+ * @since 1.0
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+
+  public InvalidRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,15 @@
+package com.holidaykeeper.api.v1.common.exception;
+
+/**
+ * 다시 시도해도 결과가 같아 재시도하지 않아야 하는 실패의 예외
+ *
+ * <p>{@link com.holidaykeeper.api.v1.application.util.Backoff#isRetryable}은 이 예외를 재시도하지 않습니다.
+ *
+ * @since 1.0
+ */
+public class NonRetryableException extends IllegalStateException {
+
+  public NonRetryableException(String message) {
+    super(message);
+  }
+}
@@ -1,27 +1,33 @@
 package com.holidaykeeper.api.v1.domain;
 
 import com.holidaykeeper.api.v1.domain.common.BaseEntity;
+import com.holidaykeeper.api.v1.domain.common.UuidV7Generator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import java.sql.Types;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 
 @Entity
 @Getter
+@Table(
+    name = "country",
+    indexes = {
+        @Index(name = "uk_country_code", columnList = "country_code", unique = true)
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Country extends BaseEntity {
 
   @Id
-  @UuidGenerator
-  @JdbcTypeCode(Types.VARCHAR)
-  @Column(name = "country_id", length = 36, nullable = false, unique = true)
+  @UuidGenerator(algorithm = UuidV7Generator.class)
+  @Column(name = "country_id", nullable = false, unique = true)
   private UUID id;
 
   @Column(name = "country_code", length = 2, nullable = false)
@@ -2,13 +2,15 @@ package com.holidaykeeper.api.v1.domain;
 
 import com.holidaykeeper.api.v1.application.util.JsonUtil;
 import com.holidaykeeper.api.v1.domain.common.BaseEntity;
+import com.holidaykeeper.api.v1.domain.common.UuidV7Generator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import java.sql.Types;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
@@ -17,18 +19,25 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 
 @Entity
 @Getter
+@Table(
+    name = "holiday",
+    indexes = {
+        @Index(name = "idx_holiday_country_year_date", columnList = "country_id, holiday_year, date, types_mask"),
+        @Index(name = "idx_holiday_country_date_name", columnList = "country_id, date, name"),
+        @Index(name = "idx_holiday_year_date", columnList = "holiday_year, date"),
+        @Index(name = "idx_holiday_date_id", columnList = "date, holiday_id")
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Holiday extends BaseEntity {
 
   @Id
-  @UuidGenerator
-  @JdbcTypeCode(Types.VARCHAR)
-  @Column(name = "holiday_id", length = 36, nullable = false, unique = true)
+  @UuidGenerator(algorithm = UuidV7Generator.class)
+  @Column(name = "holiday_id", nullable = false, unique = true)
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +47,10 @@ public class Holiday extends BaseEntity {
   @Column(name = "date", nullable = false)
   private LocalDate date;
 
+  // date의 연도, YEAR(date) 같은 함수 조건 없이 인덱스로 연도 검색을 하기 위해 별도 컬럼으로 저장합니다.
+  @Column(name = "holiday_year", nullable = false)
+  private Integer year;
+
   @Column(name = "local_name", nullable = false)
   private String localName;
 
@@ -59,6 +72,10 @@ public class Holiday extends BaseEntity {
   @Column(name = "types_json", columnDefinition = "TEXT")
   private String typesJson;
 
+  // 공휴일 타입 목록의 비트마스크 (HolidayType#mask), 타입 필터링은 이 컬럼으로 수행합니다.
+  @Column(name = "types_mask", nullable = false)
+  private Integer typesMask;
+
   @Builder
   private Holiday(
       Country country,
@@ -73,6 +90,7 @@ public class Holiday extends BaseEntity {
   ) {
     this.country = country;
     this.date = date;
+    this.year = date.getYear();
     this.localName = localName;
     this.name = name;
     this.fixed = fixed;
@@ -80,6 +98,7 @@ public class Holiday extends BaseEntity {
     this.countiesJson = countiesJson;
     this.launchYear = launchYear;
     this.typesJson = typesJson;
+    this.typesMask = HolidayType.toMask(JsonUtil.toStringList(typesJson));
   }
 
   public boolean hasChanges(
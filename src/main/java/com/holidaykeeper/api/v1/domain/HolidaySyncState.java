@@ -0,0 +1,74 @@
+package com.holidaykeeper.api.v1.domain;
+
+import com.holidaykeeper.api.v1.domain.common.BaseEntity;
+import com.holidaykeeper.api.v1.domain.common.UuidV7Generator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+/**
+ * 국가·연도별 공휴일 동기화 상태
+ *
+ * <p>마지막으로 데이터베이스에 반영한 외부 API 응답의 내용 해시와 그 응답을 받은 시각을 보관합니다.
+ * 재동기화 시 새로 받은 응답의 해시가 같으면 데이터베이스 비교를 생략합니다.
+ */
+@Entity
+@Getter
+@Table(
+    name = "holiday_sync_state",
+    indexes = {
+        @Index(name = "uk_holiday_sync_state_country_year", columnList = "country_code, sync_year", unique = true)
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidaySyncState extends BaseEntity {
+
+  @Id
+  @UuidGenerator(algorithm = UuidV7Generator.class)
+  @Column(name = "holiday_sync_state_id", nullable = false, unique = true)
+  private UUID id;
+
+  @Column(name = "country_code", length = 2, nullable = false)
+  private String countryCode;
+
+  @Column(name = "sync_year", nullable = false)
+  private Integer year;
+
+  // 외부 API 응답의 SHA-256 내용 해시 (16진수)
+  @Column(name = "content_hash", length = 64, nullable = false)
+  private String contentHash;
+
+  // 외부 API 응답을 받은 시각 (스냅샷에서 가져온 경우에도 원래 시각을 유지)
+  @Column(name = "synced_at", nullable = false)
+  private LocalDateTime syncedAt;
+
+  @Builder
+  private HolidaySyncState(String countryCode, Integer year, String contentHash, LocalDateTime syncedAt) {
+    this.countryCode = countryCode;
+    this.year = year;
+    this.contentHash = contentHash;
+    this.syncedAt = syncedAt;
+  }
+
+  public static HolidaySyncState of(String countryCode, int year, String contentHash) {
+    return of(countryCode, year, contentHash, LocalDateTime.now());
+  }
+
+  public static HolidaySyncState of(String countryCode, int year, String contentHash, LocalDateTime syncedAt) {
+    return HolidaySyncState.builder()
+        .countryCode(countryCode)
+        .year(year)
+        .contentHash(contentHash)
+        .syncedAt(syncedAt)
+        .build();
+  }
+}
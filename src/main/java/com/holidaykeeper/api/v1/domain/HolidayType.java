@@ -1,33 +1,95 @@
 package com.holidaykeeper.api.v1.domain;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 @Schema(description = "공휴일 타입")
 public enum HolidayType {
 
   @Schema(description = "공식 공휴일")
-  PUBLIC("Public", "공식 공휴일"),
+  PUBLIC("Public", "공식 공휴일", 0),
 
   @Schema(description = "은행 휴무")
-  BANK("Bank", "은행 휴무"),
+  BANK("Bank", "은행 휴무", 1),
 
   @Schema(description = "학교 휴무")
-  SCHOOL("School", "학교 휴무"),
+  SCHOOL("School", "학교 휴무", 2),
 
   @Schema(description = "공공기관 휴무")
-  AUTHORITIES("Authorities", "공공기관 휴무"),
+  AUTHORITIES("Authorities", "공공기관 휴무", 3),
 
   @Schema(description = "기관에서의 선택적 휴일")
-  OPTIONAL("Optional", "기관에서의 선택적 휴일"),
+  OPTIONAL("Optional", "기관에서의 선택적 휴일", 4),
 
   @Schema(description = "기념일")
-  OBSERVANCE("Observance", "기념일");
+  OBSERVANCE("Observance", "기념일", 5);
 
   private final String type;
   private final String info;
+  /**
+   * holiday.types_mask에 저장되는 비트 위치
+   *
+   * <p>저장된 데이터의 의미가 바뀌지 않도록 선언 순서와 무관하게 고정하며, 기존 값은 변경하거나 재사용하지 않습니다.
+   */
+  private final int bit;
 
-  HolidayType(String type, String info) {
+  HolidayType(String type, String info, int bit) {
     this.type = type;
     this.info = info;
+    this.bit = bit;
+  }
+
+  /**
+   * 비트마스크에서 이 타입을 나타내는 비트를 반환합니다.
+   *
+   * @return 타입별 고유 비트 (1 << bit)
+   */
+  public int mask() {
+    return 1 << bit;
+  }
+
+  /**
+   * 외부 API의 공휴일 타입 문자열 목록을 비트마스크로 변환합니다.
+   *
+   * <p>알 수 없는 타입 문자열은 무시됩니다.
+   *
+   * @param types 외부 API의 공휴일 타입 문자열 목록 (nullable)
+   * @return 공휴일 타입 비트마스크
+   */
+  public static int toMask(List<String> types) {
+    if (types == null) {
+      return 0;
+    }
+    int mask = 0;
+    for (String type : types) {
+      mask |= from(type).map(HolidayType::mask).orElse(0);
+    }
+    return mask;
+  }
+
+  /**
+   * 비트마스크를 공휴일 타입 목록으로 변환합니다.
+   *
+   * @param mask 공휴일 타입 비트마스크
+   * @return 선언 순서대로 정렬된 공휴일 타입 목록
+   */
+  public static List<HolidayType> fromMask(int mask) {
+    return Arrays.stream(values())
+        .filter(holidayType -> (mask & holidayType.mask()) != 0)
+        .toList();
+  }
+
+  /**
+   * 외부 API 표기(예: "Public")와 정확히 일치하는 공휴일 타입을 조회합니다.
+   *
+   * @param type 외부 API의 공휴일 타입 문자열
+   * @return 일치하는 공휴일 타입, 없으면 빈 Optional
+   */
+  public static Optional<HolidayType> from(String type) {
+    return Arrays.stream(values())
+        .filter(holidayType -> holidayType.type.equals(type))
+        .findFirst();
   }
 }
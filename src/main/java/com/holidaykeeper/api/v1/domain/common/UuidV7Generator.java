@@ -0,0 +1,18 @@
+package com.holidaykeeper.api.v1.domain.common;
+
+import java.util.UUID;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * 엔티티 ID를 {@link UuidV7}로 생성하는 Hibernate UUID 생성 알고리즘
+ *
+ * <p>{@code @UuidGenerator(algorithm = UuidV7Generator.class)}로 사용합니다.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+  @Override
+  public UUID generateUuid(SharedSessionContractImplementor session) {
+    return UuidV7.generate();
+  }
+}
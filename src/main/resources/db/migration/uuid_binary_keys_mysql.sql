@@ -0,0 +1,109 @@
+-- VARCHAR(36) UUID 키를 BINARY(16)으로 변환하는 MySQL 8 마이그레이션
+--
+-- 기존 키 값은 그대로 유지되며(버전 4), 이후 새로 생성되는 키만 시간 순서 UUID(버전 7)입니다.
+-- 애플리케이션을 중지한 유지보수 구간 안에서 대상 스키마를 선택한 뒤 실행합니다.
+--
+--   mysql -u <user> -p <schema> < uuid_binary_keys_mysql.sql
+--
+-- MySQL은 한 ALTER 문 안에서 같은 이름의 컬럼을 제거하고 다른 컬럼을 그 이름으로 바꾼 뒤 다시 참조할 수 없으므로,
+-- 모든 변경을 별도 문장으로 실행합니다. Hibernate가 이름을 생성한 외래 키와 인덱스는 information_schema에서
+-- 찾아 제거합니다. 각 문장은 암묵적으로 커밋되므로 실패하면 백업에서 복구한 뒤 원인을 고쳐 다시 실행합니다.
+--
+-- 수동 검증 절차 (MySQL 8.0)
+--   1. docker run -d --name holiday-mysql -e MYSQL_ROOT_PASSWORD=root -e MYSQL_DATABASE=holiday -p 3306:3306 mysql:8.0
+--   2. VARCHAR(36) 키를 사용하던 버전으로 애플리케이션을 MySQL에 연결하여 초기 적재를 마칩니다.
+--   3. SELECT COUNT(*) 로 country, holiday, holiday_sync_state 의 행 수를 기록합니다.
+--   4. 이 스크립트를 실행합니다.
+--   5. SHOW CREATE TABLE holiday; 로 키가 BINARY(16)이고 fk_holiday_country 와 인덱스가 다시 생성되었는지 확인합니다.
+--   6. 3번의 행 수가 같은지, 아래 조회가 0건인지 확인합니다.
+--        SELECT COUNT(*) FROM holiday h LEFT JOIN country c ON c.country_id = h.country_id WHERE c.country_id IS NULL;
+--   7. 현재 버전을 spring.jpa.hibernate.ddl-auto=validate 로 시작하여 스키마가 엔티티와 일치하고 조회·재동기화가 동작하는지 확인합니다.
+
+-- 1. holiday → country 외래 키 제거 (Hibernate가 생성한 이름을 조회)
+SET @drop_fks := (
+  SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', ')
+  FROM information_schema.REFERENTIAL_CONSTRAINTS
+  WHERE CONSTRAINT_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'holiday'
+    AND REFERENCED_TABLE_NAME = 'country'
+);
+SET @sql := IF(@drop_fks IS NULL, 'DO 0', CONCAT('ALTER TABLE holiday ', @drop_fks));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 교체할 키 컬럼을 포함한 보조 인덱스 제거
+--    컬럼을 제거하면 MySQL은 여러 컬럼 인덱스에서 그 컬럼만 빼고 인덱스를 남기므로, 미리 제거한 뒤 다시 생성합니다.
+SET @drop_indexes := (
+  SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', INDEX_NAME, '`') SEPARATOR ', ')
+  FROM information_schema.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'holiday'
+    AND INDEX_NAME <> 'PRIMARY'
+    AND COLUMN_NAME IN ('holiday_id', 'country_id')
+);
+SET @sql := IF(@drop_indexes IS NULL, 'DO 0', CONCAT('ALTER TABLE holiday ', @drop_indexes));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @drop_indexes := (
+  SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', INDEX_NAME, '`') SEPARATOR ', ')
+  FROM information_schema.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'country'
+    AND INDEX_NAME <> 'PRIMARY'
+    AND COLUMN_NAME = 'country_id'
+);
+SET @sql := IF(@drop_indexes IS NULL, 'DO 0', CONCAT('ALTER TABLE country ', @drop_indexes));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @drop_indexes := (
+  SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', INDEX_NAME, '`') SEPARATOR ', ')
+  FROM information_schema.STATISTICS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'holiday_sync_state'
+    AND INDEX_NAME <> 'PRIMARY'
+    AND COLUMN_NAME = 'holiday_sync_state_id'
+);
+SET @sql := IF(@drop_indexes IS NULL, 'DO 0', CONCAT('ALTER TABLE holiday_sync_state ', @drop_indexes));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. BINARY(16) 컬럼 추가 후 값 변환 (형식이 잘못된 값이 있으면 UUID_TO_BIN이 실패하여 여기서 멈춥니다)
+ALTER TABLE country ADD COLUMN country_id_bin BINARY(16) NULL;
+UPDATE country SET country_id_bin = UUID_TO_BIN(country_id);
+
+ALTER TABLE holiday ADD COLUMN holiday_id_bin BINARY(16) NULL;
+ALTER TABLE holiday ADD COLUMN country_id_bin BINARY(16) NULL;
+UPDATE holiday SET holiday_id_bin = UUID_TO_BIN(holiday_id), country_id_bin = UUID_TO_BIN(country_id);
+
+ALTER TABLE holiday_sync_state ADD COLUMN holiday_sync_state_id_bin BINARY(16) NULL;
+UPDATE holiday_sync_state SET holiday_sync_state_id_bin = UUID_TO_BIN(holiday_sync_state_id);
+
+-- 4. 기존 VARCHAR 컬럼 제거 후 BINARY 컬럼을 원래 이름으로 교체
+ALTER TABLE country DROP PRIMARY KEY;
+ALTER TABLE country DROP COLUMN country_id;
+ALTER TABLE country CHANGE COLUMN country_id_bin country_id BINARY(16) NOT NULL FIRST;
+ALTER TABLE country ADD PRIMARY KEY (country_id);
+
+ALTER TABLE holiday DROP PRIMARY KEY;
+ALTER TABLE holiday DROP COLUMN holiday_id;
+ALTER TABLE holiday DROP COLUMN country_id;
+ALTER TABLE holiday CHANGE COLUMN holiday_id_bin holiday_id BINARY(16) NOT NULL FIRST;
+ALTER TABLE holiday CHANGE COLUMN country_id_bin country_id BINARY(16) NOT NULL AFTER holiday_id;
+ALTER TABLE holiday ADD PRIMARY KEY (holiday_id);
+
+ALTER TABLE holiday_sync_state DROP PRIMARY KEY;
+ALTER TABLE holiday_sync_state DROP COLUMN holiday_sync_state_id;
+ALTER TABLE holiday_sync_state CHANGE COLUMN holiday_sync_state_id_bin holiday_sync_state_id BINARY(16) NOT NULL FIRST;
+ALTER TABLE holiday_sync_state ADD PRIMARY KEY (holiday_sync_state_id);
+
+-- 5. 제거한 인덱스와 외래 키 재생성 (엔티티의 @Index 정의와 같음)
+CREATE INDEX idx_holiday_country_year_date ON holiday (country_id, holiday_year, date, types_mask);
+CREATE INDEX idx_holiday_country_date_name ON holiday (country_id, date, name);
+CREATE INDEX idx_holiday_date_id ON holiday (date, holiday_id);
+ALTER TABLE holiday ADD CONSTRAINT fk_holiday_country FOREIGN KEY (country_id) REFERENCES country (country_id);
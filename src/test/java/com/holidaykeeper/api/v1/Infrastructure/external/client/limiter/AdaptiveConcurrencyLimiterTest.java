@@ -0,0 +1,62 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter 단위 테스트")
+public class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(10);
+
+  @Test
+  @DisplayName("지연 시간 임계값 이내의 성공 응답이 이어지면 동시 요청 제한이 선형으로 증가한다.")
+  void increaseOnSuccess() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1000, 0.5);
+
+    // when : 2 -> 2.5 -> 2.9 -> 3.24 -> 3.55 -> 3.83 -> 4.09
+    for (int i = 0; i < 6; i++) {
+      limiter.acquire();
+      limiter.onSuccess(FAST);
+    }
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("과부하 응답이 동시에 여러 번 발생해도 임계값 시간 동안 한 번만 감소한다.")
+  void decreaseOnceOnOverload() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 60_000, 0.5);
+    for (int i = 0; i < 3; i++) {
+      limiter.acquire();
+    }
+
+    // when
+    limiter.onOverload();
+    limiter.onOverload();
+    limiter.onSuccess(SLOW);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("외부 API 상태와 무관한 실패는 동시 요청 제한을 바꾸지 않는다.")
+  void ignoreClientError() {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, 1000, 0.5);
+
+    // when
+    limiter.acquire();
+    limiter.onIgnore();
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(3);
+  }
+}
@@ -0,0 +1,51 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@DisplayName("ApiCallLimiter 단위 테스트")
+public class ApiCallLimiterTest {
+
+  @Test
+  @DisplayName("호출이 Error로 끝나도 동시 요청 슬롯을 반환하여 다음 호출이 대기하지 않는다.")
+  void releaseOnError() {
+    // given : 동시 요청 1개로 고정
+    ApiCallLimiter limiter = new ApiCallLimiter(1_000, 10, 1, 1, 1, 1_000, 0.5);
+
+    // when
+    assertThatThrownBy(() -> limiter.execute(() -> {
+      throw new AssertionError("unexpected");
+    })).isInstanceOf(AssertionError.class);
+
+    // then
+    String result = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> limiter.execute(() -> "ok"));
+    assertThat(result).isEqualTo("ok");
+  }
+
+  @Test
+  @DisplayName("429 응답은 동시 요청 제한을 줄이고, 그 외 4xx 응답은 제한을 바꾸지 않는다.")
+  void adjustLimitByResponse() {
+    // given
+    ApiCallLimiter limiter = new ApiCallLimiter(1_000, 10, 8, 1, 10, 60_000, 0.5);
+
+    // when
+    assertThatThrownBy(() -> limiter.execute(() -> {
+      throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+    })).isInstanceOf(HttpClientErrorException.class);
+    int afterNotFound = limiter.getConcurrencyLimit();
+    assertThatThrownBy(() -> limiter.execute(() -> {
+      throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+    })).isInstanceOf(HttpClientErrorException.class);
+
+    // then
+    assertThat(afterNotFound).isEqualTo(8);
+    assertThat(limiter.getConcurrencyLimit()).isEqualTo(4);
+  }
+}
@@ -0,0 +1,55 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucket 단위 테스트")
+public class TokenBucketTest {
+
+  @Test
+  @DisplayName("burst만큼은 대기 없이 획득하고, 그 이후에는 토큰이 채워질 때까지 대기한다.")
+  void burstThenRateLimit() {
+    // given : 초당 10개 (100ms마다 1개), 최대 2개
+    TokenBucket tokenBucket = new TokenBucket(10, 2);
+
+    // when
+    long start = System.nanoTime();
+    tokenBucket.acquire();
+    tokenBucket.acquire();
+    long burstMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    tokenBucket.acquire();
+    long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // then
+    assertThat(burstMillis).isLessThan(50);
+    assertThat(totalMillis).isGreaterThanOrEqualTo(80);
+  }
+
+  @Test
+  @DisplayName("토큰을 기다리는 중 인터럽트되면 인터럽트 상태를 유지한 채 예외를 던진다.")
+  void interruptWhileWaiting() {
+    // given : 토큰을 모두 소진한 버킷
+    TokenBucket tokenBucket = new TokenBucket(0.1, 1);
+    tokenBucket.acquire();
+
+    // when & then
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(tokenBucket::acquire).isInstanceOf(IllegalStateException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  @DisplayName("초당 토큰 수나 burst가 0 이하이면 생성할 수 없다.")
+  void rejectInvalidArguments() {
+    assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
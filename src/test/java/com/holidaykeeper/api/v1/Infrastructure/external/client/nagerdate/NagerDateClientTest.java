@@ -0,0 +1,183 @@
+package com.holidaykeeper.api.v1.Infrastructure.external.client.nagerdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.cache.HttpResponseDiskCache;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.limiter.ApiCallLimiter;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.common.exception.NonRetryableException;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("NagerDateClient 응답 캐시 테스트")
+public class NagerDateClientTest {
+
+  private static final String URL = "https://date.nager.at/api/v3/PublicHolidays/2025/KR";
+  private static final String BODY = """
+      [{"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR",
+        "fixed":true,"global":true,"counties":null,"launchYear":null,"types":["Public"]}]
+      """;
+
+  @TempDir
+  Path cacheDir;
+
+  // Spring Boot 기본 설정과 같이 알 수 없는 필드는 무시합니다.
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private final ApiCallLimiter apiCallLimiter = new ApiCallLimiter(1000, 1000, 4, 1, 16, 2000, 0.7);
+
+  private HttpResponseDiskCache responseCache;
+
+  @BeforeEach
+  void setUp() {
+    responseCache = new HttpResponseDiskCache(cacheDir.toString(), true);
+  }
+
+  @Test
+  @DisplayName("캐시된 응답이 있으면 조건부 요청을 보내고, 304 응답이면 디스크의 본문을 사용한다.")
+  void revalidateWithConditionalRequest() {
+    // given
+    RestClient.Builder builder = RestClient.builder();
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    NagerDateClient client = new NagerDateClient(builder, apiCallLimiter, responseCache, objectMapper, false);
+
+    HttpHeaders validators = new HttpHeaders();
+    validators.setETag("\"v1\"");
+    server.expect(requestTo(URL))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(validators));
+    server.expect(requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+    // when
+    List<GetHolidayResponse> first = client.getHolidays(2025, "KR");
+    List<GetHolidayResponse> second = client.getHolidays(2025, "KR");
+
+    // then
+    server.verify();
+    assertThat(first).isEqualTo(second);
+    assertThat(second).singleElement()
+        .extracting(GetHolidayResponse::date)
+        .isEqualTo(LocalDate.of(2025, 1, 1));
+  }
+
+  @Test
+  @DisplayName("재사용할 캐시 본문 없이 304 응답을 받으면 검증자 없이 다시 조회한다.")
+  void refetchWhenNotModifiedWithoutCachedBody() {
+    // given
+    RestClient.Builder builder = RestClient.builder();
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    NagerDateClient client = new NagerDateClient(builder, apiCallLimiter, responseCache, objectMapper, false);
+
+    server.expect(requestTo(URL))
+        .andExpect(headerDoesNotExist(HttpHeaders.CACHE_CONTROL))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+    server.expect(requestTo(URL))
+        .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+        .andExpect(header(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+    // when
+    List<GetHolidayResponse> holidays = client.getHolidays(2025, "KR");
+
+    // then
+    server.verify();
+    assertThat(holidays).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("오프라인 모드에서는 외부 API를 호출하지 않고 디스크에 보관된 응답만 사용하며, 캐시 미스는 재시도하지 않는 예외로 알린다.")
+  void offlineMode() {
+    // given
+    responseCache.put("/PublicHolidays/2025/KR", BODY.getBytes(), "\"v1\"", null);
+
+    RestClient.Builder builder = RestClient.builder();
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    NagerDateClient client = new NagerDateClient(builder, apiCallLimiter, responseCache, objectMapper, true);
+
+    // when & then
+    assertThat(client.getHolidays(2025, "KR")).hasSize(1);
+    assertThatThrownBy(() -> client.getHolidays(2025, "US"))
+        .isInstanceOf(NonRetryableException.class);
+    server.verify();
+  }
+
+  @Test
+  @DisplayName("응답 본문을 토큰 단위로 디코딩한 행은 객체로 역직렬화한 결과를 변환한 행과 같다.")
+  void decodeHolidayRows() throws Exception {
+    // given
+    String body = """
+        [{"date":"2025-03-01","localName":"삼일절","name":"Independence \\"Movement\\" Day","countryCode":"KR",
+          "fixed":true,"global":false,"counties":["KR-11","KR-26"],"launchYear":1949,"types":["Public","Bank","Unknown"],"extra":{"a":[1]}},
+         {"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR",
+          "fixed":true,"global":true,"counties":null,"launchYear":null,"types":["Public"]}]
+        """;
+    List<GetHolidayResponse> expected = objectMapper.readValue(body,
+        objectMapper.getTypeFactory().constructCollectionType(List.class, GetHolidayResponse.class));
+
+    // when
+    List<HolidayRow> rows = HolidayRowDecoder.decode(objectMapper.getFactory(), body.getBytes(StandardCharsets.UTF_8));
+
+    // then
+    assertThat(rows).containsExactlyElementsOf(expected.stream().map(HolidayRow::from).toList());
+    assertThat(rows.get(0).typesMask()).isEqualTo(HolidayType.PUBLIC.mask() | HolidayType.BANK.mask());
+    assertThat(HolidayRowDecoder.decode(objectMapper.getFactory(), new byte[0])).isEmpty();
+  }
+
+  @Test
+  @DisplayName("공휴일 배열에 객체가 아닌 요소나 배열 뒤의 값이 있으면 나머지를 버리지 않고 예외를 던진다.")
+  void rejectUnexpectedTokens() {
+    // given
+    String row = BODY.strip().substring(1, BODY.strip().length() - 1);
+    List<String> bodies = List.of(
+        "[" + row + ", 1, " + row + "]",
+        "[" + row + ", null]",
+        "[" + row + "] []",
+        BODY.replace("[\"Public\"]", "[\"Public\", 1]"));
+
+    // when & then
+    assertThat(bodies).allSatisfy(body -> assertThatThrownBy(
+        () -> HolidayRowDecoder.decode(objectMapper.getFactory(), body.getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(IOException.class));
+  }
+
+  @Test
+  @DisplayName("읽을 수 없는 캐시 파일은 삭제하고 캐시 미스로 처리한다.")
+  void discardCorruptedEntry() throws Exception {
+    // given
+    responseCache.put("/PublicHolidays/2025/KR", BODY.getBytes(), "\"v1\"", null);
+    Path file;
+    try (var files = Files.list(cacheDir)) {
+      file = files.findFirst().orElseThrow();
+    }
+    Files.write(file, new byte[] {0, 5, 1});
+
+    // when & then
+    assertThat(responseCache.get("/PublicHolidays/2025/KR")).isEmpty();
+    assertThat(file).doesNotExist();
+  }
+}
@@ -0,0 +1,137 @@
+package com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 연도·국가 조건이 포함된 검색 조합이 holiday 테이블 전체 스캔 없이 인덱스를 사용하는지 H2 EXPLAIN으로 검증합니다.
+ *
+ * <p>직접 작성한 SQL이 아니라 QueryDSL·JPQL이 실제로 생성한 SQL을 {@link StatementInspector}로 가로채 실행 계획을 확인합니다.
+ * 바인딩 파라미터는 값 없이(NULL) 실행 계획만 조회합니다.
+ *
+ * <p>공휴일 타입만으로 검색하거나 조건 없이 검색하는 경우는 전체 스캔이 불가피하므로 대상에서 제외합니다.
+ */
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidaySearchIndexTest$SqlCapture")
+@DisplayName("공휴일 검색 인덱스 사용 테스트")
+public class HolidaySearchIndexTest {
+
+  @Autowired
+  private HolidayRepository holidayRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean
+  private ApiClient apiClient;
+
+  @BeforeEach
+  void setUp() {
+    SqlCapture.STATEMENTS.clear();
+    SqlCapture.target = Thread.currentThread();
+  }
+
+  static Stream<Arguments> searchConditions() {
+    return Stream.of(
+        Arguments.of(Optional.of(2025), Optional.empty(), Optional.empty()),
+        Arguments.of(Optional.empty(), Optional.of("KR"), Optional.empty()),
+        Arguments.of(Optional.of(2025), Optional.of("KR"), Optional.empty()),
+        Arguments.of(Optional.of(2025), Optional.empty(), Optional.of("Public")),
+        Arguments.of(Optional.empty(), Optional.of("KR"), Optional.of("Public")),
+        Arguments.of(Optional.of(2025), Optional.of("KR"), Optional.of("Public"))
+    );
+  }
+
+  @ParameterizedTest(name = "[{index}] year={0}, countryCode={1}, type={2}")
+  @MethodSource("searchConditions")
+  @DisplayName("연도 또는 국가 조건이 포함된 OFFSET 검색과 개수 조회는 인덱스를 사용한다.")
+  void searchUsesIndex(Optional<Integer> year, Optional<String> countryCode, Optional<String> holidayType) {
+    // when
+    holidayRepository.searchHoliday(year, countryCode, holidayType, 0, 10, Sort.unsorted());
+    holidayRepository.countHoliday(year, countryCode, holidayType);
+
+    // then
+    assertThat(SqlCapture.STATEMENTS).hasSize(2)
+        .allSatisfy(sql -> assertThat(explain(sql)).doesNotContainIgnoringCase("HOLIDAY.tableScan"));
+  }
+
+  @ParameterizedTest(name = "[{index}] year={0}, countryCode={1}, type={2}")
+  @MethodSource("searchConditions")
+  @DisplayName("연도 또는 국가 조건이 포함된 커서 검색은 인덱스를 사용한다.")
+  void cursorSearchUsesIndex(Optional<Integer> year, Optional<String> countryCode, Optional<String> holidayType) {
+    // given
+    HolidayCursor cursor = new HolidayCursor(LocalDate.of(2025, 1, 1), UUID.randomUUID());
+
+    // when
+    holidayRepository.searchHolidayByCursor(year, countryCode, holidayType, Optional.of(cursor), Sort.Direction.DESC, 10);
+
+    // then
+    assertThat(SqlCapture.STATEMENTS).singleElement()
+        .satisfies(sql -> assertThat(explain(sql)).doesNotContainIgnoringCase("HOLIDAY.tableScan"));
+  }
+
+  @Test
+  @DisplayName("조건 없는 커서 검색은 (date, holiday_id) 인덱스 순서로 읽는다.")
+  void unfilteredCursorSearchUsesIndex() {
+    // when
+    holidayRepository.searchHolidayByCursor(Optional.empty(), Optional.empty(), Optional.empty(),
+        Optional.of(new HolidayCursor(LocalDate.of(2025, 1, 1), UUID.randomUUID())), Sort.Direction.DESC, 10);
+
+    // then
+    assertThat(SqlCapture.STATEMENTS).singleElement()
+        .satisfies(sql -> assertThat(explain(sql)).doesNotContainIgnoringCase("HOLIDAY.tableScan"));
+  }
+
+  @Test
+  @DisplayName("재동기화·삭제 시 기존 데이터 조회는 인덱스를 사용한다.")
+  void lookupUsesIndex() {
+    // when
+    holidayRepository.findByCountryCodeAndYear("KR", 2025);
+
+    // then
+    assertThat(SqlCapture.STATEMENTS).singleElement()
+        .satisfies(sql -> assertThat(explain(sql)).doesNotContainIgnoringCase("HOLIDAY.tableScan"));
+  }
+
+  private String explain(String sql) {
+    int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+    return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, new Object[parameterCount]);
+  }
+
+  /**
+   * 테스트 스레드에서 Hibernate가 실행하는 SQL을 기록합니다. (백그라운드 초기 적재 쿼리는 제외)
+   */
+  public static class SqlCapture implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    static volatile Thread target;
+
+    @Override
+    public String inspect(String sql) {
+      if (Thread.currentThread() == target) {
+        STATEMENTS.add(sql);
+      }
+      return sql;
+    }
+  }
+}
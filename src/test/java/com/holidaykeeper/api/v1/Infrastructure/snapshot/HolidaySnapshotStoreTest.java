@@ -0,0 +1,108 @@
+package com.holidaykeeper.api.v1.Infrastructure.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("HolidaySnapshotStore 테스트")
+public class HolidaySnapshotStoreTest {
+
+  @TempDir
+  Path snapshotDir;
+
+  private Path file;
+  private HolidaySnapshotStore snapshotStore;
+
+  @BeforeEach
+  void setUp() {
+    file = snapshotDir.resolve("holidays.snap");
+    snapshotStore = new HolidaySnapshotStore(file.toString(), true);
+  }
+
+  @Test
+  @DisplayName("저장한 스냅샷을 읽으면 국가·연도별 공휴일 행과 내용 해시, 동기화 시각이 그대로 복원된다.")
+  void roundTrip() {
+    // given
+    List<HolidayRow> rows = List.of(
+        new HolidayRow(LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day", "KR",
+            true, false, "[\"KR-11\",\"KR-26\"]", 1949, "[\"Public\",\"Bank\"]",
+            HolidayType.PUBLIC.mask() | HolidayType.BANK.mask()),
+        new HolidayRow(LocalDate.of(2025, 1, 1), "새해", "New Year's Day", "KR",
+            null, true, "null", null, "[\"Public\"]", HolidayType.PUBLIC.mask()));
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    HolidaySnapshot snapshot = new HolidaySnapshot(
+        now,
+        List.of(new GetCountryResponse("KR", "South Korea"), new GetCountryResponse("US", "United States")),
+        List.of(
+            new HolidaySnapshot.Unit("KR", 2025, "a".repeat(64), now.minus(1, ChronoUnit.HOURS), rows),
+            new HolidaySnapshot.Unit("US", 2025, "b".repeat(64), now, List.of())));
+
+    // when
+    snapshotStore.write(snapshot);
+
+    // then
+    assertThat(snapshotStore.read()).hasValue(snapshot);
+    assertThat(snapshot.rowCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("읽을 수 없는 스냅샷은 삭제하고 없는 것으로 처리한다.")
+  void discardCorruptedSnapshot() throws Exception {
+    // given
+    Files.write(file, new byte[] {0x48, 0x4B, 0, 1});
+
+    // when & then
+    assertThat(snapshotStore.read()).isEmpty();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("내용이 한 바이트라도 바뀐 스냅샷은 체크섬이 맞지 않아 삭제한다.")
+  void discardSnapshotWithChecksumMismatch() throws Exception {
+    // given
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    snapshotStore.write(new HolidaySnapshot(now, List.of(new GetCountryResponse("KR", "South Korea")), List.of()));
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length / 2] ^= 0x01;
+    Files.write(file, bytes);
+
+    // when & then
+    assertThat(snapshotStore.read()).isEmpty();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("남은 바이트로 담을 수 없는 개수가 기록된 스냅샷은 배열을 할당하지 않고 거부한다.")
+  void rejectCountLargerThanRemainingBytes() {
+    // given
+    ByteBuffer body = ByteBuffer.allocate(Integer.BYTES * 3 + Long.BYTES)
+        .putInt(HolidaySnapshotCodec.MAGIC)
+        .putInt(HolidaySnapshotCodec.VERSION)
+        .putLong(0L)
+        .putInt(Integer.MAX_VALUE)
+        .flip();
+    CRC32 checksum = new CRC32();
+    checksum.update(body.duplicate());
+    ByteBuffer buffer = ByteBuffer.allocate(body.remaining() + Long.BYTES).put(body).putLong(checksum.getValue()).flip();
+
+    // when & then
+    assertThatThrownBy(() -> HolidaySnapshotCodec.decode(buffer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("개수");
+  }
+}
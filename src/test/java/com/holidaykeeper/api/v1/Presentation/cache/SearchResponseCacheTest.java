@@ -0,0 +1,91 @@
+package com.holidaykeeper.api.v1.Presentation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.api.v1.Presentation.request.SearchHolidayRequest;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SearchResponseCache 단위 테스트")
+public class SearchResponseCacheTest {
+
+  private final SearchResponseCache searchResponseCache = new SearchResponseCache(10, 60);
+
+  @Test
+  @DisplayName("기본값을 생략한 요청과 명시한 요청은 같은 응답 본문을 사용한다.")
+  void shareNormalizedRequest() {
+    // given
+    AtomicInteger renderCount = new AtomicInteger();
+    SearchHolidayRequest omitted = request(Optional.of(2025), Optional.of("KR"), Optional.empty(), Optional.empty());
+    SearchHolidayRequest explicit = request(Optional.of(2025), Optional.of("KR"), Optional.of(0), Optional.of("desc"));
+
+    // when
+    searchResponseCache.get(omitted, () -> render(renderCount));
+    byte[] body = searchResponseCache.get(explicit, () -> render(renderCount));
+
+    // then
+    assertThat(renderCount.get()).isEqualTo(1);
+    assertThat(body).isEqualTo("1".getBytes());
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터가 변경되면 해당 국가·연도를 포함하는 검색 응답만 무효화한다.")
+  void invalidateCoveredRequests() {
+    // given
+    AtomicInteger renderCount = new AtomicInteger();
+    SearchHolidayRequest unit = request(Optional.of(2025), Optional.of("KR"), Optional.empty(), Optional.empty());
+    SearchHolidayRequest all = request(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    SearchHolidayRequest otherCountry = request(Optional.of(2025), Optional.of("US"), Optional.empty(), Optional.empty());
+    searchResponseCache.get(unit, () -> render(renderCount));
+    searchResponseCache.get(all, () -> render(renderCount));
+    searchResponseCache.get(otherCountry, () -> render(renderCount));
+
+    // when
+    searchResponseCache.onHolidayChanged(new HolidayChangedEvent("KR", 2025));
+    searchResponseCache.get(unit, () -> render(renderCount));
+    searchResponseCache.get(all, () -> render(renderCount));
+    searchResponseCache.get(otherCountry, () -> render(renderCount));
+
+    // then
+    assertThat(renderCount.get()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("오프셋 방식 첫 페이지만 보관하고, 두 번째 이후 페이지와 커서 방식은 매번 생성한다.")
+  void cacheFirstPageOnly() {
+    // given
+    AtomicInteger renderCount = new AtomicInteger();
+    SearchHolidayRequest secondPage = request(Optional.of(2025), Optional.of("KR"), Optional.of(1), Optional.empty());
+    SearchHolidayRequest cursor = new SearchHolidayRequest(
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(2025), Optional.of("KR"),
+        Optional.empty(), Optional.empty(), Optional.of("CURSOR"), Optional.empty());
+
+    // when
+    searchResponseCache.get(secondPage, () -> render(renderCount));
+    searchResponseCache.get(secondPage, () -> render(renderCount));
+    searchResponseCache.get(cursor, () -> render(renderCount));
+    searchResponseCache.get(cursor, () -> render(renderCount));
+
+    // then
+    assertThat(renderCount.get()).isEqualTo(4);
+    assertThat(searchResponseCache.stats().size()).isZero();
+  }
+
+  private byte[] render(AtomicInteger renderCount) {
+    return String.valueOf(renderCount.incrementAndGet()).getBytes();
+  }
+
+  private SearchHolidayRequest request(
+      Optional<Integer> year,
+      Optional<String> countryCode,
+      Optional<Integer> page,
+      Optional<String> sortOrder
+  ) {
+    return new SearchHolidayRequest(
+        page, Optional.empty(), Optional.empty(), sortOrder, year, countryCode,
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+  }
+}
@@ -0,0 +1,42 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("SyncFailureType 테스트")
+public class SyncFailureTypeTest {
+
+  @Test
+  @DisplayName("I/O·시간 초과, 5xx, 429 응답이 원인이면 일시적인 실패로 분류한다.")
+  void classifyTransient() {
+    assertThat(SyncFailureType.classify(new ResourceAccessException("연결 실패", new SocketTimeoutException())))
+        .isEqualTo(SyncFailureType.TRANSIENT);
+    assertThat(SyncFailureType.classify(new RuntimeException(new TimeoutException())))
+        .isEqualTo(SyncFailureType.TRANSIENT);
+    assertThat(SyncFailureType.classify(new RuntimeException(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))))
+        .isEqualTo(SyncFailureType.TRANSIENT);
+    assertThat(SyncFailureType.classify(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)))
+        .isEqualTo(SyncFailureType.TRANSIENT);
+  }
+
+  @Test
+  @DisplayName("429를 제외한 4xx와 잘못된 인자·상태, null 참조 같은 프로그램 오류는 영구적인 실패로 분류한다.")
+  void classifyPermanent() {
+    assertThat(SyncFailureType.classify(new RuntimeException(new HttpClientErrorException(HttpStatus.NOT_FOUND))))
+        .isEqualTo(SyncFailureType.PERMANENT);
+    assertThat(SyncFailureType.classify(new IllegalArgumentException("잘못된 인자")))
+        .isEqualTo(SyncFailureType.PERMANENT);
+    assertThat(SyncFailureType.classify(new IllegalStateException("잘못된 상태")))
+        .isEqualTo(SyncFailureType.PERMANENT);
+    assertThat(SyncFailureType.classify(new NullPointerException()))
+        .isEqualTo(SyncFailureType.PERMANENT);
+  }
+}
@@ -0,0 +1,47 @@
+package com.holidaykeeper.api.v1.application.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SyncJobHistory 테스트")
+public class SyncJobHistoryTest {
+
+  private static final int HISTORY_SIZE = 3;
+
+  private final SyncJobHistory syncJobHistory = new SyncJobHistory(HISTORY_SIZE);
+
+  @Test
+  @DisplayName("보관 개수보다 많은 작업을 요청해도 끝나지 않은 작업은 제거하지 않는다.")
+  void keepUnfinishedJobs() {
+    // given
+    List<SyncJob> jobs = IntStream.range(0, HISTORY_SIZE * 2)
+        .mapToObj(i -> syncJobHistory.create("MANUAL_HOLIDAY_REFRESH:KR", List.of(2025)))
+        .toList();
+
+    // when & then
+    assertThat(jobs).allSatisfy(job -> assertThat(syncJobHistory.find(job.getId())).hasValue(job));
+  }
+
+  @Test
+  @DisplayName("보관 개수를 넘으면 끝난 작업 중 가장 오래된 작업부터 제거한다.")
+  void evictOldestFinishedJob() {
+    // given
+    SyncJob running = syncJobHistory.create("MANUAL_HOLIDAY_REFRESH:KR", List.of(2025));
+    running.start(1);
+    SyncJob oldestFinished = syncJobHistory.create("MANUAL_HOLIDAY_REFRESH:US", List.of(2025));
+    oldestFinished.complete();
+    SyncJob finished = syncJobHistory.create("MANUAL_HOLIDAY_REFRESH:JP", List.of(2025));
+    finished.complete();
+
+    // when
+    SyncJob submitted = syncJobHistory.create("MANUAL_HOLIDAY_REFRESH:DE", List.of(2025));
+
+    // then
+    assertThat(syncJobHistory.find(oldestFinished.getId())).isEmpty();
+    assertThat(syncJobHistory.recent(HISTORY_SIZE * 2)).containsExactly(submitted, finished, running);
+  }
+}
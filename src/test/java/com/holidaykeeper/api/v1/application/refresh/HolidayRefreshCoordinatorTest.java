@@ -0,0 +1,120 @@
+package com.holidaykeeper.api.v1.application.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.service.HolidayUsecase;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HolidayRefreshCoordinator 테스트")
+public class HolidayRefreshCoordinatorTest {
+
+  private final HolidayUsecase holidayUsecase = mock(HolidayUsecase.class);
+  private final HolidayRefreshCoordinator coordinator = new HolidayRefreshCoordinator(holidayUsecase, 100, 60);
+
+  @Test
+  @DisplayName("같은 국가·연도의 동시 재동기화는 한 번만 실행되고 모든 호출이 같은 결과를 받는다.")
+  void coalesceConcurrentRefreshes() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    HolidayRefreshResult expected = HolidayRefreshResult.of("KR", 2025, 2, 1, 0);
+    when(holidayUsecase.refreshHolidays("KR", 2025)).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return expected;
+    });
+
+    // when
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<HolidayRefreshResult> leader = executor.submit(() -> coordinator.refresh("KR", 2025));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      List<Future<HolidayRefreshResult>> followers = IntStream.range(0, 4)
+          .mapToObj(i -> executor.submit(() -> coordinator.refresh("KR", 2025)))
+          .toList();
+      release.countDown();
+
+      // then
+      assertThat(leader.get()).isSameAs(expected);
+      for (Future<HolidayRefreshResult> follower : followers) {
+        assertThat(follower.get()).isSameAs(expected);
+      }
+    }
+    verify(holidayUsecase, times(1)).refreshHolidays("KR", 2025);
+  }
+
+  @Test
+  @DisplayName("최근 성공한 결과는 재사용하고, 공휴일 변경 이벤트를 받으면 다시 재동기화한다.")
+  void reuseRecentResult() {
+    // given
+    when(holidayUsecase.refreshHolidays("KR", 2025))
+        .thenReturn(HolidayRefreshResult.of("KR", 2025, 2, 0, 0))
+        .thenReturn(HolidayRefreshResult.unchanged("KR", 2025));
+
+    // when
+    HolidayRefreshResult first = coordinator.refresh("KR", 2025);
+    HolidayRefreshResult second = coordinator.refresh("KR", 2025);
+    coordinator.onHolidayChanged(new HolidayChangedEvent("KR", 2025));
+    HolidayRefreshResult third = coordinator.refresh("KR", 2025);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(third.unchanged()).isTrue();
+    verify(holidayUsecase, times(2)).refreshHolidays("KR", 2025);
+  }
+
+  @Test
+  @DisplayName("실패한 재동기화 결과는 보관하지 않는다.")
+  void doNotReuseFailure() {
+    // given
+    when(holidayUsecase.refreshHolidays("KR", 2025))
+        .thenThrow(new RuntimeException("timeout"))
+        .thenReturn(HolidayRefreshResult.unchanged("KR", 2025));
+
+    // when & then
+    assertThatThrownBy(() -> coordinator.refresh("KR", 2025)).hasMessage("timeout");
+    assertThat(coordinator.refresh("KR", 2025).unchanged()).isTrue();
+  }
+
+  @Test
+  @DisplayName("재동기화가 Error로 끝나도 기다리던 호출은 같은 Error를 받고, 진행 중 표시는 남지 않는다.")
+  void propagateErrorToFollowers() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    StackOverflowError error = new StackOverflowError("재동기화 오류");
+    when(holidayUsecase.refreshHolidays("KR", 2025))
+        .thenAnswer(invocation -> {
+          started.countDown();
+          release.await(5, TimeUnit.SECONDS);
+          throw error;
+        })
+        .thenThrow(error);
+
+    // when
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<HolidayRefreshResult> leader = executor.submit(() -> coordinator.refresh("KR", 2025));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<HolidayRefreshResult> follower = executor.submit(() -> coordinator.refresh("KR", 2025));
+      release.countDown();
+
+      // then
+      assertThatThrownBy(leader::get).hasCause(error);
+      assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(error);
+    }
+    assertThatThrownBy(() -> coordinator.refresh("KR", 2025)).isSameAs(error);
+  }
+}
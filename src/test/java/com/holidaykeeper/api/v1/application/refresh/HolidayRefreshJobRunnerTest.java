@@ -0,0 +1,67 @@
+package com.holidaykeeper.api.v1.application.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.holidaykeeper.api.v1.application.job.SyncFailureType;
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncJobStatus;
+import com.holidaykeeper.api.v1.application.job.SyncTaskResult;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayRefreshJobRunner Mock 테스트")
+public class HolidayRefreshJobRunnerTest {
+
+  @Mock
+  private HolidayRefreshCoordinator refreshCoordinator;
+
+  @InjectMocks
+  private HolidayRefreshJobRunner jobRunner;
+
+  @Test
+  @DisplayName("재동기화가 끝나면 작업을 성공으로 종료하고 삽입·변경·삭제된 공휴일 수를 기록한다.")
+  void recordRefreshResult() {
+    // given
+    when(refreshCoordinator.refresh("KR", 2025)).thenReturn(HolidayRefreshResult.of("KR", 2025, 2, 1, 3));
+    SyncJob job = new SyncJob("MANUAL_HOLIDAY_REFRESH:KR", List.of(2025));
+
+    // when
+    jobRunner.run(job, "KR", 2025);
+
+    // then
+    assertThat(job.getStatus()).isEqualTo(SyncJobStatus.SUCCEEDED);
+    assertThat(job.getStartedAt()).isNotNull();
+    assertThat(job.getFinishedAt()).isNotNull();
+    assertThat(job.taskResults()).singleElement()
+        .extracting(SyncTaskResult::inserted, SyncTaskResult::updated, SyncTaskResult::deleted)
+        .containsExactly(2, 1, 3);
+  }
+
+  @Test
+  @DisplayName("재동기화가 실패하면 작업을 실패로 종료하고 실패 분류를 기록한다.")
+  void failRefreshJob() {
+    // given
+    when(refreshCoordinator.refresh("XX", 2025))
+        .thenThrow(new RuntimeException(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+    SyncJob job = new SyncJob("MANUAL_HOLIDAY_REFRESH:XX", List.of(2025));
+
+    // when
+    jobRunner.run(job, "XX", 2025);
+
+    // then
+    assertThat(job.getStatus()).isEqualTo(SyncJobStatus.FAILED);
+    assertThat(job.getError()).isNotNull();
+    assertThat(job.taskResults()).singleElement()
+        .extracting(SyncTaskResult::failureType)
+        .isEqualTo(SyncFailureType.PERMANENT);
+  }
+}
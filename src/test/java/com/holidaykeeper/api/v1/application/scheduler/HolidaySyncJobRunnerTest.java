@@ -0,0 +1,110 @@
+package com.holidaykeeper.api.v1.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.application.job.SyncFailureType;
+import com.holidaykeeper.api.v1.application.job.SyncJob;
+import com.holidaykeeper.api.v1.application.job.SyncJobHistory;
+import com.holidaykeeper.api.v1.application.job.SyncJobStatus;
+import com.holidaykeeper.api.v1.application.job.SyncTaskResult;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshCoordinator;
+import com.holidaykeeper.api.v1.application.refresh.HolidayRefreshResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySyncJobRunner Mock 테스트")
+public class HolidaySyncJobRunnerTest {
+
+  @Mock
+  private HolidayRefreshCoordinator refreshCoordinator;
+
+  @Mock
+  private ApiClient apiClient;
+
+  @InjectMocks
+  private HolidaySyncJobRunner jobRunner;
+
+  private final SyncJobHistory syncJobHistory = new SyncJobHistory(2);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(jobRunner, "maxConcurrency", 4);
+  }
+
+  @Test
+  @DisplayName("국가·연도별 소요 시간과 실패 분류를 기록하고, 일부 실패 시 부분 실패로 종료한다.")
+  void recordTaskResults() {
+    // given
+    when(apiClient.getCountries()).thenReturn(List.of(
+        new GetCountryResponse("KR", "South Korea"),
+        new GetCountryResponse("US", "United States")
+    ));
+    // 다른 인자로도 호출되므로 엄격한 스텁 검사를 끕니다.
+    lenient().when(refreshCoordinator.refresh(anyString(), anyInt()))
+        .thenAnswer(invocation -> HolidayRefreshResult.of(invocation.getArgument(0), invocation.getArgument(1), 1, 0, 0));
+    lenient().doThrow(new RuntimeException(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)))
+        .when(refreshCoordinator).refresh("US", 2024);
+    lenient().doThrow(new RuntimeException(new HttpClientErrorException(HttpStatus.NOT_FOUND)))
+        .when(refreshCoordinator).refresh("US", 2025);
+    SyncJob job = syncJobHistory.create("TEST", List.of(2024, 2025));
+
+    // when
+    jobRunner.run(job);
+
+    // then
+    assertThat(job.getStatus()).isEqualTo(SyncJobStatus.PARTIALLY_FAILED);
+    assertThat(job.getTotalTasks()).isEqualTo(4);
+    assertThat(job.completedTasks()).isEqualTo(4);
+    assertThat(job.getSucceededTasks().get()).isEqualTo(2);
+    assertThat(job.taskResults())
+        .filteredOn(result -> !result.isSuccess())
+        .extracting(SyncTaskResult::year, SyncTaskResult::failureType)
+        .containsExactlyInAnyOrder(
+            tuple(2024, SyncFailureType.TRANSIENT),
+            tuple(2025, SyncFailureType.PERMANENT));
+    assertThat(job.taskResults())
+        .filteredOn(SyncTaskResult::isSuccess)
+        .extracting(SyncTaskResult::inserted)
+        .containsExactly(1, 1);
+    assertThat(job.getFinishedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("국가 목록 조회에 실패하면 작업을 실패로 종료하고, 끝난 작업은 최근 작업만 보관한다.")
+  void failJob() {
+    // given
+    when(apiClient.getCountries()).thenThrow(new IllegalStateException("국가 조회 실패"));
+    SyncJob first = syncJobHistory.create("TEST", List.of(2025));
+    first.complete();
+    SyncJob second = syncJobHistory.create("TEST", List.of(2025));
+    SyncJob third = syncJobHistory.create("TEST", List.of(2025));
+
+    // when
+    jobRunner.run(third);
+
+    // then
+    assertThat(third.getStatus()).isEqualTo(SyncJobStatus.FAILED);
+    assertThat(third.getError()).isEqualTo("국가 조회 실패");
+    assertThat(syncJobHistory.recent(10)).containsExactly(third, second);
+    assertThat(syncJobHistory.find(third.getId())).hasValue(third);
+    assertThat(syncJobHistory.find(first.getId())).isEmpty();
+  }
+}
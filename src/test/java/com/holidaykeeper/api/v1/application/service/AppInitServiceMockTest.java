@@ -1,11 +1,15 @@
 package com.holidaykeeper.api.v1.application.service;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,17 +19,38 @@ import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCount
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.application.snapshot.HolidaySnapshotService;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadUnit;
+import com.holidaykeeper.api.v1.application.writer.HolidayParallelWriter;
+import com.holidaykeeper.api.v1.common.exception.HolidayDataUnavailableException;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AppInitService Mock 테스트")
@@ -38,16 +63,37 @@ public class AppInitServiceMockTest {
   private HolidayRepository holidayRepository;
 
   @Mock
+  private HolidaySyncStateRepository holidaySyncStateRepository;
+
+  // getHolidayRows()의 기본 구현이 스텁한 getHolidays()를 사용하도록 실제 메서드를 호출합니다.
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private ApiClient apiClient;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private HolidayParallelWriter parallelWriter;
+
+  @Mock
+  private HolidayLoadState loadState;
+
+  @Mock
+  private HolidaySnapshotService snapshotService;
+
   @InjectMocks
   private AppInitService appInitService;
 
   @BeforeEach
   void setUp() {
-    // batchSize : DB bulk insert 배치 사이즈 , retryCount : 외부 API 재시도 횟수
+    // batchSize : DB bulk insert 배치 사이즈 , retryCount : 외부 API 재시도 횟수, maxConcurrency : 외부 API 동시 호출 수
     ReflectionTestUtils.setField(appInitService, "batchSize", 3);
     ReflectionTestUtils.setField(appInitService, "retryCount", 3);
+    ReflectionTestUtils.setField(appInitService, "maxConcurrency", 4);
+    ReflectionTestUtils.setField(appInitService, "queueCapacity", 2);
   }
 
   @Test
@@ -74,7 +120,183 @@ public class AppInitServiceMockTest {
 
     // then
     // [2020년 ~ 2025년] 6 x 2 = 12개, 배치 사이즈 = 3, 총 토탈 호출 횟수 = 12 / 3 = 4
-    verify(holidayRepository, atLeast(4)).bulkInsert(anyList());
+    verify(holidayRepository, atLeast(4)).bulkInsertRows(anyList());
+  }
+
+  @Test
+  @DisplayName("완료 체크포인트가 있는 국가·연도는 다시 조회하지 않고 남은 국가·연도만 적재한다.")
+  void resumeFromCheckpoints() {
+    // given
+    when(apiClient.getCountries()).thenReturn(List.of(new GetCountryResponse("KR", "South Korea")));
+    when(holidaySyncStateRepository.findSyncStates(2020, 2025)).thenReturn(List.of(
+        HolidaySyncState.of("KR", 2020, "hash"),
+        HolidaySyncState.of("KR", 2021, "hash"),
+        HolidaySyncState.of("KR", 2022, "hash"),
+        HolidaySyncState.of("KR", 2023, "hash")
+    ));
+    when(apiClient.getHolidays(anyInt(), eq("KR"))).thenReturn(List.of());
+
+    // when
+    appInitService.saveRecentHolidays();
+
+    // then
+    verify(apiClient, never()).getHolidays(2020, "KR");
+    verify(apiClient, never()).getHolidays(2023, "KR");
+    verify(apiClient).getHolidays(2024, "KR");
+    verify(apiClient).getHolidays(2025, "KR");
+    verify(eventPublisher, times(2)).publishEvent(any(HolidayChangedEvent.class));
+  }
+
+  @Test
+  @DisplayName("초기 적재 중 아직 적재되지 않은 국가·연도는 즉시 조회하여 체크포인트와 함께 저장한다.")
+  void hydrateIfPending() {
+    // given
+    HolidayLoadUnit unit = new HolidayLoadUnit("KR", 2025);
+    when(loadState.isPending(unit)).thenReturn(true);
+    when(apiClient.getHolidays(2025, "KR")).thenReturn(List.of(
+        new GetHolidayResponse(LocalDate.of(2025, 1, 1), "새해", "New Year's Day", "KR",
+            false, false, Collections.emptyList(), null, Collections.emptyList())
+    ));
+
+    // when
+    boolean hydrated = appInitService.hydrateIfPending("KR", 2025);
+
+    // then
+    assertThat(hydrated).isTrue();
+    assertThat(appInitService.hydrateIfPending("KR", 2024)).isFalse();
+    verify(holidayRepository).bulkInsertRows(anyList());
+    verify(holidaySyncStateRepository).bulkUpsert(anyList());
+    verify(loadState).markLoaded(unit);
+    verify(eventPublisher).publishEvent(new HolidayChangedEvent("KR", 2025));
+    verify(apiClient, never()).getHolidays(2024, "KR");
+  }
+
+  @Test
+  @DisplayName("즉시 적재에 실패하면 빈 결과 대신 HolidayDataUnavailableException을 던지고 체크포인트를 남기지 않는다.")
+  void hydrateIfPendingFailure() {
+    // given
+    HolidayLoadUnit unit = new HolidayLoadUnit("KR", 2025);
+    when(loadState.isPending(unit)).thenReturn(true);
+    when(apiClient.getHolidays(2025, "KR")).thenThrow(new RuntimeException("API Error"));
+
+    // when & then
+    assertThatThrownBy(() -> appInitService.hydrateIfPending("KR", 2025))
+        .isInstanceOf(HolidayDataUnavailableException.class);
+    verify(holidaySyncStateRepository, never()).bulkUpsert(anyList());
+    verify(loadState, never()).markLoaded(unit);
+  }
+
+  @Test
+  @DisplayName("초기 적재가 실패로 끝나면 남은 국가·연도를 즉시 적재하지 않는다.")
+  void doesNotHydrateAfterLoadFailed() {
+    // given
+    HolidayLoadUnit unit = new HolidayLoadUnit("KR", 2025);
+    HolidayLoadState state = new HolidayLoadState();
+    state.startHolidays(List.of(unit));
+    state.fail(new RuntimeException("API Error"));
+    ReflectionTestUtils.setField(appInitService, "loadState", state);
+
+    // when
+    boolean hydrated = appInitService.hydrateIfPending("KR", 2025);
+
+    // then
+    assertThat(hydrated).isFalse();
+    verify(apiClient, never()).getHolidays(anyInt(), anyString());
+  }
+
+  @Test
+  @DisplayName("같은 국가·연도의 동시 즉시 적재는 외부 API를 한 번만 호출한다.")
+  void hydrateIfPendingSingleFlight() throws Exception {
+    // given
+    HolidayLoadUnit unit = new HolidayLoadUnit("KR", 2025);
+    AtomicBoolean loaded = new AtomicBoolean();
+    when(loadState.isPending(unit)).thenAnswer(invocation -> !loaded.get());
+    doAnswer(invocation -> {
+      loaded.set(true);
+      return null;
+    }).when(loadState).markLoaded(unit);
+
+    CountDownLatch fetching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(apiClient.getHolidays(2025, "KR")).thenAnswer(invocation -> {
+      fetching.countDown();
+      release.await();
+      return List.of();
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Boolean> leader = executor.submit(() -> appInitService.hydrateIfPending("KR", 2025));
+      fetching.await();
+      Future<Boolean> follower = executor.submit(() -> appInitService.hydrateIfPending("KR", 2025));
+
+      // when
+      Thread.sleep(100);
+      release.countDown();
+
+      // then
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isNotNull();
+      verify(apiClient, times(1)).getHolidays(2025, "KR");
+      verify(holidaySyncStateRepository, times(1)).bulkUpsert(anyList());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("공휴일 조회가 재시도 횟수를 초과하면 남은 조회를 취소하고 실패 원인을 포함한 예외를 발생시킨다.")
+  void throwsExceptionWhenHolidayFetchFails() {
+    // given
+    when(apiClient.getCountries()).thenReturn(List.of(
+        new GetCountryResponse("KR", "South Korea"),
+        new GetCountryResponse("US", "United States")
+    ));
+    when(apiClient.getHolidays(anyInt(), anyString())).thenReturn(List.of());
+    when(apiClient.getHolidays(eq(2022), eq("US"))).thenThrow(new RuntimeException("API Error"));
+
+    // when & then
+    assertThatThrownBy(() -> appInitService.saveRecentHolidays())
+        .isInstanceOf(RuntimeException.class)
+        .hasRootCauseMessage("API Error");
+    verify(apiClient, times(3)).getHolidays(2022, "US");
+    verify(eventPublisher, never()).publishEvent(new HolidayChangedEvent("US", 2022));
+  }
+
+  @Test
+  @DisplayName("적재 도중 실패해도 체크포인트가 커밋된 국가·연도는 공휴일 변경 이벤트를 발행한다.")
+  void publishesEventPerCommittedUnit() {
+    // given
+    when(apiClient.getCountries()).thenReturn(List.of(
+        new GetCountryResponse("KR", "South Korea"),
+        new GetCountryResponse("US", "United States")
+    ));
+    // 국가·연도마다 배치 사이즈(3)만큼 공휴일을 돌려주어 실패 전에 배치가 커밋되도록 합니다.
+    when(apiClient.getHolidays(anyInt(), anyString())).thenAnswer(invocation -> {
+      int year = invocation.getArgument(0);
+      String countryCode = invocation.getArgument(1);
+      return IntStream.rangeClosed(1, 3)
+          .mapToObj(month -> new GetHolidayResponse(LocalDate.of(year, month, 1), "공휴일", "Holiday", countryCode,
+              false, false, Collections.emptyList(), null, Collections.emptyList()))
+          .toList();
+    });
+    when(apiClient.getHolidays(eq(2025), eq("US"))).thenThrow(new RuntimeException("API Error"));
+
+    // when
+    assertThatThrownBy(() -> appInitService.saveRecentHolidays()).isInstanceOf(RuntimeException.class);
+
+    // then
+    ArgumentCaptor<List<HolidaySyncState>> checkpoints = ArgumentCaptor.forClass(List.class);
+    verify(holidaySyncStateRepository, atLeast(0)).bulkUpsert(checkpoints.capture());
+    ArgumentCaptor<HolidayChangedEvent> events = ArgumentCaptor.forClass(HolidayChangedEvent.class);
+    verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+
+    List<HolidayChangedEvent> committed = checkpoints.getAllValues().stream()
+        .flatMap(List::stream)
+        .map(state -> new HolidayChangedEvent(state.getCountryCode(), state.getYear()))
+        .toList();
+    assertThat(events.getAllValues()).isEqualTo(committed);
+    assertThat(committed.isEmpty()).isFalse();
   }
 
   @Test
@@ -96,14 +318,28 @@ public class AppInitServiceMockTest {
   }
 
   @Test
-  @DisplayName("재시도 횟수를 초과하면 예외를 발생시킨다")
+  @DisplayName("재시도해도 결과가 같은 4xx 응답은 재시도하지 않는다.")
+  void doesNotRetryClientError() {
+    // given
+    when(apiClient.getCountries())
+        .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+    // when & then
+    assertThatThrownBy(() -> appInitService.saveRecentHolidays()).isInstanceOf(RuntimeException.class);
+    verify(apiClient, times(1)).getCountries();
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 초과하면 마지막 실패 원인을 포함한 예외를 발생시킨다")
   void throwsExceptionAfterMaxRetries() {
     // given
     when(apiClient.getCountries())
         .thenThrow(new RuntimeException("API Error"));
 
     // when & then
-    assertThatThrownBy(() -> appInitService.saveRecentHolidays()).isInstanceOf(RuntimeException.class);
+    assertThatThrownBy(() -> appInitService.saveRecentHolidays())
+        .isInstanceOf(RuntimeException.class)
+        .hasRootCauseMessage("API Error");
     verify(apiClient, times(3)).getCountries();
   }
 
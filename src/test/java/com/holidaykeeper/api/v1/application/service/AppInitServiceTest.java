@@ -1,7 +1,10 @@
 package com.holidaykeeper.api.v1.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
@@ -13,6 +16,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,13 +39,15 @@ public class AppInitServiceTest {
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
-  @MockitoBean
+  // getHolidayRows()의 기본 구현이 스텁한 getHolidays()를 사용하도록 실제 메서드를 호출합니다.
+  @MockitoBean(answers = Answers.CALLS_REAL_METHODS)
   private ApiClient apiClient;
 
   @BeforeEach
   void setUp() {
     jdbcTemplate.execute("DELETE FROM holiday");
     jdbcTemplate.execute("DELETE FROM country");
+    jdbcTemplate.execute("DELETE FROM holiday_sync_state");
   }
 
   @Test
@@ -93,4 +99,26 @@ public class AppInitServiceTest {
     assertThat(UsHolidayCnt).isEqualTo(18);
   }
 
+  @Test
+  @DisplayName("다시 실행하면 완료된 국가·연도는 조회하지 않으며, 국가 ID와 공휴일이 그대로 유지된다.")
+  void resumeSaveRecentHolidays() {
+    // given
+    when(apiClient.getCountries()).thenReturn(List.of(new GetCountryResponse("KR", "South Korea")));
+    when(apiClient.getHolidays(anyInt(), eq("KR"))).thenAnswer(invocation -> List.of(
+        new GetHolidayResponse(LocalDate.of(invocation.<Integer>getArgument(0), 1, 1), "새해", "New Year's Day", "KR",
+            false, false, Collections.emptyList(), null, Collections.emptyList())
+    ));
+    appInitService.saveRecentHolidays();
+    String countryId = jdbcTemplate.queryForObject("SELECT CAST(country_id AS VARCHAR) FROM country WHERE country_code = 'KR'", String.class);
+
+    // when
+    appInitService.saveRecentHolidays();
+
+    // then
+    verify(apiClient, times(6)).getHolidays(anyInt(), eq("KR"));
+    assertThat(jdbcTemplate.queryForObject("SELECT CAST(country_id AS VARCHAR) FROM country WHERE country_code = 'KR'", String.class))
+        .isEqualTo(countryId);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class)).isEqualTo(6);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday_sync_state", Integer.class)).isEqualTo(6);
+  }
 }
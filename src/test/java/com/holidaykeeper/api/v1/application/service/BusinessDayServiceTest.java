@@ -0,0 +1,285 @@
+package com.holidaykeeper.api.v1.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayCheckResponse;
+import com.holidaykeeper.api.v1.application.calendar.HolidayCalendarIndex;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
+import com.holidaykeeper.api.v1.domain.Country;
+import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@SpringBootTest
+@DisplayName("BusinessDayService 통합 테스트")
+public class BusinessDayServiceTest {
+
+  @Autowired
+  private BusinessDayService businessDayService;
+
+  @Autowired
+  private HolidayService holidayService;
+
+  @Autowired
+  private HolidayRepository holidayRepository;
+
+  @Autowired
+  private CountryRepository countryRepository;
+
+  @Autowired
+  private HolidaySyncStateRepository holidaySyncStateRepository;
+
+  @Autowired
+  private HolidayCalendarIndex holidayCalendarIndex;
+
+  @MockitoBean
+  private ApiClient apiClient;
+
+  private Country kr;
+
+  @BeforeEach
+  void setUp() {
+    holidayCalendarIndex.invalidateAll();
+    holidayRepository.deleteAllInBatch();
+    holidaySyncStateRepository.deleteAllInBatch();
+    countryRepository.deleteAllInBatch();
+
+    kr = countryRepository.save(Country.of("KR", "South Korea"));
+    holidaySyncStateRepository.bulkUpsert(List.of(
+        HolidaySyncState.of("KR", 2024, "a".repeat(64)),
+        HolidaySyncState.of("KR", 2025, "b".repeat(64))));
+
+    saveHoliday(LocalDate.of(2024, 1, 1), "New Year's Day", "[\"Public\"]");
+    saveHoliday(LocalDate.of(2025, 1, 1), "New Year's Day", "[\"Public\"]");
+    saveHoliday(LocalDate.of(2025, 5, 1), "Workers Day", "[\"Optional\"]");
+  }
+
+  @Test
+  @DisplayName("시작일(포함)부터 종료일(제외)까지의 영업일 수를 계산할 수 있다.")
+  void countBusinessDays() {
+    // when
+    long january = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Optional.empty()).businessDays();
+    long reversed = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), Optional.empty()).businessDays();
+
+    // then
+    assertThat(january).isEqualTo(22);
+    assertThat(reversed).isEqualTo(-22);
+  }
+
+  @Test
+  @DisplayName("여러 연도에 걸친 구간의 영업일 수를 공휴일 타입 조건과 함께 계산할 수 있다.")
+  void countBusinessDaysAcrossYears() {
+    // when
+    long allTypes = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1), Optional.empty()).businessDays();
+    long publicOnly = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1), Optional.of("Public")).businessDays();
+
+    // then
+    assertThat(allTypes).isEqualTo(261 + 259);
+    assertThat(publicOnly).isEqualTo(261 + 260);
+  }
+
+  @Test
+  @DisplayName("기준일로부터 N 영업일 전후의 날짜를 연도를 넘어 계산할 수 있다.")
+  void addBusinessDays() {
+    // when
+    LocalDate nextYear = businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2024, 12, 31), 1, Optional.empty()).result();
+    LocalDate previousYear = businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2025, 1, 2), -1, Optional.empty()).result();
+    LocalDate afterWeekend = businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2025, 1, 3), 1, Optional.empty()).result();
+    LocalDate sameDay = businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2025, 1, 4), 0, Optional.empty()).result();
+
+    // then
+    assertThat(nextYear).isEqualTo(LocalDate.of(2025, 1, 2));
+    assertThat(previousYear).isEqualTo(LocalDate.of(2024, 12, 31));
+    assertThat(afterWeekend).isEqualTo(LocalDate.of(2025, 1, 6));
+    assertThat(sameDay).isEqualTo(LocalDate.of(2025, 1, 4));
+  }
+
+  @Test
+  @DisplayName("영업일 수 계산과 N 영업일 후 날짜 계산 결과는 서로 일치한다.")
+  void addBusinessDaysMatchesCount() {
+    // given
+    LocalDate start = LocalDate.of(2024, 3, 15);
+
+    // when
+    LocalDate result = businessDayService.addBusinessDays("KR", start, 300, Optional.empty()).result();
+    long count = businessDayService.countBusinessDays(
+        "KR", start.plusDays(1), result.plusDays(1), Optional.empty()).businessDays();
+
+    // then
+    assertThat(count).isEqualTo(300);
+  }
+
+  @Test
+  @DisplayName("국가별로 설정된 주말을 기준으로 영업일을 판정한다.")
+  void countryWeekend() {
+    // given
+    countryRepository.save(Country.of("IL", "Israel"));
+    holidaySyncStateRepository.bulkUpsert(List.of(HolidaySyncState.of("IL", 2025, "c".repeat(64))));
+
+    // when
+    boolean friday = holidayService.checkHoliday(
+        "IL", LocalDate.of(2025, 1, 3), Optional.empty(), Optional.empty()).businessDay();
+    boolean sunday = holidayService.checkHoliday(
+        "IL", LocalDate.of(2025, 1, 5), Optional.empty(), Optional.empty()).businessDay();
+
+    // then
+    assertThat(friday).isFalse();
+    assertThat(sunday).isTrue();
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터 변경 이벤트를 수신하면 변경된 국가·연도의 영업일을 다시 계산한다.")
+  void recalculateOnHolidayChanged() {
+    // given
+    businessDayService.countBusinessDays("KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Optional.empty());
+    saveHoliday(LocalDate.of(2025, 1, 2), "Substitute Day", "[\"Public\"]");
+
+    // when
+    holidayCalendarIndex.onHolidayChanged(new HolidayChangedEvent("KR", 2025));
+    long january = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Optional.empty()).businessDays();
+
+    // then
+    assertThat(january).isEqualTo(21);
+  }
+
+  @Test
+  @DisplayName("지역 한정 공휴일은 국가 전체의 영업일에서 제외하지 않는다.")
+  void countyHolidayIsBusinessDay() {
+    // given : 2025-01-02(목) 서울 한정 공휴일
+    holidayRepository.save(Holiday.builder()
+        .country(kr)
+        .date(LocalDate.of(2025, 1, 2))
+        .localName("지역 공휴일")
+        .name("Regional Day")
+        .fixed(true)
+        .global(false)
+        .countiesJson("[\"KR-11\"]")
+        .launchYear(null)
+        .typesJson("[\"Public\"]")
+        .build());
+
+    // when
+    long january = businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Optional.empty()).businessDays();
+    LocalDate next = businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2025, 1, 1), 1, Optional.empty()).result();
+    boolean regionalHoliday = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 1, 2), Optional.empty(), Optional.of("KR-11")).holiday();
+
+    // then
+    assertThat(january).isEqualTo(22);
+    assertThat(next).isEqualTo(LocalDate.of(2025, 1, 2));
+    assertThat(regionalHoliday).isTrue();
+  }
+
+  @Test
+  @DisplayName("지역 한정 공휴일은 공휴일 여부 확인과 영업일 계산 모두에서 영업일로 판정한다.")
+  void countyHolidayBusinessDayAgrees() {
+    // given : 2025-01-02(목) 서울 한정 공휴일
+    holidayRepository.save(Holiday.builder()
+        .country(kr)
+        .date(LocalDate.of(2025, 1, 2))
+        .localName("지역 공휴일")
+        .name("Regional Day")
+        .fixed(true)
+        .global(false)
+        .countiesJson("[\"KR-11\"]")
+        .launchYear(null)
+        .typesJson("[\"Public\"]")
+        .build());
+    LocalDate date = LocalDate.of(2025, 1, 2);
+
+    // when
+    HolidayCheckResponse anyCounty = holidayService.checkHoliday("KR", date, Optional.empty(), Optional.empty());
+    HolidayCheckResponse sameCounty = holidayService.checkHoliday("KR", date, Optional.empty(), Optional.of("KR-11"));
+    long counted = businessDayService.countBusinessDays("KR", date, date.plusDays(1), Optional.empty()).businessDays();
+
+    // then
+    assertThat(anyCounty.holiday()).isTrue();
+    assertThat(sameCounty.holiday()).isTrue();
+    assertThat(counted).isEqualTo(1);
+    assertThat(anyCounty.businessDay()).isTrue();
+    assertThat(sameCounty.businessDay()).isTrue();
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터가 적재되지 않은 연도가 포함되면 영업일을 계산하지 않고 거절한다.")
+  void rejectUnloadedYear() {
+    assertThatThrownBy(() -> businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 6, 1), LocalDate.of(2026, 6, 1), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("2026");
+    assertThatThrownBy(() -> businessDayService.addBusinessDays(
+        "KR", LocalDate.of(2025, 12, 31), 1, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  @DisplayName("국가 코드나 날짜가 없으면 공휴일 여부 확인과 영업일 계산 모두 InvalidRequestException이 발생한다.")
+  void rejectMissingParameters() {
+    // given
+    LocalDate date = LocalDate.of(2025, 1, 2);
+
+    // when & then
+    assertThatThrownBy(() -> holidayService.checkHoliday(null, date, Optional.empty(), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> holidayService.checkHoliday("KR", null, Optional.empty(), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> businessDayService.countBusinessDays(null, date, date, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> businessDayService.countBusinessDays("KR", null, date, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> businessDayService.countBusinessDays("KR", date, null, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> businessDayService.addBusinessDays(null, date, 1, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> businessDayService.addBusinessDays("KR", null, 0, Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 공휴일 타입이면 예외가 발생한다.")
+  void unsupportedHolidayType() {
+    assertThatThrownBy(() -> businessDayService.countBusinessDays(
+        "KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), Optional.of("Unknown")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void saveHoliday(LocalDate date, String name, String typesJson) {
+    holidayRepository.save(Holiday.builder()
+        .country(kr)
+        .date(date)
+        .localName(name)
+        .name(name)
+        .fixed(true)
+        .global(true)
+        .launchYear(null)
+        .typesJson(typesJson)
+        .build());
+  }
+}
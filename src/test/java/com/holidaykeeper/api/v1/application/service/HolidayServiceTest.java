@@ -1,6 +1,7 @@
 package com.holidaykeeper.api.v1.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -9,20 +10,35 @@ import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
 import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetHolidayResponse;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
 import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Presentation.request.LookupHolidayItem;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayCheckResponse;
+import com.holidaykeeper.api.v1.Presentation.response.HolidayLookupResponse;
 import com.holidaykeeper.api.v1.Presentation.response.HolidayResponse;
+import com.holidaykeeper.api.v1.application.cache.HolidayCache;
+import com.holidaykeeper.api.v1.application.cache.HolidayCountCache;
+import com.holidaykeeper.api.v1.application.cache.HolidayDataVersion;
+import com.holidaykeeper.api.v1.application.calendar.HolidayCalendarIndex;
+import com.holidaykeeper.api.v1.application.event.HolidayChangedEvent;
+import com.holidaykeeper.api.v1.application.util.HolidayContentHash;
 import com.holidaykeeper.api.v1.application.util.JsonUtil;
 import com.holidaykeeper.api.v1.common.dto.Pagination;
+import com.holidaykeeper.api.v1.common.exception.InvalidRequestException;
 import com.holidaykeeper.api.v1.domain.Country;
 import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
 import com.holidaykeeper.api.v1.domain.HolidayType;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -42,9 +58,24 @@ public class HolidayServiceTest {
   @Autowired
   private CountryRepository countryRepository;
 
+  @Autowired
+  private HolidaySyncStateRepository holidaySyncStateRepository;
+
   @Autowired
   private EntityManager entityManager;
 
+  @Autowired
+  private HolidayCache holidayCache;
+
+  @Autowired
+  private HolidayCountCache holidayCountCache;
+
+  @Autowired
+  private HolidayCalendarIndex holidayCalendarIndex;
+
+  @Autowired
+  private HolidayDataVersion holidayDataVersion;
+
   @MockitoBean
   private ApiClient apiClient;
 
@@ -53,11 +84,20 @@ public class HolidayServiceTest {
 
   @BeforeEach
   void setUp() {
+    holidayCache.invalidateAll();
+    holidayCountCache.invalidateAll();
+    holidayCalendarIndex.invalidateAll();
     holidayRepository.deleteAllInBatch();
+    holidaySyncStateRepository.deleteAllInBatch();
     countryRepository.deleteAllInBatch();
 
     kr = countryRepository.save(Country.of("KR", "South Korea"));
     us = countryRepository.save(Country.of("US", "United States"));
+    holidaySyncStateRepository.bulkUpsert(List.of(
+        HolidaySyncState.of("KR", 2024, "a".repeat(64)),
+        HolidaySyncState.of("KR", 2025, "b".repeat(64)),
+        HolidaySyncState.of("US", 2023, "c".repeat(64)),
+        HolidaySyncState.of("US", 2025, "d".repeat(64))));
 
     holidayRepository.save(Holiday.builder()
         .country(kr)
@@ -148,6 +188,7 @@ public class HolidayServiceTest {
         Optional.empty(),
         Optional.empty(),
         Optional.empty(),
+        Optional.empty(),
         Optional.empty()
     );
 
@@ -170,6 +211,7 @@ public class HolidayServiceTest {
         Optional.empty(),
         Optional.empty(),
         Optional.empty(),
+        Optional.empty(),
         Optional.empty()
     );
 
@@ -190,6 +232,7 @@ public class HolidayServiceTest {
         Optional.empty(),
         Optional.empty(),
         Optional.empty(),
+        Optional.empty(),
         Optional.empty()
     );
     // then
@@ -209,6 +252,7 @@ public class HolidayServiceTest {
         Optional.empty(),
         Optional.empty(),
         Optional.empty(),
+        Optional.empty(),
         Optional.empty()
     );
     // then
@@ -229,6 +273,7 @@ public class HolidayServiceTest {
         Optional.of(sortType),
         Optional.of(sortOrder),
         Optional.empty(),
+        Optional.empty(),
         Optional.empty()
     );
 
@@ -250,7 +295,8 @@ public class HolidayServiceTest {
         Optional.empty(),
         Optional.empty(),
         Optional.of(page),
-        Optional.of(size)
+        Optional.of(size),
+        Optional.empty()
     );
 
     // then
@@ -278,7 +324,8 @@ public class HolidayServiceTest {
         Optional.of(sortType),
         Optional.of(sortOrder),
         Optional.of(page),
-        Optional.of(size)
+        Optional.of(size),
+        Optional.empty()
     );
 
     // then
@@ -291,6 +338,255 @@ public class HolidayServiceTest {
     assertThat(result.getContent()).allMatch(holiday -> holiday.type().contains(HolidayType.OPTIONAL));
   }
 
+  @Test
+  @DisplayName("year, countryCode 필터로 조회하면 두 번째 조회부터는 캐시에서 응답한다.")
+  void searchHolidayFromCache() {
+    // given
+    Optional<Integer> year = Optional.of(2025);
+    Optional<String> countryCode = Optional.of("KR");
+    long hitCount = holidayCache.stats().hitCount();
+
+    // when
+    Pagination<HolidayResponse> first = holidayService.searchHoliday(
+        year, countryCode, Optional.empty(), Optional.of("name"), Optional.of("ASC"),
+        Optional.empty(), Optional.empty(), Optional.empty());
+    Pagination<HolidayResponse> second = holidayService.searchHoliday(
+        year, countryCode, Optional.of("Public"), Optional.empty(), Optional.empty(),
+        Optional.of(0), Optional.of(1), Optional.empty());
+
+    // then
+    assertThat(holidayCache.stats().hitCount()).isEqualTo(hitCount + 1);
+    assertThat(first.getTotal()).isEqualTo(2);
+    assertThat(first.getContent()).isSortedAccordingTo(Comparator.comparing(HolidayResponse::name));
+    assertThat(second.getTotal()).isEqualTo(1);
+    assertThat(second.getContent()).extracting(HolidayResponse::name).containsExactly("New Year's Day");
+  }
+
+  @Test
+  @DisplayName("includeTotal=false이면 전체 개수 없이 다음 페이지 존재 여부만 조회한다.")
+  void searchHolidayWithoutTotal() {
+    // when
+    Pagination<HolidayResponse> first = holidayService.searchHoliday(
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+        Optional.of(0), Optional.of(4), Optional.of(false));
+    Pagination<HolidayResponse> last = holidayService.searchHoliday(
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+        Optional.of(1), Optional.of(4), Optional.of(false));
+
+    // then
+    assertThat(first.getTotal()).isNull();
+    assertThat(first.getContent()).hasSize(4);
+    assertThat(first.isHasNext()).isTrue();
+    assertThat(last.getContent()).hasSize(3);
+    assertThat(last.isHasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 필터 조합의 전체 개수는 캐시된 값을 사용한다.")
+  void searchHolidayWithCachedTotal() {
+    // given
+    long hitCount = holidayCountCache.stats().hitCount();
+
+    // when
+    Pagination<HolidayResponse> first = holidayService.searchHoliday(
+        Optional.empty(), Optional.of("US"), Optional.empty(), Optional.empty(), Optional.empty(),
+        Optional.of(0), Optional.of(2), Optional.empty());
+    Pagination<HolidayResponse> second = holidayService.searchHoliday(
+        Optional.empty(), Optional.of("US"), Optional.empty(), Optional.empty(), Optional.empty(),
+        Optional.of(1), Optional.of(2), Optional.empty());
+
+    // then
+    assertThat(first.getTotal()).isEqualTo(4);
+    assertThat(first.isHasNext()).isTrue();
+    assertThat(second.getTotal()).isEqualTo(4);
+    assertThat(second.isHasNext()).isFalse();
+    assertThat(holidayCountCache.stats().hitCount()).isEqualTo(hitCount + 1);
+  }
+
+  @Test
+  @DisplayName("커서 기반으로 전체 데이터를 중복 없이 순서대로 조회할 수 있다.")
+  void searchHolidayByCursor() {
+    // given
+    List<HolidayResponse> walked = new ArrayList<>();
+    Optional<String> cursor = Optional.empty();
+
+    // when
+    int pageCount = 0;
+    do {
+      Pagination<HolidayResponse> result = holidayService.searchHolidayByCursor(
+          Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), cursor, Optional.of(3));
+      walked.addAll(result.getContent());
+      assertThat(result.getTotal()).isNull();
+      cursor = Optional.ofNullable(result.getNextCursor());
+      pageCount++;
+    } while (cursor.isPresent());
+
+    // then
+    assertThat(pageCount).isEqualTo(3);
+    assertThat(walked).hasSize(7);
+    assertThat(walked).doesNotHaveDuplicates();
+    assertThat(walked).isSortedAccordingTo(Comparator.comparing(HolidayResponse::date).reversed());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  @DisplayName("커서 기반 조회의 페이지 크기가 1보다 작으면 InvalidRequestException이 발생한다.")
+  void searchHolidayByCursorInvalidSize(int size) {
+    // when & then
+    assertThatThrownBy(() -> holidayService.searchHolidayByCursor(
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(size)))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not-a-cursor", "bm90LWEtY3Vyc29y", "MjAyNS0wMS0wMXxub3QtYS11dWlk"})
+  @DisplayName("형식이 올바르지 않은 커서로 조회하면 InvalidRequestException이 발생한다.")
+  void searchHolidayByCursorMalformedCursor(String cursor) {
+    // when & then
+    assertThatThrownBy(() -> holidayService.searchHolidayByCursor(
+        Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(cursor), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  @DisplayName("저장되지 않은 국가 코드로 공휴일 여부를 확인하면 InvalidRequestException이 발생한다.")
+  void checkHolidayUnknownCountry() {
+    // when & then
+    assertThatThrownBy(() -> holidayService.checkHoliday(
+        "ZZ", LocalDate.of(2025, 1, 1), Optional.empty(), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("ZZ");
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터가 적재되지 않았거나 지원하지 않는 연도의 공휴일 여부를 확인하면 InvalidRequestException이 발생한다.")
+  void checkHolidayUnloadedYear() {
+    // when & then
+    assertThatThrownBy(() -> holidayService.checkHoliday(
+        "KR", LocalDate.of(2030, 1, 1), Optional.empty(), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("2030");
+    assertThatThrownBy(() -> holidayService.checkHoliday(
+        "KR", LocalDate.of(1800, 1, 1), Optional.empty(), Optional.empty()))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  @DisplayName("국가·날짜의 공휴일 및 영업일 여부를 확인할 수 있다.")
+  void checkHoliday() {
+    // when
+    HolidayCheckResponse newYear = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 1, 1), Optional.empty(), Optional.empty());
+    HolidayCheckResponse weekday = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 1, 2), Optional.empty(), Optional.empty());
+    HolidayCheckResponse saturday = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 1, 4), Optional.empty(), Optional.empty());
+    HolidayCheckResponse optionalAsPublic = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 5, 1), Optional.of("Public"), Optional.empty());
+
+    // then
+    assertThat(newYear.holiday()).isTrue();
+    assertThat(newYear.businessDay()).isFalse();
+    assertThat(weekday.holiday()).isFalse();
+    assertThat(weekday.businessDay()).isTrue();
+    assertThat(saturday.holiday()).isFalse();
+    assertThat(saturday.businessDay()).isFalse();
+    assertThat(optionalAsPublic.holiday()).isFalse();
+    assertThat(optionalAsPublic.businessDay()).isTrue();
+  }
+
+  @Test
+  @DisplayName("지역 코드를 지정하면 전국 공휴일과 해당 지역 공휴일만 공휴일로 판정한다.")
+  void checkHolidayByCounty() {
+    // given
+    holidayRepository.save(Holiday.builder()
+        .country(kr)
+        .date(LocalDate.of(2025, 3, 3))
+        .localName("지역 기념일")
+        .name("Regional Day")
+        .fixed(true)
+        .global(false)
+        .countiesJson("[\"KR-11\"]")
+        .launchYear(null)
+        .typesJson("[\"Public\"]")
+        .build());
+
+    // when
+    boolean anyRegion = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 3, 3), Optional.empty(), Optional.empty()).holiday();
+    boolean sameCounty = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 3, 3), Optional.empty(), Optional.of("KR-11")).holiday();
+    boolean otherCounty = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 3, 3), Optional.empty(), Optional.of("KR-26")).holiday();
+    boolean globalInOtherCounty = holidayService.checkHoliday(
+        "KR", LocalDate.of(2025, 1, 1), Optional.of("Public"), Optional.of("KR-26")).holiday();
+
+    // then
+    assertThat(anyRegion).isTrue();
+    assertThat(sameCounty).isTrue();
+    assertThat(otherCounty).isFalse();
+    assertThat(globalInOtherCounty).isTrue();
+  }
+
+  @Test
+  @DisplayName("여러 (국가, 날짜) 조합을 (국가, 연도) 단위로 묶어 한 번에 조회할 수 있다.")
+  void lookupHolidays() {
+    // given
+    List<LookupHolidayItem> items = List.of(
+        new LookupHolidayItem("KR", LocalDate.of(2025, 1, 1), Optional.empty()),
+        new LookupHolidayItem("US", LocalDate.of(2025, 7, 4), Optional.empty()),
+        new LookupHolidayItem("KR", LocalDate.of(2025, 1, 2), Optional.empty()),
+        new LookupHolidayItem("KR", LocalDate.of(2025, 5, 1), Optional.of("Public")),
+        new LookupHolidayItem("KR", LocalDate.of(2025, 5, 1), Optional.of("Optional"))
+    );
+    long missCount = holidayCache.stats().missCount();
+
+    // when
+    List<HolidayLookupResponse> result = holidayService.lookupHolidays(items);
+
+    // then
+    assertThat(holidayCache.stats().missCount()).isEqualTo(missCount + 2);
+    assertThat(result).extracting(HolidayLookupResponse::date)
+        .containsExactlyElementsOf(items.stream().map(LookupHolidayItem::date).toList());
+    assertThat(result).extracting(HolidayLookupResponse::holiday)
+        .containsExactly(true, true, false, false, true);
+    assertThat(result.get(0).holidays()).extracting(HolidayResponse::name).containsExactly("New Year's Day");
+  }
+
+  @Test
+  @DisplayName("일괄 조회 항목 목록이 없거나 국가 코드·날짜가 없는 항목이 있으면 InvalidRequestException이 발생한다.")
+  void lookupHolidaysInvalidItems() {
+    // given
+    List<LookupHolidayItem> missingDate = List.of(new LookupHolidayItem("KR", null, Optional.empty()));
+
+    // when & then
+    assertThatThrownBy(() -> holidayService.lookupHolidays(null))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThatThrownBy(() -> holidayService.lookupHolidays(missingDate))
+        .isInstanceOf(InvalidRequestException.class);
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터가 변경되면 해당 국가·연도를 포함하는 검색 범위의 ETag만 변경된다.")
+  void getSearchETag() {
+    // given
+    String unit = holidayService.getSearchETag(Optional.of(2025), Optional.of("KR"));
+    String country = holidayService.getSearchETag(Optional.empty(), Optional.of("KR"));
+    String all = holidayService.getSearchETag(Optional.empty(), Optional.empty());
+    String otherUnit = holidayService.getSearchETag(Optional.of(2024), Optional.of("KR"));
+    String otherCountry = holidayService.getSearchETag(Optional.empty(), Optional.of("US"));
+
+    // when
+    holidayDataVersion.onHolidayChanged(new HolidayChangedEvent("KR", 2025));
+
+    // then
+    assertThat(holidayService.getSearchETag(Optional.of(2025), Optional.of("KR"))).isNotEqualTo(unit);
+    assertThat(holidayService.getSearchETag(Optional.empty(), Optional.of("KR"))).isNotEqualTo(country);
+    assertThat(holidayService.getSearchETag(Optional.empty(), Optional.empty())).isNotEqualTo(all);
+    assertThat(holidayService.getSearchETag(Optional.of(2024), Optional.of("KR"))).isEqualTo(otherUnit);
+    assertThat(holidayService.getSearchETag(Optional.empty(), Optional.of("US"))).isEqualTo(otherCountry);
+  }
+
   @Test
   @DisplayName("공휴일 재동기화시, 외부 API에 새로운 공휴일이 존재한다면 DB에 저장한다.")
   void refreshHolidaysInsert() {
@@ -354,6 +650,7 @@ public class HolidayServiceTest {
     assertThat(updated.getGlobal()).isEqualTo(newGlobal);
     assertThat(updated.getLaunchYear()).isEqualTo(newLaunchYear);
     assertThat(updated.getTypesJson()).isEqualTo(JsonUtil.toJson(newHolidayTypes));
+    assertThat(updated.getTypesMask()).isEqualTo(HolidayType.OPTIONAL.mask());
   }
 
   @Test
@@ -379,6 +676,63 @@ public class HolidayServiceTest {
     assertThat(updatedHolidays).hasSize(1);  // 기존에 25년 KR의 공휴일은 2개(설날, 근로자의 날)였으나, 근로자의 날이 삭제되어 1개만 남음.
   }
 
+  @Test
+  @DisplayName("공휴일 재동기화시, API 응답 내용이 마지막 동기화와 같으면 DB 비교를 생략한다.")
+  void refreshHolidaysSkipWhenContentUnchanged() {
+    String countryCode = "KR";
+    int year = 2025;
+
+    // given
+    List<GetHolidayResponse> apiHolidays = List.of(
+        GetHolidayResponse.of(LocalDate.of(year, 10, 8), "추석", "Chuseok", countryCode, false, true, null, null, List.of("Public")),
+        GetHolidayResponse.of(LocalDate.of(year, 10, 9), "한글날", "Hangul Day", countryCode, false, true, null, null, List.of("Public"))
+    );
+    when(apiClient.getHolidays(anyInt(), anyString()))
+        .thenReturn(apiHolidays)
+        .thenReturn(apiHolidays.reversed());
+    holidayService.refreshHolidays(countryCode, year);
+
+    // 동기화 상태를 거치지 않고 DB 데이터를 직접 삭제
+    holidayRepository.bulkDelete(holidayRepository.findByCountryCodeAndYear(countryCode, year));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when : 순서만 다른 같은 응답
+    holidayService.refreshHolidays(countryCode, year);
+
+    // then : 비교를 생략하므로 삭제된 데이터가 복구되지 않는다.
+    assertThat(holidayRepository.findByCountryCodeAndYear(countryCode, year)).isEmpty();
+
+    // when : 삭제 API로 동기화 상태를 삭제 표시로 바꾼 뒤 재동기화
+    holidayService.deleteHolidays(countryCode, year);
+    holidayService.refreshHolidays(countryCode, year);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(holidayRepository.findByCountryCodeAndYear(countryCode, year))
+        .extracting(Holiday::getName)
+        .containsExactlyInAnyOrder("Chuseok", "Hangul Day");
+  }
+
+  @Test
+  @DisplayName("공휴일 재동기화시, 저장되지 않은 국가 코드의 공휴일은 저장 전에 실패한다.")
+  void refreshHolidaysUnknownCountry() {
+    String countryCode = "JP";
+    int year = 2025;
+
+    // given
+    List<GetHolidayResponse> apiHolidays = List.of(
+        GetHolidayResponse.of(LocalDate.of(year, 1, 1), "元日", "New Year's Day", countryCode, true, true, null, null, List.of("Public"))
+    );
+    when(apiClient.getHolidays(anyInt(), anyString())).thenReturn(apiHolidays);
+
+    // when & then
+    assertThatThrownBy(() -> holidayService.refreshHolidays(countryCode, year))
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(countryCode);
+  }
+
   @Test
   @DisplayName("특정 연도·국가의 공휴일을 전체 삭제할 수 있다.")
   void deleteHolidays() {
@@ -392,9 +746,10 @@ public class HolidayServiceTest {
     entityManager.flush();
     entityManager.clear();
 
-    // then
+    // then : 재시작 시 다시 적재되지 않도록 동기화 상태는 삭제 표시로 남는다.
     List<Holiday> updatedHolidays = holidayRepository.findByCountryCodeAndYear(countryCode, year);
     assertThat(updatedHolidays).hasSize(0);
+    assertThat(holidaySyncStateRepository.findContentHash(countryCode, year)).contains(HolidayContentHash.DELETED);
   }
 
 }
@@ -0,0 +1,233 @@
+package com.holidaykeeper.api.v1.application.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.country.CountryRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshot;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshotStore;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.application.service.HolidayService;
+import com.holidaykeeper.api.v1.application.util.HolidayContentHash;
+import com.holidaykeeper.api.v1.domain.Country;
+import com.holidaykeeper.api.v1.domain.Holiday;
+import com.holidaykeeper.api.v1.domain.HolidaySyncState;
+import jakarta.persistence.EntityManager;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidaySnapshotService 테스트")
+public class HolidaySnapshotServiceTest {
+
+  @TempDir
+  Path snapshotDir;
+
+  @Mock
+  private CountryRepository countryRepository;
+
+  @Mock
+  private HolidayRepository holidayRepository;
+
+  @Mock
+  private HolidaySyncStateRepository holidaySyncStateRepository;
+
+  private HolidaySnapshotStore snapshotStore;
+  private HolidaySnapshotService snapshotService;
+
+  @BeforeEach
+  void setUp() {
+    snapshotStore = new HolidaySnapshotStore(snapshotDir.resolve("holidays.snap").toString(), true);
+    snapshotService = new HolidaySnapshotService(snapshotStore, countryRepository, holidayRepository,
+        holidaySyncStateRepository, new HolidayLoadState(), Runnable::run, 24);
+  }
+
+  @Test
+  @DisplayName("동기화된 지 최대 보관 기간이 지난 국가·연도는 스냅샷에서 제외한다.")
+  void readFreshDropsStaleUnits() {
+    // given
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    HolidaySnapshot.Unit fresh = new HolidaySnapshot.Unit("KR", 2025, "a".repeat(64), now.minus(1, ChronoUnit.HOURS), List.of());
+    HolidaySnapshot.Unit stale = new HolidaySnapshot.Unit("US", 2025, "b".repeat(64), now.minus(25, ChronoUnit.HOURS), List.of());
+    snapshotStore.write(new HolidaySnapshot(now, List.of(new GetCountryResponse("KR", "South Korea")), List.of(fresh, stale)));
+
+    // when & then
+    assertThat(snapshotService.readFresh())
+        .hasValueSatisfying(snapshot -> assertThat(snapshot.units()).containsExactly(fresh));
+  }
+
+  @Test
+  @DisplayName("관리자가 삭제한 국가·연도의 삭제 표시는 최대 보관 기간이 지나도 가져온다.")
+  void readFreshKeepsTombstones() {
+    // given
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    HolidaySnapshot.Unit tombstone = new HolidaySnapshot.Unit("KR", 2025, HolidayContentHash.DELETED, now.minus(25, ChronoUnit.HOURS), List.of());
+    snapshotStore.write(new HolidaySnapshot(now, List.of(new GetCountryResponse("KR", "South Korea")), List.of(tombstone)));
+
+    // when & then
+    assertThat(snapshotService.readFresh())
+        .hasValueSatisfying(snapshot -> assertThat(snapshot.units()).containsExactly(tombstone));
+  }
+
+  @Test
+  @DisplayName("모든 국가·연도가 오래되었으면 스냅샷이 방금 저장되었더라도 사용하지 않는다.")
+  void readFreshIgnoresSnapshotCreatedAt() {
+    // given
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    HolidaySnapshot.Unit stale = new HolidaySnapshot.Unit("KR", 2025, "a".repeat(64), now.minus(25, ChronoUnit.HOURS), List.of());
+    snapshotStore.write(new HolidaySnapshot(now, List.of(new GetCountryResponse("KR", "South Korea")), List.of(stale)));
+
+    // when & then
+    assertThat(snapshotService.readFresh()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("스냅샷을 다시 저장해도 국가·연도의 동기화 시각은 바뀌지 않는다.")
+  void exportKeepsSyncedAt() {
+    // given
+    LocalDateTime syncedAt = LocalDateTime.now().minusHours(25).truncatedTo(ChronoUnit.MILLIS);
+    when(countryRepository.findAll()).thenReturn(List.of(Country.of("KR", "South Korea")));
+    when(holidayRepository.findAllRows()).thenReturn(List.of());
+    when(holidaySyncStateRepository.findAll()).thenReturn(List.of(HolidaySyncState.of("KR", 2025, "a".repeat(64), syncedAt)));
+
+    // when
+    snapshotService.export();
+
+    // then
+    assertThat(snapshotStore.read()).hasValueSatisfying(snapshot -> assertThat(snapshot.units())
+        .extracting(HolidaySnapshot.Unit::syncedAt)
+        .containsExactly(syncedAt.atZone(ZoneId.systemDefault()).toInstant()));
+    assertThat(snapshotService.readFresh()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("대기 중인 내보내기가 있으면 요청이 합쳐지고, 내보내기가 시작된 뒤의 요청은 다시 내보낸다.")
+  void requestExportCoalesces() {
+    // given
+    List<Runnable> queued = new ArrayList<>();
+    snapshotService = new HolidaySnapshotService(snapshotStore, countryRepository, holidayRepository,
+        holidaySyncStateRepository, new HolidayLoadState(), queued::add, 24);
+    when(countryRepository.findAll()).thenReturn(List.of());
+    when(holidayRepository.findAllRows()).thenReturn(List.of());
+    when(holidaySyncStateRepository.findAll()).thenReturn(List.of());
+
+    // when
+    snapshotService.requestExport();
+    snapshotService.requestExport();
+
+    // then
+    assertThat(queued).hasSize(1);
+
+    // when
+    queued.removeFirst().run();
+    snapshotService.requestExport();
+
+    // then
+    assertThat(queued).hasSize(1);
+  }
+
+  @Nested
+  @Transactional
+  @SpringBootTest
+  @DisplayName("삭제 후 내보내기·가져오기 통합 테스트")
+  class DeleteExportImport {
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private HolidaySnapshotService holidaySnapshotService;
+
+    @Autowired
+    private HolidaySnapshotStore holidaySnapshotStore;
+
+    @Autowired
+    private CountryRepository countries;
+
+    @Autowired
+    private HolidayRepository holidays;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStates;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ApiClient apiClient;
+
+    @Test
+    @DisplayName("삭제된 공휴일은 스냅샷에 저장되지 않고, 관리자가 삭제한 국가·연도는 가져온 뒤에도 삭제 표시가 유지된다.")
+    void deletedUnitStaysDeleted() {
+      // given
+      holidays.deleteAllInBatch();
+      syncStates.deleteAllInBatch();
+      countries.deleteAllInBatch();
+      Country kr = countries.save(Country.of("KR", "South Korea"));
+      holidays.save(holiday(kr, LocalDate.of(2025, 1, 1), "New Year's Day"));
+      holidays.save(holiday(kr, LocalDate.of(2025, 5, 5), "Children's Day"));
+      holidays.save(holiday(kr, LocalDate.of(2024, 1, 1), "New Year's Day"));
+      Holiday removedUpstream = holidays.save(holiday(kr, LocalDate.of(2024, 12, 31), "Removed Day"));
+      syncStates.bulkUpsert(List.of(HolidaySyncState.of("KR", 2025, "a".repeat(64)), HolidaySyncState.of("KR", 2024, "b".repeat(64))));
+      entityManager.flush();
+
+      // when : 관리자 삭제와 재동기화로 인한 삭제 후 내보내고, 재시작한 것처럼 공휴일과 동기화 상태를 비운 뒤 가져온다.
+      holidayService.deleteHolidays("KR", 2025);
+      holidays.bulkDelete(List.of(removedUpstream));
+      holidaySnapshotService.export();
+      holidays.deleteAllInBatch();
+      syncStates.deleteAllInBatch();
+      holidaySnapshotService.importSnapshot(holidaySnapshotService.readFresh().orElseThrow());
+      entityManager.clear();
+
+      // then
+      assertThat(holidaySnapshotStore.read()).hasValueSatisfying(snapshot -> assertThat(snapshot.units())
+          .filteredOn(unit -> unit.year() == 2025)
+          .singleElement()
+          .satisfies(unit -> {
+            assertThat(unit.contentHash()).isEqualTo(HolidayContentHash.DELETED);
+            assertThat(unit.rows()).isEmpty();
+          }));
+      assertThat(holidays.findByCountryCodeAndYear("KR", 2025)).isEmpty();
+      assertThat(holidays.findByCountryCodeAndYear("KR", 2024)).extracting(Holiday::getName).containsExactly("New Year's Day");
+      assertThat(syncStates.findSyncStates(2025, 2025))
+          .extracting(HolidaySyncState::getContentHash)
+          .containsExactly(HolidayContentHash.DELETED);
+    }
+
+    private Holiday holiday(Country country, LocalDate date, String name) {
+      return Holiday.builder()
+          .country(country)
+          .date(date)
+          .localName(name)
+          .name(name)
+          .fixed(true)
+          .global(true)
+          .launchYear(null)
+          .typesJson("[\"Public\"]")
+          .build();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.holidaykeeper.api.v1.application.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.ApiClient;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.GetCountryResponse;
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshot;
+import com.holidaykeeper.api.v1.Infrastructure.snapshot.HolidaySnapshotStore;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadPhase;
+import com.holidaykeeper.api.v1.application.load.HolidayLoadState;
+import com.holidaykeeper.api.v1.domain.HolidayType;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@DisplayName("공휴일 스냅샷 웜 스타트 통합 테스트")
+public class HolidaySnapshotWarmStartTest {
+
+  @TempDir
+  static Path snapshotDir;
+
+  @Autowired
+  private HolidayLoadState loadState;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean
+  private ApiClient apiClient;
+
+  @DynamicPropertySource
+  static void snapshotProperties(DynamicPropertyRegistry registry) {
+    registry.add("app.snapshot.path", () -> snapshotFile().toString());
+  }
+
+  // 애플리케이션이 시작되기 전에 초기 적재 범위(2020년 ~ 2025년)를 모두 담은 스냅샷을 저장합니다.
+  @BeforeAll
+  static void writeSnapshot() {
+    List<HolidaySnapshot.Unit> units = IntStream.rangeClosed(2020, 2025)
+        .mapToObj(year -> new HolidaySnapshot.Unit("KR", year, String.valueOf(year).repeat(16), Instant.now(), List.of(
+            new HolidayRow(LocalDate.of(year, 1, 1), "새해", "New Year's Day", "KR",
+                true, true, "null", null, "[\"Public\"]", HolidayType.PUBLIC.mask()))))
+        .toList();
+    new HolidaySnapshotStore(snapshotFile().toString(), true)
+        .write(new HolidaySnapshot(Instant.now(), List.of(new GetCountryResponse("KR", "South Korea")), units));
+  }
+
+  private static Path snapshotFile() {
+    return snapshotDir.resolve("holidays.snap");
+  }
+
+  @Test
+  @DisplayName("사용할 수 있는 스냅샷이 있으면 외부 API를 호출하지 않고 스냅샷에서 초기 적재를 마친다.")
+  void warmStartFromSnapshot() throws InterruptedException {
+    // when
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (loadState.getPhase() != HolidayLoadPhase.COMPLETED && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+
+    // then
+    assertThat(loadState.getPhase()).isEqualTo(HolidayLoadPhase.COMPLETED);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday", Integer.class)).isEqualTo(6);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday_sync_state", Integer.class)).isEqualTo(6);
+    verify(apiClient, never()).getCountries();
+    verify(apiClient, never()).getHolidays(anyInt(), anyString());
+    verify(apiClient, never()).getHolidayRows(anyInt(), anyString());
+  }
+}
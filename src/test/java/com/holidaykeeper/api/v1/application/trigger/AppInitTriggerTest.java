@@ -1,6 +1,6 @@
 package com.holidaykeeper.api.v1.application.trigger;
 
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.holidaykeeper.api.v1.application.service.AppInitService;
@@ -30,7 +30,8 @@ public class AppInitTriggerTest {
     publisher.publishEvent(new ApplicationReadyEvent(new SpringApplication(), null, null, null));
 
     // then
-    verify(appInitService, atLeastOnce()).saveRecentHolidays();
+    // 적재는 백그라운드에서 실행됩니다.
+    verify(appInitService, timeout(5000).atLeastOnce()).saveRecentHolidays();
   }
 
 }
@@ -0,0 +1,95 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.holidaykeeper.api.v1.common.exception.NonRetryableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@DisplayName("Backoff 단위 테스트")
+public class BackoffTest {
+
+  @Test
+  @DisplayName("대기 시간은 0부터 min(상한, 기준 * 2^(시도 - 1)) 사이의 무작위 값이다.")
+  void jitterBounds() {
+    // given
+    RuntimeException e = new RuntimeException("Connection refused");
+
+    for (int i = 0; i < 1_000; i++) {
+      // when
+      long third = Backoff.delayMillis(3, e, 100, 1_000);
+      long tenth = Backoff.delayMillis(10, e, 100, 1_000);
+
+      // then
+      assertThat(third).isBetween(0L, 400L);
+      assertThat(tenth).isBetween(0L, 1_000L);
+    }
+  }
+
+  @Test
+  @DisplayName("Retry-After(초)가 있으면 그보다 먼저 재시도하지 않는다.")
+  void retryAfter() {
+    // given
+    HttpClientErrorException e = tooManyRequests("2");
+
+    // when
+    long delay = Backoff.delayMillis(1, e, 100, 10_000);
+
+    // then
+    assertThat(delay).isEqualTo(2_000);
+  }
+
+  @Test
+  @DisplayName("Retry-After가 대기 시간 상한보다 길면 상한까지만 대기한다.")
+  void clampRetryAfter() {
+    // given
+    HttpClientErrorException e = tooManyRequests("3600");
+
+    // when
+    long delay = Backoff.delayMillis(1, e, 100, 5_000);
+
+    // then
+    assertThat(delay).isEqualTo(5_000);
+  }
+
+  @Test
+  @DisplayName("숫자가 아닌 Retry-After(HTTP-date)는 무시하고 지수 백오프 간격을 사용한다.")
+  void ignoreHttpDateRetryAfter() {
+    // given
+    HttpClientErrorException e = tooManyRequests("Wed, 21 Oct 2015 07:28:00 GMT");
+
+    // when
+    long delay = Backoff.delayMillis(1, e, 100, 5_000);
+
+    // then
+    assertThat(delay).isBetween(0L, 100L);
+  }
+
+  @Test
+  @DisplayName("429, 5xx 응답과 연결 실패는 재시도하고, 그 외 4xx 응답은 재시도하지 않는다.")
+  void isRetryable() {
+    assertThat(Backoff.isRetryable(tooManyRequests("1"))).isTrue();
+    assertThat(Backoff.isRetryable(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null))).isTrue();
+    assertThat(Backoff.isRetryable(new RuntimeException("Connection refused"))).isTrue();
+    assertThat(Backoff.isRetryable(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))).isFalse();
+  }
+
+  private HttpClientErrorException tooManyRequests(String retryAfter) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+    return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+  }
+
+  @Test
+  @DisplayName("NonRetryableException과 429를 제외한 4xx 응답은 재시도하지 않는다.")
+  void nonRetryable() {
+    assertThat(Backoff.isRetryable(new NonRetryableException("오프라인 캐시 미스"))).isFalse();
+    assertThat(Backoff.isRetryable(new HttpClientErrorException(HttpStatus.NOT_FOUND))).isFalse();
+    assertThat(Backoff.isRetryable(tooManyRequests("1"))).isTrue();
+    assertThat(Backoff.isRetryable(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))).isTrue();
+  }
+}
@@ -0,0 +1,84 @@
+package com.holidaykeeper.api.v1.application.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrencyLimitedExecutor 단위 테스트")
+public class ConcurrencyLimitedExecutorTest {
+
+  @Test
+  @DisplayName("동시에 실행되는 작업 수는 최대 동시 실행 수를 넘지 않으며, 종료 시 모든 작업이 완료된다.")
+  void limitConcurrency() {
+    // given
+    int maxConcurrency = 3;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    CountDownLatch submitted = new CountDownLatch(1);
+
+    // when
+    try (ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(maxConcurrency, "test-")) {
+      for (int i = 0; i < 30; i++) {
+        executor.execute(() -> {
+          int current = running.incrementAndGet();
+          maxRunning.accumulateAndGet(current, Math::max);
+          try {
+            submitted.await();
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+          completed.incrementAndGet();
+        });
+      }
+      submitted.countDown();
+    }
+
+    // then
+    assertThat(maxRunning.get()).isEqualTo(maxConcurrency);
+    assertThat(completed.get()).isEqualTo(30);
+  }
+
+  @Test
+  @DisplayName("runAsync로 제출한 작업이 실행 전에 취소되면 CompletableFuture는 예외로 완료된다.")
+  void completeCancelledTaskExceptionally() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> waiting;
+
+    try (ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(1, "test-")) {
+      // 인터럽트되어도 허용치를 계속 점유하도록, 해제 신호가 올 때까지 대기합니다.
+      executor.runAsync(() -> {
+        started.countDown();
+        boolean released = false;
+        while (!released) {
+          try {
+            released = release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException ignored) {
+            // 해제 신호를 계속 기다립니다.
+          }
+        }
+      });
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      waiting = executor.runAsync(() -> { });
+
+      // when
+      executor.shutdownNow();
+      release.countDown();
+    }
+
+    // then
+    assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    assertThat(waiting).isCompletedExceptionally();
+  }
+}
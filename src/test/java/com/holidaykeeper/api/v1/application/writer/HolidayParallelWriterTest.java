@@ -0,0 +1,98 @@
+package com.holidaykeeper.api.v1.application.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.holidaykeeper.api.v1.Infrastructure.external.client.response.HolidayRow;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.holiday.HolidayRepository;
+import com.holidaykeeper.api.v1.Infrastructure.respoitory.syncstate.HolidaySyncStateRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("HolidayParallelWriter 단위 테스트")
+public class HolidayParallelWriterTest {
+
+  private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+  private final HolidaySyncStateRepository holidaySyncStateRepository = mock(HolidaySyncStateRepository.class);
+  private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+  @Test
+  @DisplayName("같은 국가는 항상 같은 작업자가 저장하며, 모든 단위의 저장 결과를 요약한다.")
+  void partitionByCountry() {
+    // given
+    HolidayParallelWriter writer = new HolidayParallelWriter(
+        holidayRepository, holidaySyncStateRepository, transactionManager, 3, 8);
+    Map<String, Set<String>> threadsByCountry = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      List<HolidayRow> rows = invocation.getArgument(0);
+      threadsByCountry.computeIfAbsent(rows.get(0).countryCode(), key -> ConcurrentHashMap.newKeySet())
+          .add(Thread.currentThread().getName());
+      return null;
+    }).when(holidayRepository).bulkInsertRows(anyList());
+
+    List<HolidayWriteUnit> written = new CopyOnWriteArrayList<>();
+
+    // when
+    BulkWriteReport report;
+    try (HolidayParallelWriter.WriteSession session = writer.open(written::add)) {
+      for (String countryCode : List.of("KR", "US", "JP", "DE")) {
+        for (int year = 2020; year <= 2025; year++) {
+          session.submit(unit(countryCode, year));
+        }
+      }
+      report = session.finish();
+    }
+
+    // then
+    assertThat(writer.isEnabled()).isTrue();
+    assertThat(report.units()).isEqualTo(24);
+    assertThat(report.rows()).isEqualTo(48);
+    assertThat(written).hasSize(24);
+    assertThat(threadsByCountry).hasSize(4)
+        .allSatisfy((countryCode, threads) -> assertThat(threads).hasSize(1));
+    verify(holidaySyncStateRepository, times(24)).bulkUpsert(anyList());
+  }
+
+  @Test
+  @DisplayName("한 단위라도 저장에 실패하면 모든 작업이 끝난 뒤 처음 발생한 예외를 던진다.")
+  void failFast() {
+    // given
+    HolidayParallelWriter writer = new HolidayParallelWriter(
+        holidayRepository, holidaySyncStateRepository, transactionManager, 2, 4);
+    doAnswer(invocation -> {
+      throw new IllegalStateException("저장 실패");
+    }).when(holidayRepository).bulkInsertRows(anyList());
+
+    // when & then
+    try (HolidayParallelWriter.WriteSession session = writer.open(unit -> { })) {
+      assertThatThrownBy(() -> {
+        session.submit(unit("KR", 2025));
+        session.finish();
+      }).isInstanceOf(IllegalStateException.class)
+          .hasMessage("저장 실패");
+    }
+  }
+
+  private HolidayWriteUnit unit(String countryCode, int year) {
+    List<HolidayRow> rows = List.of(
+        row(countryCode, LocalDate.of(year, 1, 1)),
+        row(countryCode, LocalDate.of(year, 12, 25)));
+    return new HolidayWriteUnit(countryCode, year, rows, "hash");
+  }
+
+  private HolidayRow row(String countryCode, LocalDate date) {
+    return new HolidayRow(date, "공휴일", "Holiday", countryCode, true, true, "null", null, "[\"Public\"]", 1);
+  }
+}
@@ -0,0 +1,121 @@
+package com.holidaykeeper.api.v1.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LocalCache 단위 테스트")
+public class LocalCacheTest {
+
+  @Test
+  @DisplayName("캐시된 값은 로더를 다시 호출하지 않고 반환하며, 적중/미스 횟수를 기록한다.")
+  void getCachedValue() {
+    // given
+    LocalCache<String, Integer> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // when
+    cache.get("KR", key -> loadCount.incrementAndGet());
+    Integer value = cache.get("KR", key -> loadCount.incrementAndGet());
+
+    // then
+    assertThat(value).isEqualTo(1);
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("최대 크기를 초과하면 가장 오래 사용되지 않은 항목을 제거한다.")
+  void evictLeastRecentlyUsed() {
+    // given
+    LocalCache<String, String> cache = new LocalCache<>(2, Duration.ofMinutes(1));
+    cache.put("KR", "South Korea");
+    cache.put("US", "United States");
+    cache.getIfPresent("KR");
+
+    // when
+    cache.put("JP", "Japan");
+
+    // then
+    assertThat(cache.getIfPresent("US")).isNull();
+    assertThat(cache.getIfPresent("KR")).isEqualTo("South Korea");
+    assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    assertThat(cache.stats().size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 항목은 만료되어 다시 적재한다.")
+  void expireAfterTtl() {
+    // given
+    LocalCache<String, Integer> cache = new LocalCache<>(10, Duration.ZERO);
+    AtomicInteger loadCount = new AtomicInteger();
+    cache.get("KR", key -> loadCount.incrementAndGet());
+
+    // when
+    Integer value = cache.get("KR", key -> loadCount.incrementAndGet());
+
+    // then
+    assertThat(value).isEqualTo(2);
+    assertThat(cache.stats().evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("적재 도중 무효화가 발생하면 적재한 값을 캐시에 저장하지 않는다.")
+  void discardValueLoadedDuringInvalidation() {
+    // given
+    LocalCache<String, Integer> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+    // when
+    cache.get("KR", key -> {
+      cache.invalidate("KR");
+      return 1;
+    });
+
+    // then
+    assertThat(cache.getIfPresent("KR")).isNull();
+  }
+
+  @Test
+  @DisplayName("적재 도중 다른 키가 무효화되어도 적재한 값은 캐시에 저장한다.")
+  void keepValueWhenOtherKeyInvalidated() {
+    // given
+    LocalCache<String, Integer> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+    cache.put("US", 0);
+
+    // when
+    cache.get("KR", key -> {
+      cache.invalidate("US");
+      cache.invalidateIf("JP"::equals);
+      return 1;
+    });
+
+    // then
+    assertThat(cache.getIfPresent("KR")).isEqualTo(1);
+    assertThat(cache.getIfPresent("US")).isNull();
+  }
+
+  @Test
+  @DisplayName("적재 도중 조건에 맞는 키가 무효화되거나 전체 무효화되면 적재한 값을 캐시에 저장하지 않는다.")
+  void discardValueLoadedDuringMatchingInvalidation() {
+    // given
+    LocalCache<String, Integer> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+    // when
+    cache.get("KR", key -> {
+      cache.invalidateIf(k -> k.startsWith("K"));
+      return 1;
+    });
+    cache.get("US", key -> {
+      cache.invalidateAll();
+      return 2;
+    });
+
+    // then
+    assertThat(cache.getIfPresent("KR")).isNull();
+    assertThat(cache.getIfPresent("US")).isNull();
+  }
+}
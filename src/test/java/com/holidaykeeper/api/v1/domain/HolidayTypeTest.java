@@ -0,0 +1,31 @@
+package com.holidaykeeper.api.v1.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HolidayType 단위 테스트")
+public class HolidayTypeTest {
+
+  @Test
+  @DisplayName("저장된 비트마스크와 호환되도록 타입별 비트는 고정된 값을 유지한다.")
+  void masksAreStable() {
+    // when & then
+    assertThat(Arrays.stream(HolidayType.values()).map(HolidayType::mask).toList())
+        .containsExactly(1, 2, 4, 8, 16, 32);
+  }
+
+  @Test
+  @DisplayName("타입 문자열 목록을 비트마스크로 바꾸고 다시 타입 목록으로 되돌릴 수 있다.")
+  void maskRoundTrip() {
+    // given
+    int mask = HolidayType.toMask(List.of("Observance", "Public", "Unknown"));
+
+    // when & then
+    assertThat(mask).isEqualTo(HolidayType.PUBLIC.mask() | HolidayType.OBSERVANCE.mask());
+    assertThat(HolidayType.fromMask(mask)).containsExactly(HolidayType.PUBLIC, HolidayType.OBSERVANCE);
+  }
+}
@@ -0,0 +1,67 @@
+package com.holidaykeeper.api.v1.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7 단위 테스트")
+public class UuidV7Test {
+
+  @Test
+  @DisplayName("버전 7, RFC 변형의 UUID를 생성하며 상위 48비트는 생성 시각(밀리초)이다.")
+  void versionAndTimestamp() {
+    // given
+    long before = System.currentTimeMillis();
+
+    // when
+    UUID uuid = UuidV7.generate();
+
+    // then : 다른 테스트가 대량으로 생성한 뒤에도 앞당긴 타임스탬프는 허용 범위를 넘지 않는다.
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16)
+        .isBetween(before, System.currentTimeMillis() + UuidV7.MAX_DRIFT_MILLIS);
+  }
+
+  @Test
+  @DisplayName("같은 밀리초 안에서 연속으로 생성해도 생성 순서대로 정렬된다.")
+  void monotonic() {
+    // given
+    UUID previous = UuidV7.generate();
+
+    for (int i = 0; i < 100_000; i++) {
+      // when
+      UUID current = UuidV7.generate();
+
+      // then : 바이트 순서(부호 없는 비교) 기준으로 항상 증가
+      assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+          .isPositive();
+      previous = current;
+    }
+  }
+
+  @Test
+  @DisplayName("한 밀리초에 순번을 모두 쓰면 시계가 따라잡을 때까지 대기하여 타임스탬프가 허용 범위보다 앞서지 않는다.")
+  void boundsClockDrift() {
+    // given : 5만 번 읽을 때마다 1밀리초씩 흐르는 시계
+    AtomicLong reads = new AtomicLong();
+    AtomicLong now = new AtomicLong(1_000);
+    UuidV7 generator = new UuidV7(() -> reads.incrementAndGet() % 50_000 == 0 ? now.incrementAndGet() : now.get());
+    UUID previous = generator.next();
+
+    // when : 밀리초당 순번(4096개)의 여러 배를 생성
+    for (int i = 0; i < 20_000; i++) {
+      UUID current = generator.next();
+
+      // then : 순서를 유지하면서 타임스탬프는 현재 시각보다 최대 1밀리초만 앞선다.
+      assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+          .isPositive();
+      assertThat(current.getMostSignificantBits() >>> 16).isLessThanOrEqualTo(now.get() + UuidV7.MAX_DRIFT_MILLIS);
+      previous = current;
+    }
+    assertThat(now.get()).isGreaterThan(1_001);
+  }
+}